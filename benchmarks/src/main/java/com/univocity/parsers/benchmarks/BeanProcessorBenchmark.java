@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.benchmarks;
+
+import com.univocity.parsers.common.processor.*;
+import com.univocity.parsers.csv.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Measures the throughput of parsing the {@link DataShape#NUMERIC} dataset into instances of {@link NumericRecord}
+ * with a {@link BeanListProcessor}, compared against parsing the same input into plain rows.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BeanProcessorBenchmark {
+
+	@Param({"10000"})
+	public int rows;
+
+	private String csv;
+
+	@Setup
+	public void setup() {
+		CsvWriterSettings settings = new CsvWriterSettings();
+		settings.setHeaders(DataShape.NUMERIC.headers());
+		StringWriter out = new StringWriter();
+		CsvWriter writer = new CsvWriter(out, settings);
+		writer.writeHeaders();
+		writer.writeStringRowsAndClose(DataShape.NUMERIC.rows(rows, false));
+		csv = out.toString();
+	}
+
+	private <T extends RowProcessor> T parse(T processor) {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.setHeaderExtractionEnabled(true);
+		settings.setRowProcessor(processor);
+		new CsvParser(settings).parse(new StringReader(csv));
+		return processor;
+	}
+
+	@Benchmark
+	public List<NumericRecord> beanListProcessor() {
+		return parse(new BeanListProcessor<NumericRecord>(NumericRecord.class)).getBeans();
+	}
+
+	@Benchmark
+	public List<String[]> rowListProcessor() {
+		return parse(new RowListProcessor()).getRows();
+	}
+}
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.benchmarks;
+
+import com.univocity.parsers.conversions.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Measures the throughput of the main {@link Conversions} over the values of each column of the {@link DataShape#NUMERIC} dataset.
+ * Each benchmark converts every value of a column once.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ConversionBenchmark {
+
+	@Param({"10000"})
+	public int rows;
+
+	private String[] longs;
+	private String[] integers;
+	private String[] doubles;
+	private String[] decimals;
+	private String[] floats;
+	private String[] dates;
+	private String[] booleans;
+	private String[] text;
+
+	private final LongConversion toLong = Conversions.toLong();
+	private final IntegerConversion toInteger = Conversions.toInteger();
+	private final DoubleConversion toDouble = Conversions.toDouble();
+	private final BigDecimalConversion toBigDecimal = Conversions.toBigDecimal();
+	private final FloatConversion toFloat = Conversions.toFloat();
+	private final DateConversion toDate = Conversions.toDate(NumericRecord.DATE_FORMAT);
+	private final BooleanConversion toBoolean = Conversions.toBoolean("Y", "N");
+	private final UpperCaseConversion toUpperCase = Conversions.toUpperCase();
+	private final TrimConversion trim = Conversions.trim();
+
+	@Setup
+	public void setup() {
+		List<String[]> data = DataShape.NUMERIC.rows(rows, false);
+		longs = column(data, 0);
+		integers = column(data, 1);
+		doubles = column(data, 2);
+		decimals = column(data, 3);
+		floats = column(data, 4);
+		dates = column(data, 5);
+		booleans = column(data, 6);
+		text = column(data, 7);
+	}
+
+	private static String[] column(List<String[]> data, int column) {
+		String[] out = new String[data.size()];
+		for (int i = 0; i < out.length; i++) {
+			out[i] = data.get(i)[column];
+		}
+		return out;
+	}
+
+	private static void convert(Conversion<String, ?> conversion, String[] values, Blackhole blackhole) {
+		for (int i = 0; i < values.length; i++) {
+			blackhole.consume(conversion.execute(values[i]));
+		}
+	}
+
+	@Benchmark
+	public void toLong(Blackhole blackhole) {
+		convert(toLong, longs, blackhole);
+	}
+
+	@Benchmark
+	public void toInteger(Blackhole blackhole) {
+		convert(toInteger, integers, blackhole);
+	}
+
+	@Benchmark
+	public void toDouble(Blackhole blackhole) {
+		convert(toDouble, doubles, blackhole);
+	}
+
+	@Benchmark
+	public void toBigDecimal(Blackhole blackhole) {
+		convert(toBigDecimal, decimals, blackhole);
+	}
+
+	@Benchmark
+	public void toFloat(Blackhole blackhole) {
+		convert(toFloat, floats, blackhole);
+	}
+
+	@Benchmark
+	public void toDate(Blackhole blackhole) {
+		convert(toDate, dates, blackhole);
+	}
+
+	@Benchmark
+	public void toBoolean(Blackhole blackhole) {
+		convert(toBoolean, booleans, blackhole);
+	}
+
+	@Benchmark
+	public void toUpperCase(Blackhole blackhole) {
+		convert(toUpperCase, text, blackhole);
+	}
+
+	@Benchmark
+	public void trim(Blackhole blackhole) {
+		convert(trim, text, blackhole);
+	}
+}
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.benchmarks;
+
+import java.util.*;
+
+/**
+ * The shapes of the datasets used in benchmarks. Rows are generated with a fixed seed, so every run processes the same data.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ */
+public enum DataShape {
+
+	/**
+	 * A few short text values per row, none of which require quoting.
+	 */
+	NARROW_TEXT(4) {
+		@Override
+		String value(Random random, int column, boolean lineBreaks) {
+			return word(random, 3 + random.nextInt(8));
+		}
+	},
+
+	/**
+	 * Many short text values per row, none of which require quoting.
+	 */
+	WIDE_TEXT(64) {
+		@Override
+		String value(Random random, int column, boolean lineBreaks) {
+			return word(random, 1 + random.nextInt(10));
+		}
+	},
+
+	/**
+	 * Longer text values with delimiters, quotes, tabs and (optionally) line breaks, which must be quoted or escaped.
+	 */
+	QUOTED(8) {
+		@Override
+		String value(Random random, int column, boolean lineBreaks) {
+			StringBuilder out = new StringBuilder();
+			out.append(word(random, 2 + random.nextInt(10)));
+			switch (random.nextInt(5)) {
+				case 0:
+					out.append(", ");
+					break;
+				case 1:
+					out.append(" \"");
+					break;
+				case 2:
+					out.append('\t');
+					break;
+				case 3:
+					out.append(lineBreaks ? '\n' : ' ');
+					break;
+				default:
+					out.append(' ');
+			}
+			out.append(word(random, 2 + random.nextInt(20)));
+			return out.toString();
+		}
+	},
+
+	/**
+	 * Integers, decimals, dates and booleans, as in {@link NumericRecord}.
+	 */
+	NUMERIC(NumericRecord.FIELD_COUNT) {
+		@Override
+		String value(Random random, int column, boolean lineBreaks) {
+			return NumericRecord.value(random, column);
+		}
+	};
+
+	private static final long SEED = 1234567L;
+
+	private final int columns;
+
+	DataShape(int columns) {
+		this.columns = columns;
+	}
+
+	/**
+	 * Returns the number of columns of each row in this dataset
+	 *
+	 * @return the number of columns of each row.
+	 */
+	public int getColumns() {
+		return columns;
+	}
+
+	/**
+	 * Generates the headers of this dataset
+	 *
+	 * @return the headers of each column.
+	 */
+	public String[] headers() {
+		if (this == NUMERIC) {
+			return NumericRecord.HEADERS.clone();
+		}
+		String[] headers = new String[columns];
+		for (int i = 0; i < columns; i++) {
+			headers[i] = "column" + i;
+		}
+		return headers;
+	}
+
+	/**
+	 * Generates the rows of this dataset
+	 *
+	 * @param count      the number of rows to generate
+	 * @param lineBreaks flag indicating whether values may contain line breaks. Formats such as fixed-width can't represent them.
+	 *
+	 * @return the generated rows
+	 */
+	public List<String[]> rows(int count, boolean lineBreaks) {
+		Random random = new Random(SEED);
+		List<String[]> rows = new ArrayList<String[]>(count);
+		for (int i = 0; i < count; i++) {
+			String[] row = new String[columns];
+			for (int j = 0; j < columns; j++) {
+				row[j] = value(random, j, lineBreaks);
+			}
+			rows.add(row);
+		}
+		return rows;
+	}
+
+	abstract String value(Random random, int column, boolean lineBreaks);
+
+	static String word(Random random, int length) {
+		char[] chars = new char[length];
+		for (int i = 0; i < length; i++) {
+			chars[i] = (char) ('a' + random.nextInt(26));
+		}
+		return new String(chars);
+	}
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.benchmarks;
+
+import com.univocity.parsers.annotations.*;
+
+import java.math.*;
+import java.util.*;
+
+/**
+ * A java bean populated with values of the {@link DataShape#NUMERIC} dataset.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ */
+public class NumericRecord {
+
+	static final String[] HEADERS = new String[]{"id", "quantity", "price", "total", "ratio", "date", "active", "code"};
+	static final int FIELD_COUNT = HEADERS.length;
+	static final String DATE_FORMAT = "yyyy-MM-dd";
+
+	@Parsed
+	private long id;
+
+	@Parsed
+	private int quantity;
+
+	@Parsed
+	private double price;
+
+	@Parsed
+	private BigDecimal total;
+
+	@Parsed
+	private float ratio;
+
+	@Parsed
+	@Format(formats = DATE_FORMAT)
+	private Date date;
+
+	@Parsed
+	@BooleanString(trueStrings = "Y", falseStrings = "N")
+	private boolean active;
+
+	@Parsed
+	private String code;
+
+	static String value(Random random, int column) {
+		switch (column) {
+			case 0:
+				return String.valueOf(random.nextInt(Integer.MAX_VALUE) * 1000L + random.nextInt(1000));
+			case 1:
+				return String.valueOf(random.nextInt(10000));
+			case 2:
+				return String.valueOf(random.nextInt(100000) / 100.0);
+			case 3:
+				return new BigDecimal(random.nextInt(10000000)).movePointLeft(2).toPlainString();
+			case 4:
+				return String.valueOf(random.nextFloat());
+			case 5:
+				return String.format("%04d-%02d-%02d", 1990 + random.nextInt(30), 1 + random.nextInt(12), 1 + random.nextInt(28));
+			case 6:
+				return random.nextBoolean() ? "Y" : "N";
+			default:
+				return DataShape.word(random, 6);
+		}
+	}
+
+	public long getId() {
+		return id;
+	}
+
+	public int getQuantity() {
+		return quantity;
+	}
+
+	public double getPrice() {
+		return price;
+	}
+
+	public BigDecimal getTotal() {
+		return total;
+	}
+
+	public float getRatio() {
+		return ratio;
+	}
+
+	public Date getDate() {
+		return date;
+	}
+
+	public boolean isActive() {
+		return active;
+	}
+
+	public String getCode() {
+		return code;
+	}
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.benchmarks;
+
+import com.univocity.parsers.common.*;
+import com.univocity.parsers.csv.*;
+import com.univocity.parsers.fixed.*;
+import com.univocity.parsers.tsv.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Measures the throughput of {@link CsvParser}, {@link TsvParser} and {@link FixedWidthParser} over in-memory datasets of different shapes.
+ * The input of each parser is produced by the corresponding writer in {@link #setup()}.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ParserBenchmark {
+
+	@Param({"NARROW_TEXT", "WIDE_TEXT", "QUOTED", "NUMERIC"})
+	public DataShape shape;
+
+	@Param({"10000"})
+	public int rows;
+
+	private String csv;
+	private String tsv;
+	private String fixedWidth;
+
+	private CsvParser csvParser;
+	private TsvParser tsvParser;
+	private FixedWidthParser fixedWidthParser;
+
+	@Setup
+	public void setup() {
+		List<String[]> data = shape.rows(rows, true);
+
+		StringWriter out = new StringWriter();
+		new CsvWriter(out, new CsvWriterSettings()).writeStringRowsAndClose(data);
+		csv = out.toString();
+
+		out = new StringWriter();
+		new TsvWriter(out, new TsvWriterSettings()).writeStringRowsAndClose(data);
+		tsv = out.toString();
+
+		List<String[]> fixedWidthData = shape.rows(rows, false);
+		FixedWidthFields fields = fieldLengths(fixedWidthData);
+		out = new StringWriter();
+		new FixedWidthWriter(out, new FixedWidthWriterSettings(fields)).writeStringRowsAndClose(fixedWidthData);
+		fixedWidth = out.toString();
+
+		csvParser = new CsvParser(new CsvParserSettings());
+		tsvParser = new TsvParser(new TsvParserSettings());
+		fixedWidthParser = new FixedWidthParser(new FixedWidthParserSettings(fields));
+	}
+
+	static FixedWidthFields fieldLengths(List<String[]> rows) {
+		int[] lengths = new int[rows.get(0).length];
+		for (String[] row : rows) {
+			for (int i = 0; i < row.length; i++) {
+				lengths[i] = Math.max(lengths[i], row[i].length() + 1);
+			}
+		}
+		return new FixedWidthFields(lengths);
+	}
+
+	private static void parse(AbstractParser<?> parser, String input, Blackhole blackhole) {
+		parser.beginParsing(new StringReader(input));
+		String[] row;
+		while ((row = parser.parseNext()) != null) {
+			blackhole.consume(row);
+		}
+	}
+
+	@Benchmark
+	public void csvParser(Blackhole blackhole) {
+		parse(csvParser, csv, blackhole);
+	}
+
+	@Benchmark
+	public void tsvParser(Blackhole blackhole) {
+		parse(tsvParser, tsv, blackhole);
+	}
+
+	@Benchmark
+	public void fixedWidthParser(Blackhole blackhole) {
+		parse(fixedWidthParser, fixedWidth, blackhole);
+	}
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.benchmarks;
+
+import com.univocity.parsers.csv.*;
+import com.univocity.parsers.fixed.*;
+import com.univocity.parsers.tsv.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Measures the throughput of {@link CsvWriter}, {@link TsvWriter} and {@link FixedWidthWriter} over datasets of different shapes.
+ * The output is discarded, so that only the cost of formatting the rows is measured.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class WriterBenchmark {
+
+	@Param({"NARROW_TEXT", "WIDE_TEXT", "QUOTED", "NUMERIC"})
+	public DataShape shape;
+
+	@Param({"10000"})
+	public int rows;
+
+	private List<String[]> data;
+	private List<String[]> fixedWidthData;
+	private FixedWidthFields fields;
+
+	@Setup
+	public void setup() {
+		data = shape.rows(rows, true);
+		fixedWidthData = shape.rows(rows, false);
+		fields = ParserBenchmark.fieldLengths(fixedWidthData);
+	}
+
+	@Benchmark
+	public void csvWriter() {
+		new CsvWriter(new DiscardingWriter(), new CsvWriterSettings()).writeStringRowsAndClose(data);
+	}
+
+	@Benchmark
+	public void tsvWriter() {
+		new TsvWriter(new DiscardingWriter(), new TsvWriterSettings()).writeStringRowsAndClose(data);
+	}
+
+	@Benchmark
+	public void fixedWidthWriter() {
+		new FixedWidthWriter(new DiscardingWriter(), new FixedWidthWriterSettings(fields)).writeStringRowsAndClose(fixedWidthData);
+	}
+
+	/**
+	 * A {@link Writer} that ignores everything written to it.
+	 */
+	private static final class DiscardingWriter extends Writer {
+		@Override
+		public void write(char[] cbuf, int off, int len) {
+		}
+
+		@Override
+		public void write(String str, int off, int len) {
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
@@ -22,6 +22,7 @@ import com.univocity.parsers.common.beans.*;
 import com.univocity.parsers.conversions.*;
 
 import java.lang.annotation.Annotation;
+import java.lang.ref.*;
 import java.lang.reflect.*;
 import java.math.*;
 import java.text.*;
@@ -30,15 +31,49 @@ import java.util.*;
 /**
  * Helper class to process fields annotated with {@link Parsed}
  *
+ * <p> The information extracted from the fields and annotations of each class is cached, so it can be reused by any number of
+ * processors and parser/writer settings that work with the same class.
+ *
  * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
  *
  */
 public class AnnotationHelper {
 
+	/**
+	 * Classes are weakly referenced so the cache doesn't prevent them (and their class loaders) from being unloaded.
+	 */
+	private static final Map<Class<?>, SoftReference<AnnotatedClass>> annotatedClasses = Collections.synchronizedMap(new WeakHashMap<Class<?>, SoftReference<AnnotatedClass>>());
+
+	/**
+	 * Information extracted from the fields and annotations of a class, computed only when requested.
+	 */
+	private static final class AnnotatedClass {
+		volatile Map<Field, PropertyWrapper> allFields;
+		volatile List<FieldMapping> fieldMappings;
+		volatile Boolean allFieldsIndexBased;
+		volatile Boolean allFieldsNameBased;
+		volatile Integer[] selectedIndexes;
+		volatile String[] derivedHeaders;
+		volatile Headers headersAnnotation;
+		volatile boolean headersAnnotationSearched;
+	}
+
 	private AnnotationHelper() {
 
 	}
 
+	private static AnnotatedClass getAnnotatedClass(Class<?> beanClass) {
+		synchronized (annotatedClasses) {
+			SoftReference<AnnotatedClass> reference = annotatedClasses.get(beanClass);
+			AnnotatedClass out = reference == null ? null : reference.get();
+			if (out == null) {
+				out = new AnnotatedClass();
+				annotatedClasses.put(beanClass, new SoftReference<AnnotatedClass>(out));
+			}
+			return out;
+		}
+	}
+
 	/**
 	 * Converts the special "null" strings that might be provided by {@link Parsed#defaultNullRead() and  Parsed#defaultNullWrite()}
 	 * @param defaultValue The string returned by {@link Parsed#defaultNullRead() and  Parsed#defaultNullWrite()}
@@ -427,7 +462,11 @@ public class AnnotationHelper {
 	 * @return {@code true} if every field annotated with {@link Parsed} in the given class maps to an index, otherwise {@code false}.
 	 */
 	public static boolean allFieldsIndexBased(Class<?> beanClass) {
-		return allFieldsIndexOrNameBased(false, beanClass);
+		AnnotatedClass annotatedClass = getAnnotatedClass(beanClass);
+		if (annotatedClass.allFieldsIndexBased == null) {
+			annotatedClass.allFieldsIndexBased = allFieldsIndexOrNameBased(false, beanClass);
+		}
+		return annotatedClass.allFieldsIndexBased;
 	}
 
 	/**
@@ -437,7 +476,11 @@ public class AnnotationHelper {
 	 * @return {@code true} if every field annotated with {@link Parsed} in the given class maps to a header name, otherwise {@code false}.
 	 */
 	public static boolean allFieldsNameBased(Class<?> beanClass) {
-		return allFieldsIndexOrNameBased(true, beanClass);
+		AnnotatedClass annotatedClass = getAnnotatedClass(beanClass);
+		if (annotatedClass.allFieldsNameBased == null) {
+			annotatedClass.allFieldsNameBased = allFieldsIndexOrNameBased(true, beanClass);
+		}
+		return annotatedClass.allFieldsNameBased;
 	}
 
 	/**
@@ -446,6 +489,14 @@ public class AnnotationHelper {
 	 * @return an array of column indexes used by the given class
 	 */
 	public static Integer[] getSelectedIndexes(Class<?> beanClass) {
+		AnnotatedClass annotatedClass = getAnnotatedClass(beanClass);
+		if (annotatedClass.selectedIndexes == null) {
+			annotatedClass.selectedIndexes = findSelectedIndexes(beanClass);
+		}
+		return annotatedClass.selectedIndexes.clone();
+	}
+
+	private static Integer[] findSelectedIndexes(Class<?> beanClass) {
 		List<Integer> indexes = new ArrayList<Integer>();
 		for (Field field : beanClass.getDeclaredFields()) {
 			Parsed annotation = field.getAnnotation(Parsed.class);
@@ -468,6 +519,14 @@ public class AnnotationHelper {
 	 * @return an array of column names used by the given class
 	 */
 	public static String[] deriveHeaderNamesFromFields(Class<?> beanClass) {
+		AnnotatedClass annotatedClass = getAnnotatedClass(beanClass);
+		if (annotatedClass.derivedHeaders == null) {
+			annotatedClass.derivedHeaders = deriveHeaders(beanClass);
+		}
+		return annotatedClass.derivedHeaders.clone();
+	}
+
+	private static String[] deriveHeaders(Class<?> beanClass) {
 		ArrayList<String> out = new ArrayList<String>();
 		ArrayList<Integer> indexes = new ArrayList<Integer>();
 		Field[] declared = beanClass.getDeclaredFields();
@@ -514,6 +573,15 @@ public class AnnotationHelper {
 	 * @return the {@link Headers} annotation of the given class or its most immediate parent, or {@code null} if not found.
 	 */
 	public static Headers findHeadersAnnotation(Class<?> beanClass) {
+		AnnotatedClass annotatedClass = getAnnotatedClass(beanClass);
+		if (!annotatedClass.headersAnnotationSearched) {
+			annotatedClass.headersAnnotation = searchHeadersAnnotation(beanClass);
+			annotatedClass.headersAnnotationSearched = true;
+		}
+		return annotatedClass.headersAnnotation;
+	}
+
+	private static Headers searchHeadersAnnotation(Class<?> beanClass) {
 		Headers headers;
 
 		Class<?> parent = beanClass;
@@ -524,7 +592,7 @@ public class AnnotationHelper {
 				return headers;
 			} else {
 				for (Class<?> iface : parent.getInterfaces()) {
-					headers = findHeadersAnnotation(iface);
+					headers = searchHeadersAnnotation(iface);
 					if (headers != null) {
 						return headers;
 					}
@@ -544,6 +612,33 @@ public class AnnotationHelper {
 	 * @return a map of {@link Field} and the corresponding {@link PropertyWrapper}
 	 */
 	public static Map<Field,PropertyWrapper> getAllFields(Class<?> beanClass){
+		AnnotatedClass annotatedClass = getAnnotatedClass(beanClass);
+		if (annotatedClass.allFields == null) {
+			annotatedClass.allFields = findAllFields(beanClass);
+		}
+		return new LinkedHashMap<Field, PropertyWrapper>(annotatedClass.allFields);
+	}
+
+	/**
+	 * Returns the mappings of all fields annotated with {@link Parsed} in a given class, in the same order of {@link #getAllFields(Class)}.
+	 * @param beanClass a class whose {@link Parsed} annotations will be processed.
+	 * @return an unmodifiable list of the {@link FieldMapping} of each annotated field.
+	 */
+	public static List<FieldMapping> getFieldMappings(Class<?> beanClass) {
+		AnnotatedClass annotatedClass = getAnnotatedClass(beanClass);
+		if (annotatedClass.fieldMappings == null) {
+			List<FieldMapping> mappings = new ArrayList<FieldMapping>();
+			for (Map.Entry<Field, PropertyWrapper> e : getAllFields(beanClass).entrySet()) {
+				if (e.getKey().getAnnotation(Parsed.class) != null) {
+					mappings.add(new FieldMapping(beanClass, e.getKey(), e.getValue()));
+				}
+			}
+			annotatedClass.fieldMappings = Collections.unmodifiableList(mappings);
+		}
+		return annotatedClass.fieldMappings;
+	}
+
+	private static Map<Field,PropertyWrapper> findAllFields(Class<?> beanClass){
 
 		Map<String, PropertyWrapper> properties = new HashMap<String, PropertyWrapper>();
 		try {
@@ -24,6 +24,10 @@ import java.lang.reflect.*;
 /**
  * A helper class with information about the location of an field annotated with {@link Parsed} in a record.
  *
+ * <p> The field, or its accessor methods, are resolved and made accessible when the mapping is created, so that reading and writing
+ * values of each record doesn't go through the access checks performed by {@link Method#invoke(Object, Object...)} and {@link Field#set(Object, Object)}
+ * on members that are not public.
+ *
  * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
  *
  */
@@ -34,7 +38,6 @@ public class FieldMapping {
 	private final Class<?> beanClass;
 	private final Method readMethod;
 	private final Method writeMethod;
-	private boolean accessible = false;
 
 	/**
 	 * Creates the mapping and identifies how it is mapped (by name or by index)
@@ -45,8 +48,11 @@ public class FieldMapping {
 	public FieldMapping(Class<?> beanClass, Field field, PropertyWrapper property) {
 		this.beanClass = beanClass;
 		this.field = field;
-		this.readMethod = property != null ? property.getReadMethod() : null;
-		this.writeMethod = property != null ? property.getWriteMethod() : null;
+		this.readMethod = property != null ? makeAccessible(property.getReadMethod()) : null;
+		this.writeMethod = property != null ? makeAccessible(property.getWriteMethod()) : null;
+		if (readMethod == null || writeMethod == null) {
+			makeAccessible(field);
+		}
 
 		determineFieldMapping();
 	}
@@ -135,11 +141,15 @@ public class FieldMapping {
 		return field;
 	}
 
-	private void setAccessible(Method accessor) {
-		if (accessor == null && !accessible) {
-			this.field.setAccessible(true);
-			accessible = true;
+	private static <A extends AccessibleObject> A makeAccessible(A member) {
+		if (member != null && !member.isAccessible()) {
+			try {
+				member.setAccessible(true);
+			} catch (SecurityException e) {
+				//public members can still be used, with the usual access checks.
+			}
 		}
+		return member;
 	}
 
 	/**
@@ -181,7 +191,6 @@ public class FieldMapping {
 	 * @return the value contained in the given instance's field
 	 */
 	public Object read(Object instance) {
-		setAccessible(readMethod);
 		try {
 			if (readMethod != null) {
 				return readMethod.invoke(instance);
@@ -199,7 +208,6 @@ public class FieldMapping {
 	 * @param value the value to set on the given object's field.
 	 */
 	public void write(Object instance, Object value) {
-		setAccessible(writeMethod);
 		try {
 			if (writeMethod != null) {
 				writeMethod.invoke(instance, value);
@@ -23,6 +23,7 @@ import com.univocity.parsers.common.record.*;
 import java.io.*;
 import java.nio.charset.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * The AbstractParser class provides a common ground for all parsers in uniVocity-parsers.
@@ -62,7 +63,15 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	protected String lastComment;
 	private final boolean collectComments;
 	private Record firstRecord;
+	private RowViewProcessor viewProcessor;
 	private final int errorContentLength;
+	private boolean chunkEnded;
+	private boolean parallel;
+	private long byteOffsetBase;
+	private final ParsingMetrics metrics;
+
+	private static final long MIN_CHUNK_SIZE = 64 * 1024;
+	private static final long MAX_CHUNK_SIZE = 4 * 1024 * 1024;
 
 	/**
 	 * All parsers must support, at the very least, the settings provided by {@link CommonParserSettings}. The AbstractParser requires its configuration to be properly initialized.
@@ -81,6 +90,8 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 		this.rowsToSkip = settings.getNumberOfRowsToSkip();
 		this.collectComments = settings.isCommentCollectionEnabled();
 		this.comments = collectComments ? new TreeMap<Long, String>() : Collections.<Long, String>emptyMap();
+		this.metrics = settings.isMetricsEnabled() ? new ParsingMetrics() : null;
+		this.output.metrics = metrics;
 	}
 
 	protected void processComment() {
@@ -103,6 +114,10 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 */
 	public final void parse(Reader reader) {
 		beginParsing(reader);
+		parseInput();
+	}
+
+	private void parseInput() {
 		try {
 			while (!context.isStopped()) {
 				ch = input.nextChar();
@@ -110,7 +125,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 					processComment();
 					continue;
 				}
-				parseRecord();
+				readRecord();
 
 				String[] row = output.rowParsed();
 				if (row != null) {
@@ -141,6 +156,294 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 		}
 	}
 
+	/**
+	 * Parses the entirety of a given file using multiple threads, and delegates each parsed row to an instance of {@link RowProcessor}, defined by {@link CommonParserSettings#getRowProcessor()}.
+	 *
+	 * @param file    The file to be parsed.
+	 * @param threads the number of threads used to parse the file.
+	 *
+	 * @see #parseParallel(File, Charset, int)
+	 */
+	public final void parseParallel(File file, int threads) {
+		parseParallel(file, (Charset) null, threads);
+	}
+
+	/**
+	 * Parses the entirety of a given file using multiple threads, and delegates each parsed row to an instance of {@link RowProcessor}, defined by {@link CommonParserSettings#getRowProcessor()}.
+	 *
+	 * @param file     The file to be parsed.
+	 * @param encoding the encoding of the file
+	 * @param threads  the number of threads used to parse the file.
+	 *
+	 * @see #parseParallel(File, Charset, int)
+	 */
+	public final void parseParallel(File file, String encoding, int threads) {
+		parseParallel(file, Charset.forName(encoding), threads);
+	}
+
+	/**
+	 * Parses the entirety of a given file using multiple threads, and delegates each parsed row to an instance of {@link RowProcessor}, defined by {@link CommonParserSettings#getRowProcessor()}.
+	 *
+	 * <p> The file is split into chunks that begin at record boundaries (identified by {@link #splitInput(File, long, ExecutorService)}), and each chunk is
+	 * memory-mapped and parsed in a pool of threads. Each thread has its own parser instance, which is reused for every chunk parsed by that thread.
+	 * The first record (and the headers) are parsed by this parser before the other chunks are processed. Rows are sent to the {@link RowProcessor} from the calling thread, in the order they appear in the input, unless
+	 * {@link CommonParserSettings#isParallelRecordOrderingEnabled()} is disabled.
+	 *
+	 * <p> The file is parsed sequentially, as in {@link #parse(File, Charset)}, if it is too small to be split, if the parser can't identify record boundaries in
+	 * its input, if the encoding is not US-ASCII, ISO-8859-1 or UTF-8, or if rows are to be skipped ({@link CommonParserSettings#getNumberOfRowsToSkip()})
+	 * or comments collected ({@link CommonParserSettings#isCommentCollectionEnabled()}).
+	 *
+	 * <p> Line and character positions reported while processing rows of a chunk other than the first, including positions in parsing errors, are relative to
+	 * the beginning of that chunk.
+	 *
+	 * @param file     The file to be parsed.
+	 * @param encoding the encoding of the file
+	 * @param threads  the number of threads used to parse the file.
+	 */
+	public final void parseParallel(File file, Charset encoding, int threads) {
+		if (threads < 1) {
+			throw new IllegalArgumentException("Number of threads must be greater than 0. Got " + threads);
+		}
+		Charset charset = encoding == null ? Charset.defaultCharset() : encoding;
+
+		ExecutorService executor = null;
+		try {
+			long[] boundaries = null;
+			if (threads > 1 && rowsToSkip == 0 && !collectComments && ByteCharInputReader.isSupported(charset) && !isCompressed(file)) {
+				long chunkSize = Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, file.length() / threads));
+				if (file.length() > chunkSize) {
+					executor = Executors.newFixedThreadPool(threads);
+					boundaries = splitInput(file, chunkSize, executor);
+				}
+			}
+
+			if (boundaries == null || boundaries.length < 3) {
+				parse(file, charset);
+			} else {
+				parseChunks(file, charset, boundaries, executor, threads);
+			}
+		} finally {
+			if (executor != null) {
+				executor.shutdownNow();
+			}
+		}
+	}
+
+	/**
+	 * Identifies positions of the given file where records begin, so the file can be split into chunks that can be parsed independently by
+	 * {@link #parseParallel(File, Charset, int)}. Parsers that can't identify record boundaries from the raw bytes of the input return {@code null},
+	 * which is the default.
+	 *
+	 * @param file      the file to be split
+	 * @param chunkSize the approximate size, in bytes, of each chunk
+	 * @param executor  the thread pool available to process the input.
+	 *
+	 * @return the offset of the first byte of each chunk, followed by the length of the file; or {@code null} if the file can't be split.
+	 */
+	protected long[] splitInput(File file, long chunkSize, ExecutorService executor) {
+		return null;
+	}
+
+	/**
+	 * Creates a new parser with the same settings of this parser, to parse chunks of the input in parallel (see {@link #parseParallel(File, Charset, int)}).
+	 * One parser is created for each thread. Parsers that are able to split their input with {@link #splitInput(File, long, ExecutorService)} must implement this method.
+	 *
+	 * @return a new parser instance, using the same settings of this parser.
+	 */
+	protected AbstractParser<T> newParallelParser() {
+		throw new UnsupportedOperationException("Parser " + getClass().getName() + " does not support parallel parsing");
+	}
+
+	private void parseChunks(File file, Charset charset, long[] boundaries, ExecutorService executor, int threads) {
+		final int chunkCount = boundaries.length - 1;
+		final int maxChunksInMemory = threads * 2;
+		final boolean ordered = settings.isParallelRecordOrderingEnabled();
+		final CompletionService<List<String[]>> completionService = ordered ? null : new ExecutorCompletionService<List<String[]>>(executor);
+		final LinkedList<Future<List<String[]>>> pending = new LinkedList<Future<List<String[]>>>();
+		final Queue<ParsingMetrics> chunkMetrics = metrics == null ? null : new ConcurrentLinkedQueue<ParsingMetrics>();
+
+		//one parser for each thread, reused by every chunk parsed by that thread.
+		final Queue<AbstractParser<T>> parsers = new ConcurrentLinkedQueue<AbstractParser<T>>();
+		for (int i = Math.min(threads, chunkCount - 1); i > 0; i--) {
+			AbstractParser<T> parser = newParallelParser();
+			parser.processor = NoopRowProcessor.instance;
+			parsers.add(parser);
+		}
+
+		beginParsing(null, settings.newMappedCharInputReader(file, charset, boundaries[0], boundaries[1]), null);
+		parallel = true;
+		try {
+			int chunk = 0;
+			int nextChunk = -1;
+
+			//parses the first chunk (or more, if it has no records) until the headers are known, then submits the remaining chunks to other threads.
+			while (!context.isStopped()) {
+				if (nextChunk == -1 && output.isInitialized()) {
+					nextChunk = chunk + 1;
+					while (pending.size() < maxChunksInMemory && nextChunk < chunkCount) {
+						pending.add(submitChunk(executor, completionService, parsers, chunkMetrics, file, charset, boundaries[nextChunk], boundaries[nextChunk + 1]));
+						nextChunk++;
+					}
+				}
+
+				String[] row = parseNextInChunk();
+				if (row == null) {
+					if (nextChunk == -1 && ++chunk < chunkCount) {
+						input.stop();
+						input = settings.newMappedCharInputReader(file, charset, boundaries[chunk], boundaries[chunk + 1]);
+						input.enableNormalizeLineEndings(true);
+						input.start(null);
+						if (metrics != null) {
+							metrics.inputStarted(input);
+						}
+						chunkEnded = false;
+						continue;
+					}
+					break;
+				}
+				if (recordsToRead >= 0 && context.currentRecord() >= recordsToRead) {
+					context.stop();
+					if (recordsToRead == 0) {
+						break;
+					}
+				}
+				rowProcessed(row);
+			}
+
+			ChunkContext chunkContext = new ChunkContext(context, output.getCurrentRecord());
+			while (!context.isStopped() && !pending.isEmpty()) {
+				Future<List<String[]>> next = ordered ? pending.getFirst() : completionService.take();
+				pending.remove(next);
+				List<String[]> rows = next.get();
+
+				if (nextChunk < chunkCount) {
+					pending.add(submitChunk(executor, completionService, parsers, chunkMetrics, file, charset, boundaries[nextChunk], boundaries[nextChunk + 1]));
+					nextChunk++;
+				}
+
+				for (String[] row : rows) {
+					if (context.isStopped() || (recordsToRead >= 0 && chunkContext.currentRecord >= recordsToRead)) {
+						context.stop();
+						break;
+					}
+					chunkContext.currentRecord++;
+					rowProcessed(row, chunkContext);
+				}
+			}
+			if (chunkMetrics != null) {
+				for (ParsingMetrics parsed; (parsed = chunkMetrics.poll()) != null; ) {
+					metrics.add(parsed);
+				}
+			}
+			stopParsing();
+		} catch (ExecutionException ex) {
+			stopParsing(ex.getCause());
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			stopParsing();
+		} catch (Throwable ex) {
+			try {
+				ex = handleException(ex);
+			} finally {
+				stopParsing(ex);
+			}
+		}
+	}
+
+	private Future<List<String[]>> submitChunk(ExecutorService executor, CompletionService<List<String[]>> completionService, final Queue<AbstractParser<T>> parsers, final Queue<ParsingMetrics> chunkMetrics, final File file, final Charset charset, final long start, final long end) {
+		final ParserOutput headerOutput = this.output;
+
+		Callable<List<String[]>> task = new Callable<List<String[]>>() {
+			@Override
+			public List<String[]> call() {
+				//there are as many parsers as threads, so one is always available to the running task.
+				AbstractParser<T> parser = parsers.poll();
+				try {
+					List<String[]> rows = parser.parseChunk(file, charset, start, end, headerOutput);
+					if (chunkMetrics != null && parser.metrics != null) {
+						ParsingMetrics parsed = new ParsingMetrics();
+						parsed.add(parser.metrics);
+						chunkMetrics.add(parsed);
+					}
+					return rows;
+				} finally {
+					parsers.add(parser);
+				}
+			}
+		};
+
+		if (completionService != null) {
+			return completionService.submit(task);
+		}
+		return executor.submit(task);
+	}
+
+	private List<String[]> parseChunk(File file, Charset charset, long start, long end, ParserOutput headerOutput) {
+		List<String[]> rows = new ArrayList<String[]>();
+		beginParsing(null, settings.newMappedCharInputReader(file, charset, start, end), null);
+		output.initializeHeaders(headerOutput);
+		try {
+			String[] row;
+			while ((row = parseNextInChunk()) != null) {
+				rows.add(row);
+			}
+			stopParsing();
+		} catch (Throwable ex) {
+			try {
+				ex = handleException(ex);
+			} finally {
+				stopParsing(ex);
+			}
+		}
+		return rows;
+	}
+
+	/**
+	 * Parses the next record of the current chunk of input, without stopping the parser when the chunk ends.
+	 *
+	 * @return the next record of the chunk, or {@code null} if there are no more records to read.
+	 */
+	private String[] parseNextInChunk() {
+		if (chunkEnded) {
+			return null;
+		}
+		try {
+			while (!context.isStopped()) {
+				ch = input.nextChar();
+				if (inComment()) {
+					processComment();
+					continue;
+				}
+				readRecord();
+				String[] row = output.rowParsed();
+				if (row != null) {
+					return row;
+				}
+			}
+		} catch (EOFException ex) {
+			chunkEnded = true;
+			return parseLastRecord(null);
+		}
+		return null;
+	}
+
+	/**
+	 * The context given to the {@link RowProcessor} for records parsed by other threads, in {@link #parseParallel(File, Charset, int)}.
+	 */
+	private static final class ChunkContext extends ParsingContextWrapper {
+		private long currentRecord;
+
+		ChunkContext(ParsingContext context, long currentRecord) {
+			super(context);
+			this.currentRecord = currentRecord;
+		}
+
+		@Override
+		public long currentRecord() {
+			return currentRecord;
+		}
+	}
+
 	/**
 	 * Parser-specific implementation for reading a single record from the input.
 	 * <p> The AbstractParser handles the initialization and processing of the input until it is ready to be parsed.
@@ -165,6 +468,19 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 */
 	protected abstract void parseRecord();
 
+	private void readRecord() {
+		if (metrics == null) {
+			parseRecord();
+		} else {
+			long start = System.nanoTime();
+			try {
+				parseRecord();
+			} finally {
+				metrics.recordParsed(System.nanoTime() - start);
+			}
+		}
+	}
+
 	/**
 	 * Allows the parser implementation to handle any value that was being consumed when the end of the input was reached
 	 *
@@ -175,6 +491,22 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	}
 
 	private String[] handleEOF() {
+		return handleEOF(null);
+	}
+
+	private String[] handleEOF(String[] reuse) {
+		String[] row = parseLastRecord(reuse);
+		if (row != null) {
+			if (!output.rowViewEnabled) {
+				rowProcessed(row);
+			} else if (viewProcessor != null) {
+				viewProcessed();
+			}
+		}
+		return row;
+	}
+
+	private String[] parseLastRecord(String[] reuse) {
 		String[] row = null;
 		try {
 			boolean consumeValueOnEOF = consumeValueOnEOF();
@@ -184,17 +516,14 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 				} else {
 					output.emptyParsed();
 				}
-				row = output.rowParsed();
+				row = output.rowParsed(reuse);
 			} else if (output.appender.length() > 0) {
 				output.valueParsed();
-				row = output.rowParsed();
+				row = output.rowParsed(reuse);
 			}
 		} catch (ArrayIndexOutOfBoundsException e) {
 			throw handleException(e);
 		}
-		if (row != null) {
-			rowProcessed(row);
-		}
 		return row;
 	}
 
@@ -206,9 +535,18 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @param reader The input to be parsed.
 	 */
 	public final void beginParsing(Reader reader) {
+		beginParsing(reader, null, null);
+	}
+
+	private void beginParsing(Reader reader, CharInputReader inputReader, Checkpoint checkpoint) {
 		output.reset();
+		chunkEnded = false;
+		parallel = false;
+		byteOffsetBase = checkpoint == null ? 0L : checkpoint.getByteOffset();
 
-		if (reader instanceof LineReader) {
+		if (inputReader != null) {
+			input = inputReader;
+		} else if (reader instanceof LineReader) {
 			input = new DefaultCharInputReader(settings.getFormat().getLineSeparator(), settings.getFormat().getNormalizedNewline(), settings.getInputBufferSize());
 		} else {
 			input = settings.newCharInputReader();
@@ -218,10 +556,32 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 		context = new DefaultParsingContext(this);
 		((DefaultParsingContext) context).stopped = false;
 
+		if (metrics != null) {
+			metrics.started();
+			metrics.inputStarted(input);
+		}
+
 		if (processor instanceof DefaultConversionProcessor) {
 			DefaultConversionProcessor conversionProcessor = ((DefaultConversionProcessor) processor);
 			conversionProcessor.errorHandler = errorHandler;
 			conversionProcessor.context = context;
+			conversionProcessor.metrics = metrics;
+		} else if (processor instanceof ParallelConversionProcessor) {
+			((ParallelConversionProcessor<?>) processor).setErrorHandler(new RowProcessorErrorHandler() {
+				@Override
+				public void handleError(DataProcessingException error, Object[] inputRow, ParsingContext context) {
+					error.restrictContent(errorContentLength);
+					error.setRecordContext(context);
+					error.markAsNonFatal();
+					try {
+						errorHandler.handleError(error, inputRow, context);
+					} catch (DataProcessingException ex) {
+						// the row was handled already. Just stop.
+						ex.markAsFatal();
+						throw ex;
+					}
+				}
+			});
 		}
 
 		if (input instanceof AbstractCharInputReader) {
@@ -229,7 +589,12 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 		}
 
 		input.start(reader);
-		input.skipLines(rowsToSkip);
+		if (checkpoint == null) {
+			input.skipLines(rowsToSkip);
+		} else {
+			((AbstractCharInputReader) input).setCounts(checkpoint.getCharOffset(), checkpoint.getLineCount());
+			output.resume(checkpoint);
+		}
 
 		recordFactory = new RecordFactory(context);
 		processor.processStarted(context);
@@ -387,7 +752,13 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 				processor.processEnded(context);
 			} finally {
 				output.appender.reset();
-				input.stop();
+				try {
+					input.stop();
+				} finally {
+					if (metrics != null) {
+						metrics.ended();
+					}
+				}
 			}
 		}
 	}
@@ -400,8 +771,12 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the input.
 	 */
 	public final List<String[]> parseAll(Reader reader) {
-		List<String[]> out = new ArrayList<String[]>(10000);
 		beginParsing(reader);
+		return parseAllRows();
+	}
+
+	private List<String[]> parseAllRows() {
+		List<String[]> out = new ArrayList<String[]>(10000);
 		String[] row;
 		while ((row = parseNext()) != null) {
 			out.add(row);
@@ -421,11 +796,129 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return The record parsed from the input or null if there's no more characters to read.
 	 */
 	public final String[] parseNext() {
+		return parseNext(null);
+	}
+
+	/**
+	 * Parses the next record from the input, storing its values in the given array if it has the same length as the record, to avoid allocating
+	 * a new array for every record. Note that {@link AbstractParser#beginParsing(Reader)} must have been invoked once before calling this method.
+	 * If the end of the input is reached, then this method will return null. Additionally, all resources will be closed automatically at the end of the input or if any error happens while parsing.
+	 *
+	 * <p> The array returned by this method should be given back in the next call, so it can be reused as long as records have the same number of values:
+	 *
+	 * <pre>{@code
+	 * String[] row = null;
+	 * while ((row = parser.parseNext(row)) != null) {
+	 *     // copy the values you need; they will be overwritten by the next call.
+	 * }
+	 * }</pre>
+	 *
+	 * <p> The values of the given array are overwritten by the next record, so it should not be used with a {@link RowProcessor} that
+	 * keeps references to the rows it receives.
+	 *
+	 * @param reuse an array to store the values of the next record. If {@code null}, or if its length is not the same as the number of values of
+	 *              the record, a new array will be created.
+	 *
+	 * @return The record parsed from the input (either the given array or a new one) or null if there's no more characters to read.
+	 */
+	public final String[] parseNext(String[] reuse) {
 		if (firstRecord != null) {
 			String[] out = firstRecord.getValues();
 			firstRecord = null;
 			return out;
 		}
+		output.rowViewEnabled = false;
+		return parseNextRow(reuse);
+	}
+
+	/**
+	 * Parses the next record from the input and returns a view of its values. Note that {@link AbstractParser#beginParsing(Reader)} must have been invoked once before calling this method.
+	 * If the end of the input is reached, then this method will return null. Additionally, all resources will be closed automatically at the end of the input or if any error happens while parsing.
+	 *
+	 * <p> Values are not converted to {@code String}s unless requested through the {@link RowView}, which is useful when most records are discarded
+	 * after inspecting only a few of their values. The {@link RowView} returned by this method is reused, and it is only valid until the next record is parsed.
+	 *
+	 * <p> Records parsed with this method are not sent to the {@link RowProcessor} defined by {@link CommonParserSettings#getRowProcessor()}.
+	 *
+	 * @return a view of the record parsed from the input or null if there's no more characters to read.
+	 */
+	public final RowView parseNextView() {
+		output.setRowViewEnabled(true);
+		if (firstRecord != null) {
+			String[] values = firstRecord.getValues();
+			firstRecord = null;
+			RowView view = output.updateRowView(values);
+			if (viewProcessor != null) {
+				viewProcessed();
+			}
+			return view;
+		}
+		return parseNextRow(null) == null ? null : output.getRowView();
+	}
+
+	/**
+	 * Parses the entirety of the given input and delegates a view of each parsed row to the given {@link RowViewProcessor}.
+	 * The {@link RowView} given to the processor is only valid while {@link RowViewProcessor#rowProcessed(RowView, ParsingContext)} executes.
+	 *
+	 * <p> Rows are not sent to the {@link RowProcessor} defined by {@link CommonParserSettings#getRowProcessor()}. If the given processor is
+	 * also a {@link RowProcessor}, its {@link RowProcessor#processStarted(ParsingContext)} and {@link RowProcessor#processEnded(ParsingContext)}
+	 * methods are invoked when the parsing process starts and ends, unless it is the {@link RowProcessor} defined in the settings, which already
+	 * receives these notifications.
+	 *
+	 * @param reader    The input to be parsed.
+	 * @param processor the processor of each row parsed from the input
+	 *
+	 * @see #parseNextView()
+	 */
+	public final void parse(Reader reader, RowViewProcessor processor) {
+		beginParsing(reader);
+		RowProcessor lifecycle = processor instanceof RowProcessor && processor != this.processor ? (RowProcessor) processor : null;
+		viewProcessor = processor;
+		boolean completed = false;
+		try {
+			if (lifecycle != null) {
+				lifecycle.processStarted(context);
+			}
+			while (!context.isStopped() && parseNextView() != null) {
+				// each row is given to the processor as soon as it is parsed, so the last row is processed before the parser stops.
+			}
+			completed = true;
+		} finally {
+			viewProcessor = null;
+			if (!completed) {
+				try {
+					if (!context.isStopped()) {
+						stopParsing();
+					}
+					if (lifecycle != null) {
+						lifecycle.processEnded(context);
+					}
+				} catch (Throwable ex) {
+					// ignore and throw original error.
+				}
+			}
+		}
+		if (lifecycle != null) {
+			lifecycle.processEnded(context);
+		}
+	}
+
+	private void viewProcessed() {
+		long start = metrics == null ? 0L : System.nanoTime();
+		try {
+			viewProcessor.rowProcessed(output.getRowView(), context);
+		} catch (DataProcessingException ex) {
+			throw ex;
+		} catch (Throwable t) {
+			throw new DataProcessingException("Unexpected error processing input row using RowViewProcessor " + viewProcessor.getClass().getName() + '.', t);
+		} finally {
+			if (metrics != null) {
+				metrics.rowProcessed(System.nanoTime() - start);
+			}
+		}
+	}
+
+	private String[] parseNextRow(String[] reuse) {
 		try {
 			while (!context.isStopped()) {
 				ch = input.nextChar();
@@ -434,8 +927,8 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 					continue;
 				}
 
-				parseRecord();
-				String[] row = output.rowParsed();
+				readRecord();
+				String[] row = output.rowParsed(reuse);
 				if (row != null) {
 					if (recordsToRead >= 0 && context.currentRecord() >= recordsToRead) {
 						context.stop();
@@ -444,14 +937,18 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 							return null;
 						}
 					}
-					rowProcessed(row);
+					if (!output.rowViewEnabled) {
+						rowProcessed(row);
+					} else if (viewProcessor != null) {
+						viewProcessed();
+					}
 					return row;
 				}
 			}
 			stopParsing();
 			return null;
 		} catch (EOFException ex) {
-			String[] row = handleEOF();
+			String[] row = handleEOF(reuse);
 			stopParsing();
 			return row;
 		} catch (NullPointerException ex) {
@@ -516,6 +1013,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 			beginParsing(lineReader);
 		} else {
 			((DefaultCharInputReader) input).reloadBuffer();
+			output.rowViewEnabled = false;
 		}
 		try {
 			while (!context.isStopped()) {
@@ -524,7 +1022,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 					processComment();
 					return null;
 				}
-				parseRecord();
+				readRecord();
 				String[] row = output.rowParsed();
 				if (row != null) {
 					rowProcessed(row);
@@ -550,6 +1048,11 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	}
 
 	private void rowProcessed(String[] row) {
+		rowProcessed(row, context);
+	}
+
+	private void rowProcessed(String[] row, ParsingContext context) {
+		long start = metrics == null ? 0L : System.nanoTime();
 		try {
 			processor.rowProcessed(row, context);
 		} catch (DataProcessingException ex) {
@@ -567,6 +1070,10 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 					, t);
 			ex.restrictContent(errorContentLength);
 			throw ex;
+		} finally {
+			if (metrics != null) {
+				metrics.rowProcessed(System.nanoTime() - start);
+			}
 		}
 	}
 
@@ -576,7 +1083,8 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @param file The file to be parsed.
 	 */
 	public final void parse(File file) {
-		parse(ArgumentUtils.newReader(file));
+		beginParsing(file);
+		parseInput();
 	}
 
 	/**
@@ -586,7 +1094,8 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @param encoding the encoding of the file
 	 */
 	public final void parse(File file, String encoding) {
-		parse(ArgumentUtils.newReader(file, encoding));
+		beginParsing(file, encoding);
+		parseInput();
 	}
 
 	/**
@@ -596,7 +1105,8 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @param encoding the encoding of the file
 	 */
 	public final void parse(File file, Charset encoding) {
-		parse(ArgumentUtils.newReader(file, encoding));
+		beginParsing(file, encoding);
+		parseInput();
 	}
 
 	/**
@@ -605,7 +1115,8 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @param input The input to be parsed. The input stream will be closed automatically.
 	 */
 	public final void parse(InputStream input) {
-		parse(ArgumentUtils.newReader(input));
+		beginParsing(input);
+		parseInput();
 	}
 
 	/**
@@ -615,7 +1126,8 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @param encoding the encoding of the input stream
 	 */
 	public final void parse(InputStream input, String encoding) {
-		parse(ArgumentUtils.newReader(input, encoding));
+		beginParsing(input, encoding);
+		parseInput();
 	}
 
 	/**
@@ -625,7 +1137,8 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @param encoding the encoding of the input stream
 	 */
 	public final void parse(InputStream input, Charset encoding) {
-		parse(ArgumentUtils.newReader(input, encoding));
+		beginParsing(input, encoding);
+		parseInput();
 	}
 
 	/**
@@ -636,7 +1149,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @param file The file to be parsed.
 	 */
 	public final void beginParsing(File file) {
-		beginParsing(ArgumentUtils.newReader(file));
+		beginParsing(file, (Charset) null);
 	}
 
 	/**
@@ -648,7 +1161,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @param encoding the encoding of the file
 	 */
 	public final void beginParsing(File file, String encoding) {
-		beginParsing(ArgumentUtils.newReader(file, encoding));
+		beginParsing(file, Charset.forName(encoding));
 	}
 
 	/**
@@ -660,7 +1173,40 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @param encoding the encoding of the file
 	 */
 	public final void beginParsing(File file, Charset encoding) {
-		beginParsing(ArgumentUtils.newReader(file, encoding));
+		boolean compressed = isCompressed(file);
+		if (settings.isMemoryMappedInputEnabled() && !compressed) {
+			beginParsing(null, settings.newMappedCharInputReader(file, encoding), null);
+		} else if (settings.isByteLevelDecodingEnabled() || compressed) {
+			FileInputStream input;
+			try {
+				input = new FileInputStream(file);
+			} catch (FileNotFoundException e) {
+				throw new IllegalArgumentException(e);
+			}
+			beginParsing(input, encoding);
+		} else {
+			beginParsing(ArgumentUtils.newReader(file, encoding));
+		}
+	}
+
+	/**
+	 * Tests whether the given file is compressed, if {@link CommonParserSettings#isCompressedInputDetectionEnabled()} evaluates to {@code true}.
+	 *
+	 * @param file the file to be parsed
+	 *
+	 * @return {@code true} if compressed input detection is enabled and the file is compressed, otherwise {@code false}.
+	 */
+	private boolean isCompressed(File file) {
+		if (!settings.isCompressedInputDetectionEnabled()) {
+			return false;
+		}
+		try {
+			return Compression.detect(file) != Compression.NONE;
+		} catch (FileNotFoundException e) {
+			throw new IllegalArgumentException(e);
+		} catch (IOException e) {
+			throw new IllegalStateException("Error reading from input", e);
+		}
 	}
 
 	/**
@@ -671,7 +1217,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @param input The input to be parsed. The input stream will be closed automatically in case of errors.
 	 */
 	public final void beginParsing(InputStream input) {
-		beginParsing(ArgumentUtils.newReader(input));
+		beginParsing(input, (Charset) null);
 	}
 
 	/**
@@ -683,7 +1229,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @param encoding the encoding of the input stream
 	 */
 	public final void beginParsing(InputStream input, String encoding) {
-		beginParsing(ArgumentUtils.newReader(input, encoding));
+		beginParsing(input, Charset.forName(encoding));
 	}
 
 	/**
@@ -695,7 +1241,134 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @param encoding the encoding of the input stream
 	 */
 	public final void beginParsing(InputStream input, Charset encoding) {
-		beginParsing(ArgumentUtils.newReader(input, encoding));
+		if (settings.isCompressedInputDetectionEnabled()) {
+			input = settings.newDecompressingInputStream(input);
+		}
+		beginParsing(input, encoding, null);
+	}
+
+	private void beginParsing(InputStream input, Charset encoding, Checkpoint checkpoint) {
+		if (settings.isByteLevelDecodingEnabled()) {
+			Charset charset = encoding == null ? Charset.defaultCharset() : encoding;
+			if (ByteCharInputReader.isSupported(charset)) {
+				beginParsing(null, settings.newByteCharInputReader(input, charset), checkpoint);
+				return;
+			}
+		}
+		beginParsing(ArgumentUtils.newReader(input, encoding), null, checkpoint);
+	}
+
+	/**
+	 * Starts an iterator-style parsing cycle from a {@link Checkpoint}, previously obtained from {@link #getCheckpoint()} while parsing the same file.
+	 * The record that follows the checkpoint will be the first one returned by {@link AbstractParser#parseNext()}.
+	 * If a {@link RowProcessor} is provided in the configuration, it will be used to perform additional processing.
+	 * The user may invoke @link {@link AbstractParser#stopParsing()} to stop reading from the input.
+	 *
+	 * @param file       The file to be parsed.
+	 * @param checkpoint the position of the file where parsing is resumed.
+	 */
+	public final void beginParsing(File file, Checkpoint checkpoint) {
+		beginParsing(file, (Charset) null, checkpoint);
+	}
+
+	/**
+	 * Starts an iterator-style parsing cycle from a {@link Checkpoint}, previously obtained from {@link #getCheckpoint()} while parsing the same file.
+	 * The record that follows the checkpoint will be the first one returned by {@link AbstractParser#parseNext()}.
+	 * If a {@link RowProcessor} is provided in the configuration, it will be used to perform additional processing.
+	 * The user may invoke @link {@link AbstractParser#stopParsing()} to stop reading from the input.
+	 *
+	 * @param file       The file to be parsed.
+	 * @param encoding   the encoding of the file
+	 * @param checkpoint the position of the file where parsing is resumed.
+	 */
+	public final void beginParsing(File file, String encoding, Checkpoint checkpoint) {
+		beginParsing(file, Charset.forName(encoding), checkpoint);
+	}
+
+	/**
+	 * Starts an iterator-style parsing cycle from a {@link Checkpoint}, previously obtained from {@link #getCheckpoint()} while parsing the same file.
+	 * The record that follows the checkpoint will be the first one returned by {@link AbstractParser#parseNext()}.
+	 * If a {@link RowProcessor} is provided in the configuration, it will be used to perform additional processing.
+	 * The user may invoke @link {@link AbstractParser#stopParsing()} to stop reading from the input.
+	 *
+	 * <p> If the byte offset of the checkpoint is known, the file is read from that position and the preceding content is never read.
+	 * Compressed files (see {@link CommonParserSettings#isCompressedInputDetectionEnabled()}) must be decompressed from the beginning, but the preceding
+	 * content is skipped without being decoded or parsed. If the byte offset is unknown, the characters that precede the checkpoint are decoded and skipped,
+	 * without being parsed. The number of rows to skip defined in {@link CommonParserSettings#getNumberOfRowsToSkip()} is not applied again.
+	 *
+	 * @param file       The file to be parsed.
+	 * @param encoding   the encoding of the file
+	 * @param checkpoint the position of the file where parsing is resumed. If {@code null}, the file is parsed from the beginning.
+	 */
+	public final void beginParsing(File file, Charset encoding, Checkpoint checkpoint) {
+		if (checkpoint == null) {
+			beginParsing(file, encoding);
+			return;
+		}
+		boolean compressed = isCompressed(file);
+		long byteOffset = checkpoint.getByteOffset();
+		if (settings.isMemoryMappedInputEnabled() && !compressed && byteOffset >= 0) {
+			beginParsing(null, settings.newMappedCharInputReader(file, encoding, byteOffset, -1L), checkpoint);
+			return;
+		}
+
+		FileInputStream fileInput;
+		try {
+			fileInput = new FileInputStream(file);
+		} catch (FileNotFoundException e) {
+			throw new IllegalArgumentException(e);
+		}
+		InputStream input = fileInput;
+		try {
+			if (compressed) {
+				input = settings.newDecompressingInputStream(input);
+			}
+			if (byteOffset >= 0) {
+				if (compressed) {
+					skip(input, byteOffset);
+				} else {
+					fileInput.getChannel().position(byteOffset);
+				}
+				beginParsing(input, encoding, checkpoint);
+			} else {
+				Reader reader = ArgumentUtils.newReader(input, encoding);
+				skip(reader, checkpoint.getCharOffset());
+				beginParsing(reader, null, checkpoint);
+			}
+		} catch (IOException e) {
+			try {
+				input.close();
+			} catch (IOException ex) {
+				//ignore and throw original error.
+			}
+			throw new IllegalStateException("Error reading from input", e);
+		}
+	}
+
+	private static void skip(InputStream input, long bytes) throws IOException {
+		while (bytes > 0) {
+			long skipped = input.skip(bytes);
+			if (skipped <= 0) {
+				if (input.read() == -1) {
+					throw new java.io.EOFException("Checkpoint is beyond the end of the input");
+				}
+				skipped = 1;
+			}
+			bytes -= skipped;
+		}
+	}
+
+	private static void skip(Reader reader, long chars) throws IOException {
+		while (chars > 0) {
+			long skipped = reader.skip(chars);
+			if (skipped <= 0) {
+				if (reader.read() == -1) {
+					throw new java.io.EOFException("Checkpoint is beyond the end of the input");
+				}
+				skipped = 1;
+			}
+			chars -= skipped;
+		}
 	}
 
 	/**
@@ -706,7 +1379,8 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the file.
 	 */
 	public final List<String[]> parseAll(File file) {
-		return parseAll(ArgumentUtils.newReader(file));
+		beginParsing(file);
+		return parseAllRows();
 	}
 
 	/**
@@ -718,7 +1392,8 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the file.
 	 */
 	public final List<String[]> parseAll(File file, String encoding) {
-		return parseAll(ArgumentUtils.newReader(file, encoding));
+		beginParsing(file, encoding);
+		return parseAllRows();
 	}
 
 	/**
@@ -730,7 +1405,8 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the file.
 	 */
 	public final List<String[]> parseAll(File file, Charset encoding) {
-		return parseAll(ArgumentUtils.newReader(file, encoding));
+		beginParsing(file, encoding);
+		return parseAllRows();
 	}
 
 	/**
@@ -741,7 +1417,8 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the input.
 	 */
 	public final List<String[]> parseAll(InputStream input) {
-		return parseAll(ArgumentUtils.newReader(input));
+		beginParsing(input);
+		return parseAllRows();
 	}
 
 	/**
@@ -753,7 +1430,8 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the input.
 	 */
 	public final List<String[]> parseAll(InputStream input, String encoding) {
-		return parseAll(ArgumentUtils.newReader(input, encoding));
+		beginParsing(input, encoding);
+		return parseAllRows();
 	}
 
 	/**
@@ -765,7 +1443,8 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the input.
 	 */
 	public final List<String[]> parseAll(InputStream input, Charset encoding) {
-		return parseAll(ArgumentUtils.newReader(input, encoding));
+		beginParsing(input, encoding);
+		return parseAllRows();
 	}
 
 	/**
@@ -776,7 +1455,8 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the file.
 	 */
 	public final List<Record> parseAllRecords(File file) {
-		return parseAllRecords(ArgumentUtils.newReader(file));
+		beginParsing(file);
+		return parseAllRecords();
 	}
 
 	/**
@@ -788,7 +1468,8 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the file.
 	 */
 	public final List<Record> parseAllRecords(File file, String encoding) {
-		return parseAllRecords(ArgumentUtils.newReader(file, encoding));
+		beginParsing(file, encoding);
+		return parseAllRecords();
 	}
 
 	/**
@@ -800,7 +1481,8 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the file.
 	 */
 	public final List<Record> parseAllRecords(File file, Charset encoding) {
-		return parseAllRecords(ArgumentUtils.newReader(file, encoding));
+		beginParsing(file, encoding);
+		return parseAllRecords();
 	}
 
 	/**
@@ -811,7 +1493,8 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the input.
 	 */
 	public final List<Record> parseAllRecords(InputStream input) {
-		return parseAllRecords(ArgumentUtils.newReader(input));
+		beginParsing(input);
+		return parseAllRecords();
 	}
 
 	/**
@@ -823,7 +1506,8 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the input.
 	 */
 	public final List<Record> parseAllRecords(InputStream input, String encoding) {
-		return parseAllRecords(ArgumentUtils.newReader(input, encoding));
+		beginParsing(input, encoding);
+		return parseAllRecords();
 	}
 
 	/**
@@ -835,7 +1519,8 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the input.
 	 */
 	public final List<Record> parseAllRecords(InputStream input, Charset encoding) {
-		return parseAllRecords(ArgumentUtils.newReader(input, encoding));
+		beginParsing(input, encoding);
+		return parseAllRecords();
 	}
 
 	/**
@@ -846,8 +1531,12 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the input.
 	 */
 	public final List<Record> parseAllRecords(Reader reader) {
-		List<Record> out = new ArrayList<Record>(10000);
 		beginParsing(reader);
+		return parseAllRecords();
+	}
+
+	private List<Record> parseAllRecords() {
+		List<Record> out = new ArrayList<Record>(10000);
 		Record record;
 		while ((record = parseNextRecord()) != null) {
 			out.add(record);
@@ -913,6 +1602,47 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 		return context;
 	}
 
+	/**
+	 * Returns the current position of the parser in its input, which can be stored and later given to {@link #beginParsing(File, Charset, Checkpoint)}
+	 * to resume parsing from the next record.
+	 *
+	 * <p> The checkpoint is only consistent at the boundary between records: after {@link #beginParsing(Reader)}, after {@link #parseNext()} returns, or
+	 * while a {@link RowProcessor} processes a record, in which case the checkpoint points to the record that follows it.
+	 * Checkpoints are not available when parsing with {@link #parseParallel(File, Charset, int)}.
+	 *
+	 * @return the checkpoint at the current position of the input.
+	 */
+	public final Checkpoint getCheckpoint() {
+		if (context == null) {
+			throw new IllegalStateException("Cannot create a checkpoint without invoking method beginParsing(Reader) first");
+		}
+		if (parallel) {
+			throw new IllegalStateException("Checkpoints are not available when parsing in parallel");
+		}
+		long byteOffset = -1L;
+		if (byteOffsetBase >= 0 && input instanceof AbstractCharInputReader) {
+			long offset = ((AbstractCharInputReader) input).byteOffset();
+			if (offset >= 0) {
+				byteOffset = byteOffsetBase + offset;
+			}
+		}
+		String[] headers = null;
+		if (output.isInitialized()) {
+			headers = output.parsedHeaders != null ? output.parsedHeaders : settings.getHeaders();
+		}
+		return new Checkpoint(byteOffset, Math.max(0L, input.charCount() - 1), input.lineCount(), output.getCurrentRecord(), headers);
+	}
+
+	/**
+	 * Returns the metrics collected from the parsing process, if enabled with {@link CommonParserSettings#setMetricsEnabled(boolean)}.
+	 * Metrics are reset whenever a new parsing process is started.
+	 *
+	 * @return the metrics of the current (or last) parsing process, or {@code null} if disabled.
+	 */
+	public final ParsingMetrics getMetrics() {
+		return metrics;
+	}
+
 	/**
 	 * Returns the metadata associated with {@link Record}s parsed from the input using {@link AbstractParser#parseAllRecords(File)} or {@link AbstractParser#parseNextRecord()}.
 	 *
@@ -927,4 +1657,297 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 		}
 		throw new IllegalStateException("No record metadata available. The parsing process has not been started yet.");
 	}
+
+	/**
+	 * Returns an {@link Iterable} over the rows parsed from the given reader. Parsing starts when {@link Iterable#iterator()} is invoked
+	 * and rows are parsed one by one as the iterator advances, using {@link AbstractParser#parseNext()}. The input can only
+	 * be read once, so only one iterator can be obtained from the returned {@link Iterable}. The iteration ends if another parsing
+	 * process is started with this parser.
+	 *
+	 * @param input The input to be parsed.
+	 *
+	 * @return an {@link Iterable} that parses the rows of the given reader on demand.
+	 */
+	public final Iterable<String[]> iterate(Reader input) {
+		return new RowIterable(input, null);
+	}
+
+	/**
+	 * Returns an {@link Iterable} over the rows parsed from the given file. Parsing starts when {@link Iterable#iterator()} is invoked
+	 * and rows are parsed one by one as the iterator advances, using {@link AbstractParser#parseNext()}. Each new iterator
+	 * starts a new parsing process with this parser, which ends any iteration in progress.
+	 *
+	 * @param file The file to be parsed.
+	 *
+	 * @return an {@link Iterable} that parses the rows of the given file on demand.
+	 */
+	public final Iterable<String[]> iterate(File file) {
+		return new RowIterable(file, null);
+	}
+
+	/**
+	 * Returns an {@link Iterable} over the rows parsed from the given file. Parsing starts when {@link Iterable#iterator()} is invoked
+	 * and rows are parsed one by one as the iterator advances, using {@link AbstractParser#parseNext()}. Each new iterator
+	 * starts a new parsing process with this parser, which ends any iteration in progress.
+	 *
+	 * @param file     The file to be parsed.
+	 * @param encoding the encoding of the file
+	 *
+	 * @return an {@link Iterable} that parses the rows of the given file on demand.
+	 */
+	public final Iterable<String[]> iterate(File file, String encoding) {
+		return new RowIterable(file, Charset.forName(encoding));
+	}
+
+	/**
+	 * Returns an {@link Iterable} over the rows parsed from the given file. Parsing starts when {@link Iterable#iterator()} is invoked
+	 * and rows are parsed one by one as the iterator advances, using {@link AbstractParser#parseNext()}. Each new iterator
+	 * starts a new parsing process with this parser, which ends any iteration in progress.
+	 *
+	 * @param file     The file to be parsed.
+	 * @param encoding the encoding of the file
+	 *
+	 * @return an {@link Iterable} that parses the rows of the given file on demand.
+	 */
+	public final Iterable<String[]> iterate(File file, Charset encoding) {
+		return new RowIterable(file, encoding);
+	}
+
+	/**
+	 * Returns an {@link Iterable} over the rows parsed from the given input stream. Parsing starts when {@link Iterable#iterator()} is invoked
+	 * and rows are parsed one by one as the iterator advances, using {@link AbstractParser#parseNext()}. The input can only
+	 * be read once, so only one iterator can be obtained from the returned {@link Iterable}. The iteration ends if another parsing
+	 * process is started with this parser.
+	 *
+	 * @param input The input to be parsed.
+	 *
+	 * @return an {@link Iterable} that parses the rows of the given input stream on demand.
+	 */
+	public final Iterable<String[]> iterate(InputStream input) {
+		return new RowIterable(input, null);
+	}
+
+	/**
+	 * Returns an {@link Iterable} over the rows parsed from the given input stream. Parsing starts when {@link Iterable#iterator()} is invoked
+	 * and rows are parsed one by one as the iterator advances, using {@link AbstractParser#parseNext()}. The input can only
+	 * be read once, so only one iterator can be obtained from the returned {@link Iterable}. The iteration ends if another parsing
+	 * process is started with this parser.
+	 *
+	 * @param input    The input to be parsed.
+	 * @param encoding the encoding of the input stream
+	 *
+	 * @return an {@link Iterable} that parses the rows of the given input stream on demand.
+	 */
+	public final Iterable<String[]> iterate(InputStream input, String encoding) {
+		return new RowIterable(input, Charset.forName(encoding));
+	}
+
+	/**
+	 * Returns an {@link Iterable} over the rows parsed from the given input stream. Parsing starts when {@link Iterable#iterator()} is invoked
+	 * and rows are parsed one by one as the iterator advances, using {@link AbstractParser#parseNext()}. The input can only
+	 * be read once, so only one iterator can be obtained from the returned {@link Iterable}. The iteration ends if another parsing
+	 * process is started with this parser.
+	 *
+	 * @param input    The input to be parsed.
+	 * @param encoding the encoding of the input stream
+	 *
+	 * @return an {@link Iterable} that parses the rows of the given input stream on demand.
+	 */
+	public final Iterable<String[]> iterate(InputStream input, Charset encoding) {
+		return new RowIterable(input, encoding);
+	}
+
+	/**
+	 * Returns an {@link Iterable} over the {@link Record}s parsed from the given reader. Parsing starts when {@link Iterable#iterator()} is invoked
+	 * and records are parsed one by one as the iterator advances, using {@link AbstractParser#parseNextRecord()}. The input can only
+	 * be read once, so only one iterator can be obtained from the returned {@link Iterable}. The iteration ends if another parsing
+	 * process is started with this parser.
+	 *
+	 * @param input The input to be parsed.
+	 *
+	 * @return an {@link Iterable} that parses the records of the given reader on demand.
+	 */
+	public final Iterable<Record> iterateRecords(Reader input) {
+		return new RecordIterable(input, null);
+	}
+
+	/**
+	 * Returns an {@link Iterable} over the {@link Record}s parsed from the given file. Parsing starts when {@link Iterable#iterator()} is invoked
+	 * and records are parsed one by one as the iterator advances, using {@link AbstractParser#parseNextRecord()}. Each new iterator
+	 * starts a new parsing process with this parser, which ends any iteration in progress.
+	 *
+	 * @param file The file to be parsed.
+	 *
+	 * @return an {@link Iterable} that parses the records of the given file on demand.
+	 */
+	public final Iterable<Record> iterateRecords(File file) {
+		return new RecordIterable(file, null);
+	}
+
+	/**
+	 * Returns an {@link Iterable} over the {@link Record}s parsed from the given file. Parsing starts when {@link Iterable#iterator()} is invoked
+	 * and records are parsed one by one as the iterator advances, using {@link AbstractParser#parseNextRecord()}. Each new iterator
+	 * starts a new parsing process with this parser, which ends any iteration in progress.
+	 *
+	 * @param file     The file to be parsed.
+	 * @param encoding the encoding of the file
+	 *
+	 * @return an {@link Iterable} that parses the records of the given file on demand.
+	 */
+	public final Iterable<Record> iterateRecords(File file, String encoding) {
+		return new RecordIterable(file, Charset.forName(encoding));
+	}
+
+	/**
+	 * Returns an {@link Iterable} over the {@link Record}s parsed from the given file. Parsing starts when {@link Iterable#iterator()} is invoked
+	 * and records are parsed one by one as the iterator advances, using {@link AbstractParser#parseNextRecord()}. Each new iterator
+	 * starts a new parsing process with this parser, which ends any iteration in progress.
+	 *
+	 * @param file     The file to be parsed.
+	 * @param encoding the encoding of the file
+	 *
+	 * @return an {@link Iterable} that parses the records of the given file on demand.
+	 */
+	public final Iterable<Record> iterateRecords(File file, Charset encoding) {
+		return new RecordIterable(file, encoding);
+	}
+
+	/**
+	 * Returns an {@link Iterable} over the {@link Record}s parsed from the given input stream. Parsing starts when {@link Iterable#iterator()} is invoked
+	 * and records are parsed one by one as the iterator advances, using {@link AbstractParser#parseNextRecord()}. The input can only
+	 * be read once, so only one iterator can be obtained from the returned {@link Iterable}. The iteration ends if another parsing
+	 * process is started with this parser.
+	 *
+	 * @param input The input to be parsed.
+	 *
+	 * @return an {@link Iterable} that parses the records of the given input stream on demand.
+	 */
+	public final Iterable<Record> iterateRecords(InputStream input) {
+		return new RecordIterable(input, null);
+	}
+
+	/**
+	 * Returns an {@link Iterable} over the {@link Record}s parsed from the given input stream. Parsing starts when {@link Iterable#iterator()} is invoked
+	 * and records are parsed one by one as the iterator advances, using {@link AbstractParser#parseNextRecord()}. The input can only
+	 * be read once, so only one iterator can be obtained from the returned {@link Iterable}. The iteration ends if another parsing
+	 * process is started with this parser.
+	 *
+	 * @param input    The input to be parsed.
+	 * @param encoding the encoding of the input stream
+	 *
+	 * @return an {@link Iterable} that parses the records of the given input stream on demand.
+	 */
+	public final Iterable<Record> iterateRecords(InputStream input, String encoding) {
+		return new RecordIterable(input, Charset.forName(encoding));
+	}
+
+	/**
+	 * Returns an {@link Iterable} over the {@link Record}s parsed from the given input stream. Parsing starts when {@link Iterable#iterator()} is invoked
+	 * and records are parsed one by one as the iterator advances, using {@link AbstractParser#parseNextRecord()}. The input can only
+	 * be read once, so only one iterator can be obtained from the returned {@link Iterable}. The iteration ends if another parsing
+	 * process is started with this parser.
+	 *
+	 * @param input    The input to be parsed.
+	 * @param encoding the encoding of the input stream
+	 *
+	 * @return an {@link Iterable} that parses the records of the given input stream on demand.
+	 */
+	public final Iterable<Record> iterateRecords(InputStream input, Charset encoding) {
+		return new RecordIterable(input, encoding);
+	}
+
+	/**
+	 * Base class of the {@link Iterable}s returned by {@link #iterate(Reader)} and {@link #iterateRecords(Reader)} and their variants.
+	 * An iterator stops producing elements once a new parsing process is started with this parser, as each new parsing
+	 * process creates a new {@link ParsingContext}.
+	 *
+	 * @param <E> the type of element produced by each iteration.
+	 */
+	private abstract class ParsingIterable<E> implements Iterable<E> {
+
+		private final Object input;
+		private final Charset encoding;
+		private final String elements;
+		private boolean iterated;
+
+		ParsingIterable(Object input, Charset encoding, String elements) {
+			this.input = input;
+			this.encoding = encoding;
+			this.elements = elements;
+		}
+
+		abstract E parseNextElement();
+
+		@Override
+		public final Iterator<E> iterator() {
+			if (!(input instanceof File)) {
+				if (iterated) {
+					throw new IllegalStateException("Input has already been parsed. Only one iterator can be obtained when iterating over a Reader or InputStream");
+				}
+				iterated = true;
+			}
+			if (input instanceof File) {
+				beginParsing((File) input, encoding);
+			} else if (input instanceof InputStream) {
+				beginParsing((InputStream) input, encoding);
+			} else {
+				beginParsing((Reader) input);
+			}
+			final ParsingContext iterationContext = context;
+
+			return new Iterator<E>() {
+				private E next;
+				private boolean fetched;
+
+				@Override
+				public boolean hasNext() {
+					if (!fetched) {
+						next = context == iterationContext ? parseNextElement() : null;
+						fetched = true;
+					}
+					return next != null;
+				}
+
+				@Override
+				public E next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException("No more " + elements + " to parse");
+					}
+					E out = next;
+					next = null;
+					fetched = false;
+					return out;
+				}
+
+				@Override
+				public void remove() {
+					throw new UnsupportedOperationException("Can't remove " + elements);
+				}
+			};
+		}
+	}
+
+	private final class RowIterable extends ParsingIterable<String[]> {
+
+		RowIterable(Object input, Charset encoding) {
+			super(input, encoding, "rows");
+		}
+
+		@Override
+		String[] parseNextElement() {
+			return parseNext();
+		}
+	}
+
+	private final class RecordIterable extends ParsingIterable<Record> {
+
+		RecordIterable(Object input, Charset encoding) {
+			super(input, encoding, "records");
+		}
+
+		@Override
+		Record parseNextElement() {
+			return parseNextRecord();
+		}
+	}
 }
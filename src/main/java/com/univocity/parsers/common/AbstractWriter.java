@@ -17,6 +17,7 @@ package com.univocity.parsers.common;
 
 import com.univocity.parsers.common.fields.*;
 import com.univocity.parsers.common.input.*;
+import com.univocity.parsers.common.input.concurrent.*;
 import com.univocity.parsers.common.processor.*;
 import com.univocity.parsers.fixed.*;
 
@@ -51,7 +52,7 @@ public abstract class AbstractWriter<S extends CommonWriterSettings<?>> {
 	@SuppressWarnings("rawtypes")
 	private final RowWriterProcessor writerProcessor;
 
-	private BufferedWriter writer;
+	private Writer writer;
 	private final boolean skipEmptyLines;
 	private final char comment;
 	private final WriterCharAppender rowAppender;
@@ -104,7 +105,7 @@ public abstract class AbstractWriter<S extends CommonWriterSettings<?>> {
 	 * @param settings the writer configuration
 	 */
 	public AbstractWriter(File file, S settings) {
-		this(ArgumentUtils.newWriter(file), settings);
+		this(newWriter(file, null, settings), settings);
 	}
 
 	/**
@@ -115,7 +116,7 @@ public abstract class AbstractWriter<S extends CommonWriterSettings<?>> {
 	 * @param settings the writer configuration
 	 */
 	public AbstractWriter(File file, String encoding, S settings) {
-		this(ArgumentUtils.newWriter(file, encoding), settings);
+		this(newWriter(file, Charset.forName(encoding), settings), settings);
 	}
 
 	/**
@@ -126,7 +127,7 @@ public abstract class AbstractWriter<S extends CommonWriterSettings<?>> {
 	 * @param settings the writer configuration
 	 */
 	public AbstractWriter(File file, Charset encoding, S settings) {
-		this(ArgumentUtils.newWriter(file, encoding), settings);
+		this(newWriter(file, encoding, settings), settings);
 	}
 
 	/**
@@ -136,7 +137,7 @@ public abstract class AbstractWriter<S extends CommonWriterSettings<?>> {
 	 * @param settings the writer configuration
 	 */
 	public AbstractWriter(OutputStream output, S settings) {
-		this(ArgumentUtils.newWriter(output), settings);
+		this(newWriter(output, null, settings), settings);
 	}
 
 	/**
@@ -147,7 +148,7 @@ public abstract class AbstractWriter<S extends CommonWriterSettings<?>> {
 	 * @param settings the writer configuration
 	 */
 	public AbstractWriter(OutputStream output, String encoding, S settings) {
-		this(ArgumentUtils.newWriter(output, encoding), settings);
+		this(newWriter(output, Charset.forName(encoding), settings), settings);
 	}
 
 	/**
@@ -158,7 +159,19 @@ public abstract class AbstractWriter<S extends CommonWriterSettings<?>> {
 	 * @param settings the writer configuration
 	 */
 	public AbstractWriter(OutputStream output, Charset encoding, S settings) {
-		this(ArgumentUtils.newWriter(output, encoding), settings);
+		this(newWriter(output, encoding, settings), settings);
+	}
+
+	private static Writer newWriter(File file, Charset encoding, CommonWriterSettings<?> settings) {
+		return newWriter(ArgumentUtils.newOutputStream(file), encoding, settings);
+	}
+
+	private static Writer newWriter(OutputStream output, Charset encoding, CommonWriterSettings<?> settings) {
+		Charset charset = encoding == null ? Charset.defaultCharset() : encoding;
+		if (settings.isByteLevelEncodingEnabled() && ByteCharInputReader.isSupported(charset)) {
+			return new ByteEncodingWriter(output, charset, 64 * 1024);
+		}
+		return ArgumentUtils.newWriter(output, encoding);
 	}
 
 	/**
@@ -185,8 +198,10 @@ public abstract class AbstractWriter<S extends CommonWriterSettings<?>> {
 		this.rowAppender = new WriterCharAppender(settings.getMaxCharsPerColumn(), "", settings.getFormat());
 
 		if (writer != null) {
-			if (writer instanceof BufferedWriter) {
-				this.writer = (BufferedWriter) writer;
+			if (settings.getWriteOutputOnSeparateThread()) {
+				this.writer = new ConcurrentWriter(writer, 64 * 1024);
+			} else if (writer instanceof BufferedWriter || writer instanceof ByteEncodingWriter) {
+				this.writer = writer;
 			} else {
 				this.writer = new BufferedWriter(writer);
 			}
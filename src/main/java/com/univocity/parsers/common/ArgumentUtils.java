@@ -266,6 +266,15 @@ public class ArgumentUtils {
 	 * @return {@link java.io.Writer} for the given file
 	 */
 	public static Writer newWriter(File file, Charset encoding) {
+		return newWriter(newOutputStream(file), encoding);
+	}
+
+	/**
+	 * Creates a {@link java.io.FileOutputStream} for a file, creating the file and its parent directories if they don't exist.
+	 * @param file the file to be written
+	 * @return {@link java.io.OutputStream} for the given file
+	 */
+	public static OutputStream newOutputStream(File file) {
 		if (!file.exists()) {
 			File parent = file.getParentFile();
 			if (parent != null && !parent.exists()) {
@@ -285,7 +294,7 @@ public class ArgumentUtils {
 			throw new IllegalArgumentException(e);
 		}
 
-		return newWriter(os, encoding);
+		return os;
 	}
 
 	/**
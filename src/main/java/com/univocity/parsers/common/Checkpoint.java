@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * The position of a parser in its input, at the boundary between two records, as returned by {@link AbstractParser#getCheckpoint()}.
+ *
+ * <p> A checkpoint can be stored and later given to {@link AbstractParser#beginParsing(File, java.nio.charset.Charset, Checkpoint)} to resume parsing a file from
+ * the record that follows it. The file is read from the byte offset of the checkpoint, if known, so that the preceding content is not read again.
+ * Otherwise the preceding characters are decoded and skipped without being parsed.
+ *
+ * <p> The byte offset of a checkpoint is only known if the input was read with {@link CommonParserSettings#isMemoryMappedInputEnabled()} or
+ * {@link CommonParserSettings#isByteLevelDecodingEnabled()}, in US-ASCII, ISO-8859-1 or UTF-8.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see AbstractParser#getCheckpoint()
+ */
+public final class Checkpoint implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final long byteOffset;
+	private final long charOffset;
+	private final long lineCount;
+	private final long recordCount;
+	private final String[] headers;
+
+	/**
+	 * Creates a checkpoint, usually from values returned by a checkpoint that was previously stored.
+	 *
+	 * @param byteOffset  the number of bytes read from the input before the next record, or -1 if unknown.
+	 * @param charOffset  the number of characters read from the input before the next record.
+	 * @param lineCount   the number of lines read from the input before the next record.
+	 * @param recordCount the number of records parsed before the next record.
+	 * @param headers     the headers of the input, or {@code null} if the first row of the input was not processed yet.
+	 */
+	public Checkpoint(long byteOffset, long charOffset, long lineCount, long recordCount, String[] headers) {
+		if (charOffset < 0 || lineCount < 0 || recordCount < 0) {
+			throw new IllegalArgumentException("Invalid checkpoint. Offsets and counts can't be negative");
+		}
+		this.byteOffset = byteOffset < 0 ? -1L : byteOffset;
+		this.charOffset = charOffset;
+		this.lineCount = lineCount;
+		this.recordCount = recordCount;
+		this.headers = headers == null ? null : headers.clone();
+	}
+
+	/**
+	 * Returns the number of bytes read from the input before the next record, which is the position where parsing is resumed.
+	 *
+	 * @return the byte offset of the next record, or -1 if unknown.
+	 */
+	public long getByteOffset() {
+		return byteOffset;
+	}
+
+	/**
+	 * Returns the number of characters read from the input before the next record.
+	 *
+	 * @return the character offset of the next record.
+	 */
+	public long getCharOffset() {
+		return charOffset;
+	}
+
+	/**
+	 * Returns the number of lines read from the input before the next record.
+	 *
+	 * @return the line count at this checkpoint.
+	 */
+	public long getLineCount() {
+		return lineCount;
+	}
+
+	/**
+	 * Returns the number of records parsed before the next record.
+	 *
+	 * @return the record count at this checkpoint.
+	 */
+	public long getRecordCount() {
+		return recordCount;
+	}
+
+	/**
+	 * Returns the headers of the input, which are restored when parsing is resumed.
+	 *
+	 * @return the headers of the input, or {@code null} if the first row of the input was not processed when the checkpoint was created.
+	 */
+	public String[] getHeaders() {
+		return headers == null ? null : headers.clone();
+	}
+
+	@Override
+	public String toString() {
+		return "Checkpoint{byteOffset=" + byteOffset + ", charOffset=" + charOffset + ", lineCount=" + lineCount + ", recordCount=" + recordCount + ", headers=" + Arrays.toString(headers) + '}';
+	}
+}
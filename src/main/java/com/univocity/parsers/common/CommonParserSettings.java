@@ -23,6 +23,8 @@ import com.univocity.parsers.common.input.concurrent.*;
 import com.univocity.parsers.common.processor.*;
 import com.univocity.parsers.common.processor.core.*;
 
+import java.io.*;
+import java.nio.charset.*;
 import java.util.*;
 
 /**
@@ -44,6 +46,17 @@ import java.util.*;
  * <li><b>numberOfRecordsToRead <i>(defaults to -1)</i>:</b> Defines how many (valid) records are to be parsed before the process is stopped. A negative value indicates there's no limit.</li>
  * <li><b>lineSeparatorDetectionEnabled <i>(defaults to false)</i>:</b> Attempts to identify what is the line separator being used in the input.
  * The first row of the input will be read until a sequence of '\r\n', or characters '\r' or '\n' is found. If a match is found, then it will be used as the line separator to use to parse the input</li>
+ * <li><b>memoryMappedInputEnabled <i>(defaults to false)</i>:</b> Indicates whether files given to the parser should be mapped into memory and decoded
+ * directly from the mapped region (using {@link MappedFileCharInputReader}), instead of being read through a {@link java.io.Reader}</li>
+ * <li><b>byteLevelDecodingEnabled <i>(defaults to false)</i>:</b> Indicates whether input streams and files encoded in US-ASCII, ISO-8859-1 or UTF-8
+ * should be decoded by the parser itself (using {@link ByteCharInputReader}), instead of being read through a {@link java.io.Reader}</li>
+ * <li><b>metricsEnabled <i>(defaults to false)</i>:</b> Indicates whether the parser should collect {@link ParsingMetrics}, such as the number of records
+ * parsed per second and the time spent reading the input, parsing and processing records</li>
+ * <li><b>compressedInputDetectionEnabled <i>(defaults to false)</i>:</b> Indicates whether files and input streams given to the parser should be
+ * decompressed if their first bytes identify them as GZIP or ZLIB (deflate) data (see {@link Compression})</li>
+ * <li><b>internedFields <i>(defaults to none)</i>:</b> The fields whose repeated values should be returned as the same String instance,
+ * selected with {@link #internFields(String...)}, {@link #internFields(Enum...)} or {@link #internIndexes(Integer...)}</li>
+ * <li><b>internCacheSize <i>(defaults to 1024, up to 1048576)</i>:</b> The maximum number of distinct values of each interned field kept in memory to be reused</li>
  * </ul>
  *
  * @param <F> the format supported by this parser.
@@ -64,6 +77,13 @@ public abstract class CommonParserSettings<F extends Format> extends CommonSetti
 	private boolean lineSeparatorDetectionEnabled = false;
 	private long numberOfRowsToSkip = 0L;
 	private boolean commentCollectionEnabled = false;
+	private boolean memoryMappedInputEnabled = false;
+	private boolean byteLevelDecodingEnabled = false;
+	private boolean parallelRecordOrderingEnabled = true;
+	private boolean metricsEnabled = false;
+	private boolean compressedInputDetectionEnabled = false;
+	private FieldSelector internedFields = null;
+	private int internCacheSize = 1024;
 
 	/**
 	 * Indicates whether or not a separate thread will be used to read characters from the input while parsing (defaults true if the number of available
@@ -169,6 +189,87 @@ public abstract class CommonParserSettings<F extends Format> extends CommonSetti
 		}
 	}
 
+	/**
+	 * An implementation of {@link CharInputReader} which maps the given file into memory and decodes its characters directly from the mapped region.
+	 *
+	 * @param file     the file to be read
+	 * @param encoding the encoding of the file
+	 *
+	 * @return a {@link MappedFileCharInputReader} for the given file.
+	 */
+	CharInputReader newMappedCharInputReader(File file, Charset encoding) {
+		return newMappedCharInputReader(file, encoding, 0L, -1L);
+	}
+
+	/**
+	 * An implementation of {@link CharInputReader} which maps a region of the given file into memory and decodes its characters directly from the mapped region.
+	 *
+	 * @param file     the file to be read
+	 * @param encoding the encoding of the file
+	 * @param start    the offset of the first byte to read
+	 * @param end      the offset after the last byte to read. A negative value indicates the end of the file.
+	 *
+	 * @return a {@link MappedFileCharInputReader} for the given region of the file.
+	 */
+	CharInputReader newMappedCharInputReader(File file, Charset encoding, long start, long end) {
+		MappedFileCharInputReader out;
+		if (lineSeparatorDetectionEnabled) {
+			out = new MappedFileCharInputReader(getFormat().getNormalizedNewline(), this.getInputBufferSize(), file, encoding);
+		} else {
+			out = new MappedFileCharInputReader(getFormat().getLineSeparator(), getFormat().getNormalizedNewline(), this.getInputBufferSize(), file, encoding);
+		}
+		out.setRange(start, end);
+		return out;
+	}
+
+	/**
+	 * Wraps an input stream with compressed data in a stream that decompresses it, as identified by {@link Compression#detect(InputStream)}.
+	 * If {@link #getReadInputOnSeparateThread()} evaluates to {@code true}, the input is decompressed in a separate thread (using {@link ConcurrentInputStream}).
+	 *
+	 * @param input the input stream that may contain compressed data
+	 *
+	 * @return an input stream that returns the decompressed contents of the given input.
+	 */
+	InputStream newDecompressingInputStream(InputStream input) {
+		try {
+			if (!input.markSupported()) {
+				input = new BufferedInputStream(input);
+			}
+			Compression compression = Compression.detect(input);
+			if (compression == Compression.NONE) {
+				return input;
+			}
+			InputStream out = compression.wrap(input);
+			if (readInputOnSeparateThread) {
+				out = new ConcurrentInputStream(out, 64 * 1024, 10);
+			}
+			return out;
+		} catch (IOException e) {
+			try {
+				input.close();
+			} catch (IOException ex) {
+				//ignore and report the original error
+			}
+			throw new IllegalStateException("Error reading from input", e);
+		}
+	}
+
+	/**
+	 * An implementation of {@link CharInputReader} which decodes the bytes of the given input stream directly, without a {@link java.io.Reader}.
+	 *
+	 * @param input    the input stream to be read
+	 * @param encoding the encoding of the input stream, which must be supported by {@link ByteCharInputReader#isSupported(Charset)}
+	 *
+	 * @return a {@link ByteCharInputReader} for the given input stream.
+	 */
+	CharInputReader newByteCharInputReader(InputStream input, Charset encoding) {
+		if (lineSeparatorDetectionEnabled) {
+			return new ByteCharInputReader(getFormat().getNormalizedNewline(), this.getInputBufferSize(), input, encoding);
+		} else {
+			return new ByteCharInputReader(getFormat().getLineSeparator(), getFormat().getNormalizedNewline(), this.getInputBufferSize(), input, encoding);
+		}
+	}
+
 	/**
 	 * The number of valid records to be parsed before the process is stopped. A negative value indicates there's no limit (defaults to -1).
 	 *
@@ -313,6 +414,13 @@ public abstract class CommonParserSettings<F extends Format> extends CommonSetti
 		out.put("Input reading on separate thread", readInputOnSeparateThread);
 		out.put("Number of records to read", numberOfRecordsToRead == -1 ? "all" : numberOfRecordsToRead);
 		out.put("Line separator detection enabled", lineSeparatorDetectionEnabled);
+		out.put("Memory mapped input enabled", memoryMappedInputEnabled);
+		out.put("Byte level decoding enabled", byteLevelDecodingEnabled);
+		out.put("Parallel record ordering enabled", parallelRecordOrderingEnabled);
+		out.put("Metrics enabled", metricsEnabled);
+		out.put("Compressed input detection enabled", compressedInputDetectionEnabled);
+		out.put("Interned fields", internedFields == null ? "none" : internedFields.describe());
+		out.put("Intern cache size", internCacheSize);
 	}
 
 	private boolean preventReordering() {
@@ -343,10 +451,235 @@ public abstract class CommonParserSettings<F extends Format> extends CommonSetti
 		this.commentCollectionEnabled = commentCollectionEnabled;
 	}
 
+	/**
+	 * Indicates whether files provided to the parser should be mapped into memory (disabled by default). If enabled, {@code AbstractParser.parse(File)},
+	 * {@code AbstractParser.beginParsing(File)} and their variants will decode characters directly from a memory-mapped region of the file (using a
+	 * {@link MappedFileCharInputReader}), instead of reading them through an {@link java.io.InputStreamReader}.
+	 * <p>This avoids the intermediate copies and system calls of regular reads, and lets the operating system page cache take care of read-ahead. It is
+	 * particularly useful when processing very large files. Input read from a {@link java.io.Reader} or {@link java.io.InputStream} is not affected by this setting, and
+	 * the {@link #getReadInputOnSeparateThread()} setting is not used when the input is memory-mapped.
+	 *
+	 * @return a flag indicating whether or not files should be mapped into memory.
+	 */
+	public boolean isMemoryMappedInputEnabled() {
+		return memoryMappedInputEnabled;
+	}
+
+	/**
+	 * Defines whether files provided to the parser should be mapped into memory (disabled by default). If enabled, {@code AbstractParser.parse(File)},
+	 * {@code AbstractParser.beginParsing(File)} and their variants will decode characters directly from a memory-mapped region of the file (using a
+	 * {@link MappedFileCharInputReader}), instead of reading them through an {@link java.io.InputStreamReader}.
+	 * <p>This avoids the intermediate copies and system calls of regular reads, and lets the operating system page cache take care of read-ahead. It is
+	 * particularly useful when processing very large files. Input read from a {@link java.io.Reader} or {@link java.io.InputStream} is not affected by this setting, and
+	 * the {@link #getReadInputOnSeparateThread()} setting is not used when the input is memory-mapped.
+	 *
+	 * @param memoryMappedInputEnabled flag indicating whether or not files should be mapped into memory.
+	 */
+	public void setMemoryMappedInputEnabled(boolean memoryMappedInputEnabled) {
+		this.memoryMappedInputEnabled = memoryMappedInputEnabled;
+	}
+
+	/**
+	 * Indicates whether the parser should decode the bytes of input streams and files by itself (disabled by default). If enabled, inputs provided as
+	 * an {@link InputStream} or {@link File} with US-ASCII, ISO-8859-1 or UTF-8 encoding will be decoded directly into the parser buffer
+	 * (using a {@link ByteCharInputReader}), without going through an {@link java.io.InputStreamReader} and its {@link java.nio.charset.CharsetDecoder}.
+	 * <p>Inputs in any other encoding are not affected by this setting, and neither are memory-mapped files (see {@link #isMemoryMappedInputEnabled()}).
+	 * The {@link #getReadInputOnSeparateThread()} setting is not used when the input is decoded by the parser.
+	 *
+	 * @return a flag indicating whether or not the parser should decode the bytes of its input.
+	 */
+	public boolean isByteLevelDecodingEnabled() {
+		return byteLevelDecodingEnabled;
+	}
+
+	/**
+	 * Defines whether the parser should decode the bytes of input streams and files by itself (disabled by default). If enabled, inputs provided as
+	 * an {@link InputStream} or {@link File} with US-ASCII, ISO-8859-1 or UTF-8 encoding will be decoded directly into the parser buffer
+	 * (using a {@link ByteCharInputReader}), without going through an {@link java.io.InputStreamReader} and its {@link java.nio.charset.CharsetDecoder}.
+	 * <p>Inputs in any other encoding are not affected by this setting, and neither are memory-mapped files (see {@link #isMemoryMappedInputEnabled()}).
+	 * The {@link #getReadInputOnSeparateThread()} setting is not used when the input is decoded by the parser.
+	 *
+	 * @param byteLevelDecodingEnabled flag indicating whether or not the parser should decode the bytes of its input.
+	 */
+	public void setByteLevelDecodingEnabled(boolean byteLevelDecodingEnabled) {
+		this.byteLevelDecodingEnabled = byteLevelDecodingEnabled;
+	}
+
+	/**
+	 * Indicates whether records parsed in parallel (with {@code AbstractParser.parseParallel(File, int)}) must be sent to the {@link RowProcessor}
+	 * in the same order they appear in the input (enabled by default).
+	 * <p>When disabled, records of each chunk of the input are still sent in order, but chunks are processed as soon as they are parsed, irrespective of
+	 * their position in the input.
+	 *
+	 * @return a flag indicating whether records parsed in parallel are processed in the order they appear in the input.
+	 */
+	public boolean isParallelRecordOrderingEnabled() {
+		return parallelRecordOrderingEnabled;
+	}
+
+	/**
+	 * Defines whether records parsed in parallel (with {@code AbstractParser.parseParallel(File, int)}) must be sent to the {@link RowProcessor}
+	 * in the same order they appear in the input (enabled by default).
+	 * <p>When disabled, records of each chunk of the input are still sent in order, but chunks are processed as soon as they are parsed, irrespective of
+	 * their position in the input.
+	 *
+	 * @param parallelRecordOrderingEnabled flag indicating whether records parsed in parallel are processed in the order they appear in the input.
+	 */
+	public void setParallelRecordOrderingEnabled(boolean parallelRecordOrderingEnabled) {
+		this.parallelRecordOrderingEnabled = parallelRecordOrderingEnabled;
+	}
+
+	/**
+	 * Indicates whether the parser should collect {@link ParsingMetrics}, such as the number of records parsed per second and the time spent reading
+	 * the input, parsing and processing records (disabled by default). Metrics are available from {@code AbstractParser.getMetrics()}.
+	 *
+	 * @return a flag indicating whether the parser collects metrics of the parsing process.
+	 */
+	public boolean isMetricsEnabled() {
+		return metricsEnabled;
+	}
+
+	/**
+	 * Defines whether the parser should collect {@link ParsingMetrics}, such as the number of records parsed per second and the time spent reading
+	 * the input, parsing and processing records (disabled by default). Metrics are available from {@code AbstractParser.getMetrics()}.
+	 *
+	 * @param metricsEnabled flag indicating whether the parser collects metrics of the parsing process.
+	 */
+	public void setMetricsEnabled(boolean metricsEnabled) {
+		this.metricsEnabled = metricsEnabled;
+	}
+
+	/**
+	 * Indicates whether files and input streams given to the parser should be decompressed if their first bytes identify them as
+	 * GZIP or ZLIB (deflate) data (disabled by default). Compressed files are always read as a stream, even if {@link #isMemoryMappedInputEnabled()}
+	 * evaluates to {@code true}, and can't be split to be parsed in parallel.
+	 *
+	 * <p> If {@link #getReadInputOnSeparateThread()} evaluates to {@code true}, the input is decompressed in one thread, decoded into characters
+	 * in another, and parsed in the thread that invoked the parser.
+	 *
+	 * @return a flag indicating whether compressed input is detected and decompressed automatically.
+	 */
+	public boolean isCompressedInputDetectionEnabled() {
+		return compressedInputDetectionEnabled;
+	}
+
+	/**
+	 * Defines whether files and input streams given to the parser should be decompressed if their first bytes identify them as
+	 * GZIP or ZLIB (deflate) data (disabled by default). Compressed files are always read as a stream, even if {@link #isMemoryMappedInputEnabled()}
+	 * evaluates to {@code true}, and can't be split to be parsed in parallel.
+	 *
+	 * <p> If {@link #getReadInputOnSeparateThread()} evaluates to {@code true}, the input is decompressed in one thread, decoded into characters
+	 * in another, and parsed in the thread that invoked the parser.
+	 *
+	 * @param compressedInputDetectionEnabled flag indicating whether compressed input is detected and decompressed automatically.
+	 */
+	public void setCompressedInputDetectionEnabled(boolean compressedInputDetectionEnabled) {
+		this.compressedInputDetectionEnabled = compressedInputDetectionEnabled;
+	}
+
+	/**
+	 * Selects fields whose values should be interned, by their names. Values parsed from these fields are looked up in a bounded
+	 * cache of the column before a String is created, so that repeated values (such as country codes, status flags or currencies)
+	 * share the same String instance. This reduces memory usage when parsed rows are kept in memory.
+	 *
+	 * <p> The cache of each column holds up to {@link #getInternCacheSize()} values. Fields with many distinct values should not be
+	 * interned, as most of their values won't be found in the cache.
+	 *
+	 * @param fieldNames the names of the fields to intern
+	 *
+	 * @return the (modifiable) set of interned fields
+	 */
+	public FieldSet<String> internFields(String... fieldNames) {
+		return setInternedFields(new FieldNameSelector(), fieldNames);
+	}
+
+	/**
+	 * Selects fields whose values should be interned, by their names. Values parsed from these fields are looked up in a bounded
+	 * cache of the column before a String is created, so that repeated values (such as country codes, status flags or currencies)
+	 * share the same String instance. This reduces memory usage when parsed rows are kept in memory.
+	 *
+	 * <p> The cache of each column holds up to {@link #getInternCacheSize()} values. Fields with many distinct values should not be
+	 * interned, as most of their values won't be found in the cache.
+	 *
+	 * @param columns the columns to intern
+	 *
+	 * @return the (modifiable) set of interned fields
+	 */
+	@SuppressWarnings("rawtypes")
+	public FieldSet<Enum> internFields(Enum... columns) {
+		return setInternedFields(new FieldEnumSelector(), columns);
+	}
+
+	/**
+	 * Selects fields whose values should be interned, by their positions. Values parsed from these fields are looked up in a bounded
+	 * cache of the column before a String is created, so that repeated values (such as country codes, status flags or currencies)
+	 * share the same String instance. This reduces memory usage when parsed rows are kept in memory.
+	 *
+	 * <p> The cache of each column holds up to {@link #getInternCacheSize()} values. Fields with many distinct values should not be
+	 * interned, as most of their values won't be found in the cache.
+	 *
+	 * @param fieldIndexes the positions of the fields to intern
+	 *
+	 * @return the (modifiable) set of interned fields
+	 */
+	public FieldSet<Integer> internIndexes(Integer... fieldIndexes) {
+		return setInternedFields(new FieldIndexSelector(), fieldIndexes);
+	}
+
+	private <T> FieldSet<T> setInternedFields(FieldSet<T> fieldSet, T... values) {
+		this.internedFields = (FieldSelector) fieldSet;
+		fieldSet.add(values);
+		return fieldSet;
+	}
+
+	/**
+	 * Returns the FieldSelector object that identifies the fields whose values should be interned.
+	 *
+	 * @return the FieldSelector of interned fields. Null if no field was selected to be interned
+	 */
+	FieldSelector getInternedFieldSelector() {
+		return internedFields;
+	}
+
+	/**
+	 * Returns the maximum number of distinct values kept in memory for each field selected with {@link #internFields(String...)},
+	 * {@link #internFields(Enum...)} or {@link #internIndexes(Integer...)} (defaults to 1024). When a value is not in the cache, it replaces
+	 * another value that was cached before.
+	 *
+	 * @return the maximum number of values cached for each interned field.
+	 */
+	public int getInternCacheSize() {
+		return internCacheSize;
+	}
+
+	/**
+	 * Defines the maximum number of distinct values kept in memory for each field selected with {@link #internFields(String...)},
+	 * {@link #internFields(Enum...)} or {@link #internIndexes(Integer...)} (defaults to 1024). When a value is not in the cache, it replaces
+	 * another value that was cached before.
+	 *
+	 * <p> The cache of each field is allocated when parsing starts, so the size can't be greater than 1048576 (2^20) values.
+	 *
+	 * @param internCacheSize the maximum number of values cached for each interned field.
+	 */
+	public void setInternCacheSize(int internCacheSize) {
+		if (internCacheSize <= 0) {
+			throw new IllegalArgumentException("Intern cache size must be a positive number");
+		}
+		if (internCacheSize > StringCache.MAX_SIZE) {
+			throw new IllegalArgumentException("Intern cache size must not be greater than " + StringCache.MAX_SIZE + ". Got " + internCacheSize);
+		}
+		this.internCacheSize = internCacheSize;
+	}
+
 	@Override
 	void runAutomaticConfiguration() {
+		Class<?> beanClass = null;
 		if (rowProcessor instanceof TypedBeanProcessor<?,?>) {
-			Class<?> beanClass = ((TypedBeanProcessor<?,?>) rowProcessor).getBeanClass();
+			beanClass = ((TypedBeanProcessor<?,?>) rowProcessor).getBeanClass();
+		} else if (rowProcessor instanceof ParallelBeanProcessor<?>) {
+			beanClass = ((ParallelBeanProcessor<?>) rowProcessor).getBeanClass();
+		}
+		if (beanClass != null) {
 			Headers headerAnnotation = AnnotationHelper.findHeadersAnnotation(beanClass);
 
 			String[] headersFromBean = ArgumentUtils.EMPTY_STRING_ARRAY;
@@ -28,6 +28,9 @@ import java.util.*;
  *
  * <ul>
  * 	<li><b>rowWriterProcessor:</b> a implementation of the interface {@link RowWriterProcessor} which processes input objects into a manageable format for writing.</li>
+ * 	<li><b>writeOutputOnSeparateThread <i>(defaults to false)</i>:</b> indicates whether or not a separate thread will be used to write the formatted content to the output.</li>
+ * 	<li><b>byteLevelEncodingEnabled <i>(defaults to false)</i>:</b> indicates whether output streams and files in US-ASCII, ISO-8859-1 or UTF-8
+ * 	should be encoded by the writer itself, without going through an {@link java.io.OutputStreamWriter}.</li>
  * </ul>
  *
  * @param <F> the format supported by this writer.
@@ -49,6 +52,10 @@ public abstract class CommonWriterSettings<F extends Format> extends CommonSetti
 
 	private boolean expandIncompleteRows = false;
 
+	private boolean writeOutputOnSeparateThread = false;
+
+	private boolean byteLevelEncodingEnabled = false;
+
 	/**
 	 * Returns the String representation of an empty value (defaults to null)
 	 *
@@ -143,12 +150,68 @@ public abstract class CommonWriterSettings<F extends Format> extends CommonSetti
 		this.expandIncompleteRows = expandIncompleteRows;
 	}
 
+	/**
+	 * Indicates whether or not a separate thread will be used to write to the output (defaults to false).
+	 * <p>When enabled, a writing thread (in {@code com.univocity.parsers.common.input.concurrent.ConcurrentWriter}) will be started and write
+	 * the content already formatted to the output, while the writer formats the next rows into another buffer. This yields better performance
+	 * when the output is slow, e.g. a network-mounted disk, as encoding and flushing characters overlap with formatting.
+	 * <p>When disabled, the writer writes to the output through a {@link java.io.BufferedWriter}, and waits whenever it is flushed.
+	 * <p>Errors writing to the output are only reported on the next write operation performed after the error occurred, or when the writer is flushed or closed.
+	 *
+	 * @return true if the output should be written on a separate thread, false otherwise
+	 */
+	public boolean getWriteOutputOnSeparateThread() {
+		return writeOutputOnSeparateThread;
+	}
+
+	/**
+	 * Defines whether or not a separate thread will be used to write to the output (defaults to false).
+	 * <p>When enabled, a writing thread (in {@code com.univocity.parsers.common.input.concurrent.ConcurrentWriter}) will be started and write
+	 * the content already formatted to the output, while the writer formats the next rows into another buffer. This yields better performance
+	 * when the output is slow, e.g. a network-mounted disk, as encoding and flushing characters overlap with formatting.
+	 * <p>When disabled, the writer writes to the output through a {@link java.io.BufferedWriter}, and waits whenever it is flushed.
+	 * <p>Errors writing to the output are only reported on the next write operation performed after the error occurred, or when the writer is flushed or closed.
+	 *
+	 * @param writeOutputOnSeparateThread the flag indicating whether or not the output should be written on a separate thread
+	 */
+	public void setWriteOutputOnSeparateThread(boolean writeOutputOnSeparateThread) {
+		this.writeOutputOnSeparateThread = writeOutputOnSeparateThread;
+	}
+
+	/**
+	 * Indicates whether the writer should encode the characters written to output streams and files by itself (disabled by default). If enabled,
+	 * outputs provided as an {@link java.io.OutputStream} or {@link java.io.File} with US-ASCII, ISO-8859-1 or UTF-8 encoding will be encoded directly
+	 * into a reusable byte buffer (using a {@link com.univocity.parsers.common.input.ByteEncodingWriter}), without going through an
+	 * {@link java.io.OutputStreamWriter} and its {@link java.nio.charset.CharsetEncoder}.
+	 * <p>Outputs in any other encoding, or provided as a {@link java.io.Writer}, are not affected by this setting.
+	 *
+	 * @return a flag indicating whether or not the writer should encode the bytes of its output.
+	 */
+	public boolean isByteLevelEncodingEnabled() {
+		return byteLevelEncodingEnabled;
+	}
+
+	/**
+	 * Defines whether the writer should encode the characters written to output streams and files by itself (disabled by default). If enabled,
+	 * outputs provided as an {@link java.io.OutputStream} or {@link java.io.File} with US-ASCII, ISO-8859-1 or UTF-8 encoding will be encoded directly
+	 * into a reusable byte buffer (using a {@link com.univocity.parsers.common.input.ByteEncodingWriter}), without going through an
+	 * {@link java.io.OutputStreamWriter} and its {@link java.nio.charset.CharsetEncoder}.
+	 * <p>Outputs in any other encoding, or provided as a {@link java.io.Writer}, are not affected by this setting.
+	 *
+	 * @param byteLevelEncodingEnabled flag indicating whether or not the writer should encode the bytes of its output.
+	 */
+	public void setByteLevelEncodingEnabled(boolean byteLevelEncodingEnabled) {
+		this.byteLevelEncodingEnabled = byteLevelEncodingEnabled;
+	}
+
 	@Override
 	protected void addConfiguration(Map<String, Object> out) {
 		super.addConfiguration(out);
 		out.put("Empty value", emptyValue);
 		out.put("Header writing enabled", headerWritingEnabled);
 		out.put("Row processor", rowWriterProcessor == null ? "none" : rowWriterProcessor.getClass().getName());
+		out.put("Write output on separate thread", writeOutputOnSeparateThread);
+		out.put("Byte level encoding enabled", byteLevelEncodingEnabled);
 	}
 
 	@Override
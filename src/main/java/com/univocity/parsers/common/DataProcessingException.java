@@ -34,6 +34,7 @@ public class DataProcessingException extends TextParsingException {
 	private Object[] row;
 	private Object value;
 	private boolean fatal = true;
+	private boolean contextRetained;
 
 	/**
 	 * Creates a new exception with an error message only.
@@ -218,4 +219,30 @@ public class DataProcessingException extends TextParsingException {
 		this.fatal = false;
 	}
 
+	/**
+	 * Marks the error as fatal, so that the parsing process stops without handling it again.
+	 */
+	final void markAsFatal() {
+		this.fatal = true;
+	}
+
+	@Override
+	protected void setContext(Context context) {
+		if (!contextRetained) {
+			super.setContext(context);
+		}
+	}
+
+	/**
+	 * Updates the exception with the context of the record that could not be processed, which is retained if the error is rethrown by the parser
+	 * after it moved on to other records.
+	 *
+	 * @param context the context of the record processed when the error occurred.
+	 */
+	final void setRecordContext(Context context) {
+		contextRetained = false;
+		setContext(context);
+		contextRetained = true;
+	}
+
 }
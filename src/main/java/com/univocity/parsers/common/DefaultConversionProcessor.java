@@ -37,6 +37,7 @@ public abstract class DefaultConversionProcessor implements ConversionProcessor
 
 	RowProcessorErrorHandler errorHandler = NoopRowProcessorErrorHandler.instance;
 	Context context;
+	ParsingMetrics metrics;
 
 	@Override
 	@SuppressWarnings({"unchecked", "rawtypes"})
@@ -94,6 +95,18 @@ public abstract class DefaultConversionProcessor implements ConversionProcessor
 	 * <p> Fields that do not have any conversion defined will just be copied to the object array into their original positions.
 	 */
 	public final Object[] applyConversions(String[] row, Context context) {
+		if (metrics == null) {
+			return convert(row, context);
+		}
+		long start = System.nanoTime();
+		try {
+			return convert(row, context);
+		} finally {
+			metrics.valuesConverted(System.nanoTime() - start);
+		}
+	}
+
+	private Object[] convert(String[] row, Context context) {
 		boolean keepRow = true;
 		Object[] objectRow = new Object[row.length];
 		boolean[] convertedFlags = conversionsByType != null ? new boolean[row.length] : null;
@@ -72,6 +72,7 @@ public class ParserOutput {
 	private final CharAppender appenderInstance;
 	private boolean columnsToExtractInitialized;
 	private boolean columnsReordered;
+	private StringCache[] internCaches;
 
 	private String[] headers;
 	private int[] selectedIndexes;
@@ -80,6 +81,23 @@ public class ParserOutput {
 
 	public boolean trim = false;
 
+	/**
+	 * Collects metrics of the parsing process, when {@link CommonParserSettings#isMetricsEnabled()} evaluates to {@code true}.
+	 */
+	ParsingMetrics metrics;
+
+	/**
+	 * Indicates whether parsed values should be kept as characters, to be read through the {@link RowView} returned by {@link #getRowView()},
+	 * instead of being converted to {@code String}s.
+	 */
+	boolean rowViewEnabled;
+
+	private FlyweightRow rowView;
+	private char[] rowChars;
+	private int rowLength;
+	private int[] valueStarts;
+	private int[] valueEnds;
+
 	/**
 	 * Headers parsed from the input when {@link CommonParserSettings#headerExtractionEnabled} is {@code true},
 	 * irrespective of any user-provided headers in {@link CommonParserSettings#getHeaders()}
@@ -125,12 +143,86 @@ public class ParserOutput {
 		}
 	}
 
+	/**
+	 * Initializes the headers and selected fields with the same configuration identified by another {@code ParserOutput}.
+	 * Used when a parser processes a chunk of the input that doesn't begin with the headers (i.e. when parsing in parallel).
+	 *
+	 * @param parent the output of a parser that already processed the first row of the input.
+	 */
+	final void initializeHeaders(ParserOutput parent) {
+		columnsToExtractInitialized = true;
+		columnsReordered = false;
+		selectedIndexes = null;
+		this.appender = appenderInstance;
+		Arrays.fill(appenders, appender);
+
+		this.headers = parent.headers == null ? null : parent.headers.clone();
+		this.parsedHeaders = parent.parsedHeaders;
+		if (settings.getHeaders() != null) {
+			initializeColumnsToExtract(headers);
+		} else if (parsedHeaders != null) {
+			initializeColumnsToExtract(parsedHeaders.clone());
+		}
+	}
+
+	/**
+	 * Restores the headers and the record count of a {@link Checkpoint}, when parsing is resumed from it.
+	 * Headers are not initialized if the first row of the input was not processed before the checkpoint was created.
+	 *
+	 * @param checkpoint the position where parsing is resumed.
+	 */
+	final void resume(Checkpoint checkpoint) {
+		String[] checkpointHeaders = checkpoint.getHeaders();
+		if (checkpointHeaders != null) {
+			columnsToExtractInitialized = true;
+			columnsReordered = false;
+			selectedIndexes = null;
+			this.appender = appenderInstance;
+			Arrays.fill(appenders, appender);
+
+			this.headers = settings.getHeaders();
+			if (headers != null) {
+				headers = headers.clone();
+				initializeColumnsToExtract(headers);
+			} else {
+				initializeColumnsToExtract(checkpointHeaders.clone());
+				parsedHeaders = checkpointHeaders;
+				if (settings.isHeaderExtractionEnabled()) {
+					headers = parsedHeaders.clone();
+				}
+			}
+		}
+		currentRecord = checkpoint.getRecordCount();
+	}
+
+	/**
+	 * Indicates whether the headers and selected fields have been initialized, which happens when the first row of the input is processed.
+	 *
+	 * @return {@code true} if the headers and selected fields have been initialized, otherwise {@code false}
+	 */
+	final boolean isInitialized() {
+		return columnsToExtractInitialized;
+	}
+
 	/**
 	 * Gets all values parsed in the {@link ParserOutput#parsedValues} array
 	 *
 	 * @return the sequence of parsed values in a record.
 	 */
 	public String[] rowParsed() {
+		return rowParsed(null);
+	}
+
+	/**
+	 * Gets all values parsed in the {@link ParserOutput#parsedValues} array, copying them into the given array if it has the
+	 * same length as the record.
+	 *
+	 * @param reuse an array to store the parsed values. If {@code null}, or if its length is not the same as the number of values of
+	 *              the record, a new array will be created.
+	 *
+	 * @return the sequence of parsed values in a record.
+	 */
+	public String[] rowParsed(String[] reuse) {
 		// some values were parsed. Let's return them
 		if (column > 0) {
 			// identifies selected columns and headers (in the first non-empty row)
@@ -146,8 +238,18 @@ public class ParserOutput {
 			}
 
 			currentRecord++;
+			if (metrics != null) {
+				metrics.recordCount++;
+			}
+			if (rowViewEnabled) {
+				rowView.update(column);
+				column = 0;
+				rowLength = 0;
+				this.appender = appenders[0];
+				return ArgumentUtils.EMPTY_STRING_ARRAY;
+			}
 			if (columnsReordered) {
-				String[] reorderedValues = new String[selectedIndexes.length];
+				String[] reorderedValues = newRow(reuse, selectedIndexes.length);
 				for (int i = 0; i < selectedIndexes.length; i++) {
 					int index = selectedIndexes[i];
 					if (index >= column || index == -1) {
@@ -160,7 +262,7 @@ public class ParserOutput {
 				this.appender = appenders[0];
 				return reorderedValues;
 			} else {
-				String[] out = new String[column];
+				String[] out = newRow(reuse, column);
 				System.arraycopy(parsedValues, 0, out, 0, column);
 				column = 0;
 				this.appender = appenders[0];
@@ -172,9 +274,17 @@ public class ParserOutput {
 			}
 
 			currentRecord++;
+			if (metrics != null) {
+				metrics.recordCount++;
+			}
+
+			if (rowViewEnabled) {
+				rowView.update(0);
+				return ArgumentUtils.EMPTY_STRING_ARRAY;
+			}
 
 			if (columnsReordered) {
-				String[] out = new String[selectedIndexes.length];
+				String[] out = newRow(reuse, selectedIndexes.length);
 				Arrays.fill(out, nullValue);
 				return out;
 			}
@@ -185,6 +295,13 @@ public class ParserOutput {
 		return null;
 	}
 
+	private static String[] newRow(String[] reuse, int length) {
+		if (reuse != null && reuse.length == length) {
+			return reuse;
+		}
+		return new String[length];
+	}
+
 	FieldSelector getFieldSelector(){
 		return settings.getFieldSelector();
 	}
@@ -195,6 +312,8 @@ public class ParserOutput {
 	 * @param values a sequence of values that represent the headers of the input. This can be either a parsed record or the headers as defined in {@link CommonSettings#getHeaders()}
 	 */
 	private void initializeColumnsToExtract(String[] values) {
+		initializeInternCaches(values);
+
 		FieldSelector selector = settings.getFieldSelector();
 		if (selector != null) {
 			selectedIndexes = selector.getFieldIndexes(values);
@@ -219,6 +338,29 @@ public class ParserOutput {
 		}
 	}
 
+	/**
+	 * Creates a cache of values for each field selected in {@link CommonParserSettings#internFields(String...)}, if any.
+	 *
+	 * @param values a sequence of values that represent the headers of the input.
+	 */
+	private void initializeInternCaches(String[] values) {
+		internCaches = null;
+		FieldSelector selector = settings.getInternedFieldSelector();
+		if (selector != null) {
+			int[] indexes = selector.getFieldIndexes(values);
+			if (indexes != null) {
+				for (int index : indexes) {
+					if (index >= 0 && index < parsedValues.length) {
+						if (internCaches == null) {
+							internCaches = new StringCache[parsedValues.length];
+						}
+						internCaches[index] = new StringCache(settings.getInternCacheSize());
+					}
+				}
+			}
+		}
+	}
+
 	/**
 	 * Returns the sequence of values that represent the headers each field in the input. This can be either a parsed record or the headers as defined in {@link CommonSettings#getHeaders()}
 	 *
@@ -260,6 +402,9 @@ public class ParserOutput {
 	 * Adds a nullValue (as specified in {@link CommonSettings#getNullValue()}) to the output and prepares the next position in the record to receive more values.
 	 */
 	public void emptyParsed() {
+		if (rowViewEnabled) {
+			valueStarts[column] = -1;
+		}
 		this.parsedValues[column++] = nullValue;
 		this.appender = appenders[column];
 	}
@@ -271,10 +416,233 @@ public class ParserOutput {
 		if(trim){
 			appender.updateWhitespace();
 		}
-		this.parsedValues[column++] = appender.getAndReset();
+		if (metrics != null) {
+			metrics.fieldParsed(appender.length());
+		}
+		if (rowViewEnabled) {
+			viewValueParsed();
+		} else if (internCaches != null && internCaches[column] != null && appender.length() > 0) {
+			this.parsedValues[column] = internCaches[column].get(appender.getChars(), appender.length());
+			appender.reset();
+		} else {
+			this.parsedValues[column] = appender.getAndReset();
+		}
+		column++;
 		this.appender = appenders[column];
 	}
 
+	private void viewValueParsed() {
+		int length = appender.length();
+		if (length > 0 && columnsToExtractInitialized) {
+			if (rowLength + length > rowChars.length) {
+				rowChars = Arrays.copyOf(rowChars, Math.max(rowChars.length * 2, rowLength + length));
+			}
+			System.arraycopy(appender.getChars(), 0, rowChars, rowLength, length);
+			appender.reset();
+			valueStarts[column] = rowLength;
+			rowLength += length;
+			valueEnds[column] = rowLength;
+		} else {
+			// values of the header row are always kept as Strings.
+			valueStarts[column] = -1;
+			this.parsedValues[column] = appender.getAndReset();
+		}
+	}
+
+	/**
+	 * Returns the view of the last record parsed while {@link #rowViewEnabled} is set.
+	 * The view is updated when {@link #rowParsed(String[])} returns a non-null value.
+	 *
+	 * @return a view of the values of the last record parsed.
+	 */
+	final RowView getRowView() {
+		return rowView;
+	}
+
+	/**
+	 * Enables or disables the collection of values for a {@link RowView}. Must be invoked before a record is parsed.
+	 *
+	 * @param enabled flag indicating whether values should be kept as characters for a {@link RowView}.
+	 */
+	final void setRowViewEnabled(boolean enabled) {
+		if (enabled && rowView == null) {
+			rowView = new FlyweightRow();
+			rowChars = new char[1024];
+			valueStarts = new int[parsedValues.length];
+			valueEnds = new int[parsedValues.length];
+		}
+		rowViewEnabled = enabled;
+	}
+
+	/**
+	 * Updates the {@link RowView} with the given values. Used for records that were parsed before the view was enabled.
+	 *
+	 * @param values the values of the record
+	 *
+	 * @return the updated view.
+	 */
+	final RowView updateRowView(String[] values) {
+		System.arraycopy(values, 0, parsedValues, 0, values.length);
+		Arrays.fill(valueStarts, 0, values.length, -1);
+		rowView.update(values.length, false);
+		return rowView;
+	}
+
+	/**
+	 * A {@link RowView} over the characters of the values of the current record, stored in {@link ParserOutput#rowChars}.
+	 */
+	private final class FlyweightRow implements RowView {
+		private int columns;
+		private int[] indexes;
+		private int length;
+		private FieldView[] fields = new FieldView[0];
+
+		void update(int columns) {
+			update(columns, columnsReordered);
+		}
+
+		void update(int columns, boolean reordered) {
+			this.columns = columns;
+			this.indexes = reordered ? selectedIndexes : null;
+			this.length = reordered ? selectedIndexes.length : columns;
+		}
+
+		@Override
+		public int length() {
+			return length;
+		}
+
+		private int index(int index) {
+			if (index < 0 || index >= length) {
+				throw new IndexOutOfBoundsException("Index " + index + " is out of bounds. Record has " + length + " values.");
+			}
+			return indexes == null ? index : indexes[index];
+		}
+
+		@Override
+		public CharSequence getValue(int index) {
+			int column = index(index);
+			if (column == -1 || column >= columns) {
+				return nullValue;
+			}
+			if (valueStarts[column] == -1) {
+				return parsedValues[column];
+			}
+			if (column >= fields.length) {
+				fields = Arrays.copyOf(fields, Math.max(column + 1, fields.length * 2));
+			}
+			FieldView field = fields[column];
+			if (field == null) {
+				field = new FieldView(column);
+				fields[column] = field;
+			}
+			return field;
+		}
+
+		@Override
+		public String getString(int index) {
+			int column = index(index);
+			if (column == -1 || column >= columns) {
+				return nullValue;
+			}
+			int start = valueStarts[column];
+			if (start == -1) {
+				return parsedValues[column];
+			}
+			return new String(rowChars, start, valueEnds[column] - start);
+		}
+
+		@Override
+		public int getInt(int index) {
+			int column = index(index);
+			if (column != -1 && column < columns && valueStarts[column] != -1) {
+				return PrimitiveParser.parseInt(rowChars, valueStarts[column], valueEnds[column]);
+			}
+			char[] chars = getNonNullChars(index);
+			return PrimitiveParser.parseInt(chars, 0, chars.length);
+		}
+
+		@Override
+		public long getLong(int index) {
+			int column = index(index);
+			if (column != -1 && column < columns && valueStarts[column] != -1) {
+				return PrimitiveParser.parseLong(rowChars, valueStarts[column], valueEnds[column]);
+			}
+			char[] chars = getNonNullChars(index);
+			return PrimitiveParser.parseLong(chars, 0, chars.length);
+		}
+
+		@Override
+		public double getDouble(int index) {
+			int column = index(index);
+			if (column != -1 && column < columns && valueStarts[column] != -1) {
+				return PrimitiveParser.parseDouble(rowChars, valueStarts[column], valueEnds[column]);
+			}
+			char[] chars = getNonNullChars(index);
+			return PrimitiveParser.parseDouble(chars, 0, chars.length);
+		}
+
+		private char[] getNonNullChars(int index) {
+			String value = getString(index);
+			if (value == null) {
+				throw new NumberFormatException("Value at index " + index + " is null");
+			}
+			return value.toCharArray();
+		}
+
+		@Override
+		public String[] getValues() {
+			String[] out = new String[length];
+			for (int i = 0; i < length; i++) {
+				out[i] = getString(i);
+			}
+			return out;
+		}
+
+		@Override
+		public String toString() {
+			return Arrays.toString(getValues());
+		}
+	}
+
+	/**
+	 * A {@link CharSequence} over the characters of a value of the current record.
+	 */
+	private final class FieldView implements CharSequence {
+		private final int column;
+
+		FieldView(int column) {
+			this.column = column;
+		}
+
+		@Override
+		public int length() {
+			return valueEnds[column] - valueStarts[column];
+		}
+
+		@Override
+		public char charAt(int index) {
+			if (index < 0 || index >= length()) {
+				throw new IndexOutOfBoundsException("Index " + index + " is out of bounds. Value has " + length() + " characters.");
+			}
+			return rowChars[valueStarts[column] + index];
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			if (start < 0 || end > length() || start > end) {
+				throw new IndexOutOfBoundsException("Invalid range [" + start + ", " + end + "). Value has " + length() + " characters.");
+			}
+			return new String(rowChars, valueStarts[column] + start, end - start);
+		}
+
+		@Override
+		public String toString() {
+			int start = valueStarts[column];
+			return new String(rowChars, start, valueEnds[column] - start);
+		}
+	}
+
 	/**
 	 * Returns the current record index. The number returned here reflects the number of actually parsed and valid records sent to the output of {@link ParserOutput#rowParsed}.
 	 *
@@ -289,6 +657,7 @@ public class ParserOutput {
 	 */
 	public final void discardValues() {
 		column = 0;
+		rowLength = 0;
 		this.appender = appenders[0];
 	}
 
@@ -299,6 +668,8 @@ public class ParserOutput {
 		this.columnsToExtractInitialized = false;
 		this.currentRecord = 0;
 		this.column = 0;
+		this.rowLength = 0;
+		this.rowViewEnabled = false;
 		this.headers = null;
 	}
 }
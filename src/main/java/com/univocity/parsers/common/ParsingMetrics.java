@@ -0,0 +1,315 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+import com.univocity.parsers.common.input.*;
+import com.univocity.parsers.common.processor.*;
+import com.univocity.parsers.conversions.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Measurements of a parsing process, collected by an {@link AbstractParser} when {@link CommonParserSettings#isMetricsEnabled()} evaluates to {@code true}.
+ * Available from {@link AbstractParser#getMetrics()}, during and after the parsing process.
+ *
+ * <p> The time taken by the parsing process is split into:
+ * <ul>
+ * <li><b>input time:</b> the time spent loading characters from the input into the parser buffer</li>
+ * <li><b>parsing time:</b> the time spent by the parser to extract values from the characters in its buffer</li>
+ * <li><b>conversion time:</b> the time spent executing {@link Conversion}s of a {@link DefaultConversionProcessor}, such as {@link ObjectRowProcessor} and {@link BeanProcessor}</li>
+ * <li><b>processor time:</b> the time spent in the {@link RowProcessor}, excluding conversions</li>
+ * </ul>
+ *
+ * <p> Time is measured with {@link System#nanoTime()} before and after each record is parsed and processed, which adds a small overhead to the parsing process.
+ * For this reason metrics are disabled by default.
+ *
+ * <p> Metrics are updated by the thread that runs the parsing process, and are not meant to be read concurrently by other threads.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see CommonParserSettings#setMetricsEnabled(boolean)
+ */
+public final class ParsingMetrics {
+
+	private long startTime;
+	private long endTime;
+
+	private long parsingTime;
+	private long conversionTime;
+	private long processorTime;
+
+	long recordCount;
+	int maxFieldLength;
+
+	private CharInputReader input;
+	private long charCount;
+	private long byteCount;
+	private boolean byteCountUnknown;
+	private long reloadCount;
+	private long inputTime;
+
+	ParsingMetrics() {
+	}
+
+	void started() {
+		startTime = System.nanoTime();
+		endTime = 0L;
+		parsingTime = 0L;
+		conversionTime = 0L;
+		processorTime = 0L;
+		recordCount = 0L;
+		maxFieldLength = 0;
+		input = null;
+		charCount = 0L;
+		byteCount = 0L;
+		byteCountUnknown = false;
+		reloadCount = 0L;
+		inputTime = 0L;
+	}
+
+	/**
+	 * Starts collecting metrics of a new input reader. The totals of the previous reader, if any, are retained.
+	 */
+	void inputStarted(CharInputReader input) {
+		inputEnded();
+		this.input = input;
+		if (input instanceof AbstractCharInputReader) {
+			((AbstractCharInputReader) input).setBufferReloadTimingEnabled(true);
+		}
+	}
+
+	private void inputEnded() {
+		if (input != null) {
+			charCount += charsRead(input);
+			if (input instanceof AbstractCharInputReader) {
+				AbstractCharInputReader reader = (AbstractCharInputReader) input;
+				addByteCount(reader.byteCount());
+				reloadCount += reader.bufferReloadCount();
+				inputTime += reader.bufferReloadTime();
+			} else {
+				byteCountUnknown = true;
+			}
+			input = null;
+		}
+	}
+
+	private void addByteCount(long bytes) {
+		if (bytes < 0) {
+			byteCountUnknown = true;
+		} else {
+			byteCount += bytes;
+		}
+	}
+
+	void ended() {
+		inputEnded();
+		endTime = System.nanoTime();
+	}
+
+	void recordParsed(long time) {
+		parsingTime += time;
+	}
+
+	void rowProcessed(long time) {
+		processorTime += time;
+	}
+
+	void valuesConverted(long time) {
+		conversionTime += time;
+	}
+
+	void fieldParsed(int length) {
+		if (length > maxFieldLength) {
+			maxFieldLength = length;
+		}
+	}
+
+	/**
+	 * Adds the totals of a parsing process that parsed another portion of the same input, in parallel.
+	 */
+	void add(ParsingMetrics other) {
+		other.inputEnded();
+		parsingTime += other.parsingTime;
+		conversionTime += other.conversionTime;
+		processorTime += other.processorTime;
+		recordCount += other.recordCount;
+		fieldParsed(other.maxFieldLength);
+		charCount += other.charCount;
+		if (other.byteCountUnknown) {
+			byteCountUnknown = true;
+		}
+		byteCount += other.byteCount;
+		reloadCount += other.reloadCount;
+		inputTime += other.inputTime;
+	}
+
+	/**
+	 * Returns the number of bytes read from the input. This is only known when bytes are decoded by the parser itself, i.e.
+	 * when {@link CommonParserSettings#isMemoryMappedInputEnabled()} or {@link CommonParserSettings#isByteLevelDecodingEnabled()} are in effect.
+	 *
+	 * @return the number of bytes read, or -1 if unknown.
+	 */
+	public long getBytesRead() {
+		if (byteCountUnknown) {
+			return -1L;
+		}
+		if (input instanceof AbstractCharInputReader) {
+			long bytes = ((AbstractCharInputReader) input).byteCount();
+			return bytes < 0 ? -1L : byteCount + bytes;
+		}
+		return input == null ? byteCount : -1L;
+	}
+
+	/**
+	 * Returns the number of characters read from the input.
+	 *
+	 * @return the number of characters read.
+	 */
+	public long getCharsRead() {
+		return charCount + (input == null ? 0L : charsRead(input));
+	}
+
+	private static long charsRead(CharInputReader input) {
+		// the character count of the reader is the position of the next character to be read, starting from 1.
+		return Math.max(0L, input.charCount() - 1L);
+	}
+
+	/**
+	 * Returns the number of records parsed from the input.
+	 *
+	 * @return the number of records parsed.
+	 */
+	public long getRecordCount() {
+		return recordCount;
+	}
+
+	/**
+	 * Returns the length of the longest value parsed from the input.
+	 *
+	 * @return the maximum number of characters of a parsed value.
+	 */
+	public int getMaxFieldLength() {
+		return maxFieldLength;
+	}
+
+	/**
+	 * Returns the number of times the parser buffer was loaded with characters from the input.
+	 *
+	 * @return the number of buffer reloads.
+	 */
+	public long getBufferReloadCount() {
+		long count = reloadCount;
+		if (input instanceof AbstractCharInputReader) {
+			count += ((AbstractCharInputReader) input).bufferReloadCount();
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the time elapsed since the parsing process started, until it ended.
+	 *
+	 * @param unit the unit of time to return
+	 *
+	 * @return the duration of the parsing process.
+	 */
+	public long getElapsedTime(TimeUnit unit) {
+		long end = endTime == 0L ? System.nanoTime() : endTime;
+		return unit.convert(end - startTime, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the time spent loading characters from the input. When {@link CommonParserSettings#getReadInputOnSeparateThread()} evaluates to {@code true},
+	 * this is the time the parser waited for the thread that reads the input.
+	 *
+	 * <p> If parsing in parallel, this is the sum of the time spent by all threads.
+	 *
+	 * @param unit the unit of time to return
+	 *
+	 * @return the time spent reading from the input.
+	 */
+	public long getInputTime(TimeUnit unit) {
+		long time = inputTime;
+		if (input instanceof AbstractCharInputReader) {
+			time += ((AbstractCharInputReader) input).bufferReloadTime();
+		}
+		return unit.convert(time, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the time spent by the parser to extract values from the input, excluding the time spent reading the input.
+	 *
+	 * <p> If parsing in parallel, this is the sum of the time spent by all threads.
+	 *
+	 * @param unit the unit of time to return
+	 *
+	 * @return the time spent parsing records.
+	 */
+	public long getParsingTime(TimeUnit unit) {
+		long time = parsingTime - getInputTime(TimeUnit.NANOSECONDS);
+		return unit.convert(Math.max(0L, time), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the time spent converting parsed values with the {@link Conversion}s of a {@link DefaultConversionProcessor}.
+	 *
+	 * @param unit the unit of time to return
+	 *
+	 * @return the time spent in conversions.
+	 */
+	public long getConversionTime(TimeUnit unit) {
+		return unit.convert(conversionTime, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the time spent in {@link RowProcessor#rowProcessed(String[], ParsingContext)}, excluding the time spent in conversions.
+	 *
+	 * @param unit the unit of time to return
+	 *
+	 * @return the time spent processing rows.
+	 */
+	public long getProcessorTime(TimeUnit unit) {
+		return unit.convert(Math.max(0L, processorTime - conversionTime), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the average number of records parsed per second since the parsing process started.
+	 *
+	 * @return the number of records parsed per second.
+	 */
+	public double getRecordsPerSecond() {
+		long elapsed = getElapsedTime(TimeUnit.NANOSECONDS);
+		if (elapsed <= 0L) {
+			return 0.0;
+		}
+		return getRecordCount() * 1000000000.0 / elapsed;
+	}
+
+	@Override
+	public String toString() {
+		return "ParsingMetrics{" +
+				"records=" + getRecordCount() +
+				", recordsPerSecond=" + (long) getRecordsPerSecond() +
+				", bytesRead=" + getBytesRead() +
+				", charsRead=" + getCharsRead() +
+				", maxFieldLength=" + getMaxFieldLength() +
+				", bufferReloads=" + getBufferReloadCount() +
+				", elapsedMillis=" + getElapsedTime(TimeUnit.MILLISECONDS) +
+				", inputMillis=" + getInputTime(TimeUnit.MILLISECONDS) +
+				", parsingMillis=" + getParsingTime(TimeUnit.MILLISECONDS) +
+				", conversionMillis=" + getConversionTime(TimeUnit.MILLISECONDS) +
+				", processorMillis=" + getProcessorTime(TimeUnit.MILLISECONDS) +
+				'}';
+	}
+}
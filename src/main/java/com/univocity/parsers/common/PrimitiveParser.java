@@ -0,0 +1,190 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+/**
+ * Parses primitive numbers directly from a range of characters, without creating intermediate {@code String} or boxed objects.
+ * Used by {@link RowView} implementations.
+ *
+ * <p> Integers accept an optional sign followed by decimal digits. Decimals also accept a fraction and an exponent, as in {@code -12.5e3}.
+ * No whitespace, grouping characters or locale-specific symbols are accepted.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ */
+final class PrimitiveParser {
+
+	private static final double[] POWERS_OF_TEN = {
+			1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+			1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+
+	private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+	private PrimitiveParser() {
+
+	}
+
+	/**
+	 * Parses an {@code int} from a range of characters.
+	 *
+	 * @param chars the characters to parse
+	 * @param start the position of the first character
+	 * @param end   the position after the last character
+	 *
+	 * @return the parsed value
+	 *
+	 * @throws NumberFormatException if the characters do not represent an {@code int}
+	 */
+	static int parseInt(char[] chars, int start, int end) {
+		long value = parseLong(chars, start, end);
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+			throw invalid("int", chars, start, end);
+		}
+		return (int) value;
+	}
+
+	/**
+	 * Parses a {@code long} from a range of characters.
+	 *
+	 * @param chars the characters to parse
+	 * @param start the position of the first character
+	 * @param end   the position after the last character
+	 *
+	 * @return the parsed value
+	 *
+	 * @throws NumberFormatException if the characters do not represent a {@code long}
+	 */
+	static long parseLong(char[] chars, int start, int end) {
+		int i = start;
+		boolean negative = false;
+		if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+			negative = chars[i] == '-';
+			i++;
+		}
+		if (i == end) {
+			throw invalid("long", chars, start, end);
+		}
+
+		// accumulates a negative value, as Long.MIN_VALUE has no positive counterpart
+		long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+		long multiplyLimit = limit / 10;
+		long value = 0;
+		for (; i < end; i++) {
+			int digit = chars[i] - '0';
+			if (digit < 0 || digit > 9 || value < multiplyLimit) {
+				throw invalid("long", chars, start, end);
+			}
+			value *= 10;
+			if (value < limit + digit) {
+				throw invalid("long", chars, start, end);
+			}
+			value -= digit;
+		}
+		return negative ? value : -value;
+	}
+
+	/**
+	 * Parses a {@code double} from a range of characters. Values with up to 15 significant digits and small exponents are computed
+	 * directly, with the same result as {@link Double#parseDouble(String)}. Other values are delegated to {@link Double#parseDouble(String)}.
+	 *
+	 * @param chars the characters to parse
+	 * @param start the position of the first character
+	 * @param end   the position after the last character
+	 *
+	 * @return the parsed value
+	 *
+	 * @throws NumberFormatException if the characters do not represent a decimal number
+	 */
+	static double parseDouble(char[] chars, int start, int end) {
+		int i = start;
+		boolean negative = false;
+		if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+			negative = chars[i] == '-';
+			i++;
+		}
+
+		long mantissa = 0;
+		int exponent = 0;
+		boolean exact = true;
+
+		int digitsStart = i;
+		for (; i < end && chars[i] >= '0' && chars[i] <= '9'; i++) {
+			if (mantissa < MAX_EXACT_MANTISSA / 10) {
+				mantissa = mantissa * 10 + (chars[i] - '0');
+			} else {
+				exact = false;
+			}
+		}
+		int integerDigits = i - digitsStart;
+
+		int fractionDigits = 0;
+		if (i < end && chars[i] == '.') {
+			i++;
+			int fractionStart = i;
+			for (; i < end && chars[i] >= '0' && chars[i] <= '9'; i++) {
+				if (mantissa < MAX_EXACT_MANTISSA / 10) {
+					mantissa = mantissa * 10 + (chars[i] - '0');
+					exponent--;
+				} else {
+					exact = false;
+				}
+			}
+			fractionDigits = i - fractionStart;
+		}
+		if (integerDigits == 0 && fractionDigits == 0) {
+			throw invalid("double", chars, start, end);
+		}
+
+		if (i < end && (chars[i] == 'e' || chars[i] == 'E')) {
+			i++;
+			boolean negativeExponent = false;
+			if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+				negativeExponent = chars[i] == '-';
+				i++;
+			}
+			if (i == end) {
+				throw invalid("double", chars, start, end);
+			}
+			int explicitExponent = 0;
+			for (; i < end; i++) {
+				int digit = chars[i] - '0';
+				if (digit < 0 || digit > 9) {
+					throw invalid("double", chars, start, end);
+				}
+				if (explicitExponent < 10000) {
+					explicitExponent = explicitExponent * 10 + digit;
+				} else {
+					exact = false;
+				}
+			}
+			exponent += negativeExponent ? -explicitExponent : explicitExponent;
+		}
+		if (i != end) {
+			throw invalid("double", chars, start, end);
+		}
+
+		if (exact && exponent >= -22 && exponent <= 22) {
+			// both the mantissa and the power of ten are exact doubles, so a single operation produces a correctly rounded result.
+			double value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+			return negative ? -value : value;
+		}
+		return Double.parseDouble(new String(chars, start, end - start));
+	}
+
+	private static NumberFormatException invalid(String type, char[] chars, int start, int end) {
+		return new NumberFormatException("Unable to parse '" + new String(chars, start, end - start) + "' as " + type);
+	}
+}
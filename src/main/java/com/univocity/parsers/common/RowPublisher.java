@@ -0,0 +1,215 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+import com.univocity.parsers.common.record.*;
+
+import java.util.*;
+
+/**
+ * Publishes the rows parsed from an input to a {@link RowSubscriber}, following the protocol of the Reactive Streams {@code Publisher}.
+ *
+ * <p> Rows are parsed on demand: the parser only reads as many rows as the subscriber requested through {@link RowSubscription#request(long)},
+ * so that a slow consumer never forces rows to be buffered. The end of the input is only detected, and {@link RowSubscriber#onComplete()}
+ * invoked, when a row is requested after the last one. Cancelling the subscription stops the parser with {@link AbstractParser#stopParsing()}.
+ *
+ * <p> A publisher is created from an {@link Iterable} produced by the same parser, e.g.:
+ * <pre>{@code
+ * CsvParser parser = new CsvParser(settings);
+ * RowPublisher<String[]> publisher = new RowPublisher<String[]>(parser, parser.iterate(file, "UTF-8"));
+ * }</pre>
+ *
+ * <p> As the input can only be parsed once, a publisher accepts a single subscriber. Any other subscriber receives an {@link IllegalStateException}
+ * through {@link RowSubscriber#onError(Throwable)}.
+ *
+ * @param <T> the type of rows published, i.e. {@code String[]} or {@link Record}.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see AbstractParser#iterate(java.io.Reader)
+ * @see AbstractParser#iterateRecords(java.io.Reader)
+ */
+public class RowPublisher<T> {
+
+	private final AbstractParser<?> parser;
+	private final Iterable<T> rows;
+	private boolean subscribed;
+
+	/**
+	 * Creates a publisher of the rows of an input.
+	 *
+	 * @param parser the parser used to process the input.
+	 * @param rows   the rows of the input, as returned by {@link AbstractParser#iterate(java.io.Reader)},
+	 *               {@link AbstractParser#iterateRecords(java.io.Reader)} or any of their variants, invoked on the given parser.
+	 */
+	public RowPublisher(AbstractParser<?> parser, Iterable<T> rows) {
+		if (parser == null) {
+			throw new IllegalArgumentException("Parser cannot be null");
+		}
+		if (rows == null) {
+			throw new IllegalArgumentException("Rows to publish cannot be null");
+		}
+		this.parser = parser;
+		this.rows = rows;
+	}
+
+	/**
+	 * Subscribes to the rows of the input. Parsing starts only after the first request made through the subscription
+	 * given to {@link RowSubscriber#onSubscribe(RowSubscription)}.
+	 *
+	 * @param subscriber the subscriber that will receive the rows parsed from the input.
+	 */
+	public void subscribe(RowSubscriber<? super T> subscriber) {
+		if (subscriber == null) {
+			throw new IllegalArgumentException("Subscriber cannot be null");
+		}
+		boolean accepted;
+		synchronized (this) {
+			accepted = !subscribed;
+			subscribed = true;
+		}
+		Subscription subscription = new Subscription(subscriber);
+		if (accepted) {
+			subscriber.onSubscribe(subscription);
+		} else {
+			subscription.cancelled = true;
+			subscriber.onSubscribe(subscription);
+			subscriber.onError(new IllegalStateException("Rows of the input have already been published to another subscriber"));
+		}
+	}
+
+	private final class Subscription implements RowSubscription {
+
+		private final RowSubscriber<? super T> subscriber;
+		private Iterator<T> iterator;
+		private long demand;
+		private boolean emitting;
+		private boolean cancelled;
+		private boolean done;
+
+		Subscription(RowSubscriber<? super T> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				cancel();
+				subscriber.onError(new IllegalArgumentException("Number of rows requested must be positive. Got " + n));
+				return;
+			}
+			synchronized (this) {
+				if (cancelled || done) {
+					return;
+				}
+				demand += n;
+				if (demand < 0) {
+					demand = Long.MAX_VALUE;
+				}
+				if (emitting) {
+					return;
+				}
+				emitting = true;
+			}
+			emit();
+		}
+
+		@Override
+		public void cancel() {
+			synchronized (this) {
+				if (cancelled) {
+					return;
+				}
+				cancelled = true;
+				if (emitting) {
+					// the thread that is emitting rows stops the parser
+					return;
+				}
+				emitting = true;
+			}
+			stop();
+		}
+
+		private void emit() {
+			while (true) {
+				synchronized (this) {
+					if (cancelled || demand == 0) {
+						emitting = false;
+						break;
+					}
+					if (demand != Long.MAX_VALUE) {
+						demand--;
+					}
+				}
+
+				T row;
+				try {
+					if (iterator == null) {
+						iterator = rows.iterator();
+					}
+					row = iterator.hasNext() ? iterator.next() : null;
+				} catch (Throwable error) {
+					finish();
+					subscriber.onError(error);
+					return;
+				}
+
+				if (row == null) {
+					finish();
+					subscriber.onComplete();
+					return;
+				}
+
+				try {
+					subscriber.onNext(row);
+				} catch (RuntimeException e) {
+					synchronized (this) {
+						cancelled = true;
+					}
+					stop();
+					throw e;
+				}
+			}
+
+			boolean stop;
+			synchronized (this) {
+				stop = cancelled && !done;
+			}
+			if (stop) {
+				stop();
+			}
+		}
+
+		private void finish() {
+			synchronized (this) {
+				done = true;
+				emitting = false;
+			}
+		}
+
+		private void stop() {
+			synchronized (this) {
+				if (done) {
+					return;
+				}
+				done = true;
+				emitting = false;
+			}
+			if (iterator != null) {
+				parser.stopParsing();
+			}
+		}
+	}
+}
@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+/**
+ * Receives the rows produced by a {@link RowPublisher}, following the protocol of the Reactive Streams {@code Subscriber}.
+ *
+ * <p> {@link #onSubscribe(RowSubscription)} is invoked once, before anything else. Rows are then delivered through {@link #onNext(Object)},
+ * never more than the amount requested with {@link RowSubscription#request(long)}. Parsing ends with a single call to either
+ * {@link #onComplete()} or {@link #onError(Throwable)}, unless the subscription is cancelled.
+ *
+ * @param <T> the type of rows received.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see RowPublisher
+ */
+public interface RowSubscriber<T> {
+
+	/**
+	 * Notifies the subscriber that a subscription was created. No rows are parsed until they are requested through the given subscription.
+	 *
+	 * @param subscription the subscription used to request rows or to cancel the parsing process.
+	 */
+	void onSubscribe(RowSubscription subscription);
+
+	/**
+	 * Delivers the next row parsed from the input.
+	 *
+	 * @param row the row parsed.
+	 */
+	void onNext(T row);
+
+	/**
+	 * Notifies the subscriber that parsing failed. No further notifications will be sent.
+	 *
+	 * @param error the error that interrupted the parsing process.
+	 */
+	void onError(Throwable error);
+
+	/**
+	 * Notifies the subscriber that all rows of the input have been delivered. No further notifications will be sent.
+	 */
+	void onComplete();
+}
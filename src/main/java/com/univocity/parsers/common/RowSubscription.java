@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+/**
+ * Controls the flow of rows from a {@link RowPublisher} to its {@link RowSubscriber}, following the protocol of the Reactive Streams {@code Subscription}.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see RowPublisher
+ */
+public interface RowSubscription {
+
+	/**
+	 * Requests more rows. The rows are parsed and delivered to {@link RowSubscriber#onNext(Object)} by the thread that invokes this method,
+	 * unless another thread is already delivering rows, in which case that thread will deliver the additional rows as well.
+	 *
+	 * @param n the number of additional rows to parse. Must be positive, otherwise the subscriber receives an {@link IllegalArgumentException}
+	 *          through {@link RowSubscriber#onError(Throwable)}. {@link Long#MAX_VALUE} requests all rows of the input.
+	 */
+	void request(long n);
+
+	/**
+	 * Stops the parsing process with {@link AbstractParser#stopParsing()}, closing the input. No further rows will be delivered.
+	 */
+	void cancel();
+}
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+/**
+ * A read-only view of the values of a record parsed from the input, returned by {@link AbstractParser#parseNextView()}.
+ *
+ * <p> Values are exposed as {@link CharSequence} instances that read directly from the characters collected by the parser for the current record,
+ * so no {@code String} is created unless requested with {@link #getString(int)}, {@link #getValues()} or {@link CharSequence#toString()}.
+ *
+ * <p> A {@code RowView} is reused by the parser: it and all {@link CharSequence} instances obtained from it are only valid until the next record
+ * is parsed. Use {@link #getString(int)} or {@link #getValues()} to keep values for later use.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see AbstractParser#parseNextView()
+ */
+public interface RowView {
+
+	/**
+	 * Returns the number of values in the current record. If fields were selected and column reordering is enabled, this is the number of selected fields.
+	 *
+	 * @return the number of values in the current record.
+	 */
+	int length();
+
+	/**
+	 * Returns a view of a value of the current record, valid until the next record is parsed.
+	 *
+	 * @param index the position of the value in the record.
+	 *
+	 * @return the value at the given position, or {@code null} if the value is null.
+	 */
+	CharSequence getValue(int index);
+
+	/**
+	 * Returns a value of the current record as a {@code String}.
+	 *
+	 * @param index the position of the value in the record.
+	 *
+	 * @return the value at the given position, or {@code null} if the value is null.
+	 */
+	String getString(int index);
+
+	/**
+	 * Returns all values of the current record as {@code String}s.
+	 *
+	 * @return a new array with the values of the current record.
+	 */
+	String[] getValues();
+
+	/**
+	 * Parses a value of the current record as an {@code int}, reading its characters directly. The value must consist of an optional sign and decimal digits.
+	 *
+	 * @param index the position of the value in the record.
+	 *
+	 * @return the parsed value
+	 *
+	 * @throws NumberFormatException if the value is null or does not represent an {@code int}
+	 */
+	int getInt(int index);
+
+	/**
+	 * Parses a value of the current record as a {@code long}, reading its characters directly. The value must consist of an optional sign and decimal digits.
+	 *
+	 * @param index the position of the value in the record.
+	 *
+	 * @return the parsed value
+	 *
+	 * @throws NumberFormatException if the value is null or does not represent a {@code long}
+	 */
+	long getLong(int index);
+
+	/**
+	 * Parses a value of the current record as a {@code double}, reading its characters directly. The value must consist of an optional sign,
+	 * decimal digits with an optional fraction separated by {@code '.'}, and an optional exponent, as in {@code -12.5e3}. The result is the same
+	 * as the one produced by {@link Double#parseDouble(String)}.
+	 *
+	 * @param index the position of the value in the record.
+	 *
+	 * @return the parsed value
+	 *
+	 * @throws NumberFormatException if the value is null or does not represent a decimal number
+	 */
+	double getDouble(int index);
+}
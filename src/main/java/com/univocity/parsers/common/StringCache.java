@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+/**
+ * A bounded cache of Strings used to return the same instance for repeated values of a column, instead of allocating a new String
+ * for each one of them. Values are looked up by hashing their characters, so no String is created when a value is found in the cache.
+ *
+ * <p> Each value can only be stored in one position of the cache, which is given by its hash code. A value replaces whatever was
+ * cached in its position, so the cache never grows beyond the size given in the constructor.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see CommonParserSettings#internFields(String...)
+ */
+final class StringCache {
+
+	/**
+	 * The maximum number of values held by a cache.
+	 */
+	static final int MAX_SIZE = 1 << 20;
+
+	private final String[] entries;
+	private final int mask;
+
+	/**
+	 * Creates a cache that holds up to the given number of values, rounded up to the next power of two and limited to {@link #MAX_SIZE}.
+	 *
+	 * @param size the maximum number of values to cache.
+	 */
+	StringCache(int size) {
+		int capacity = size <= 1 ? 1 : Integer.highestOneBit(Math.min(size, MAX_SIZE) - 1) << 1;
+		this.entries = new String[capacity];
+		this.mask = capacity - 1;
+	}
+
+	/**
+	 * Returns a String with the given characters, from the cache if possible.
+	 *
+	 * @param chars  the characters of the value
+	 * @param length the number of characters to take from the given array, starting from its first position.
+	 *
+	 * @return a String with the given characters.
+	 */
+	String get(char[] chars, int length) {
+		int hash = 0;
+		for (int i = 0; i < length; i++) {
+			hash = 31 * hash + chars[i];
+		}
+
+		int position = (hash ^ (hash >>> 16)) & mask;
+		String cached = entries[position];
+		if (cached != null && cached.length() == length && cached.hashCode() == hash && matches(cached, chars, length)) {
+			return cached;
+		}
+
+		String value = new String(chars, 0, length);
+		entries[position] = value;
+		return value;
+	}
+
+	private static boolean matches(String cached, char[] chars, int length) {
+		for (int i = 0; i < length; i++) {
+			if (cached.charAt(i) != chars[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -72,6 +72,12 @@ public class FieldConversionMapping {
 	 */
 	private Map<Integer, List<Conversion<?, ?>>> conversionsByIndex = Collections.emptyMap();
 
+	/**
+	 * The conversions of {@link #conversionsByIndex}, stored at the position of each index, so that the conversions of a value can be found
+	 * without a map lookup while records are processed.
+	 */
+	private Conversion<?, ?>[][] conversionsAtIndex = new Conversion<?, ?>[0][];
+
 	/**
 	 * Prepares the conversions registered in this object to be executed against a given sequence of fields
 	 *
@@ -99,6 +105,23 @@ public class FieldConversionMapping {
 			fieldEnumConversionMapping.prepareExecution(writing, next, conversionsByIndex, values);
 			convertAllMapping.prepareExecution(writing, next, conversionsByIndex, values);
 		}
+
+		int length = 0;
+		for (Integer index : conversionsByIndex.keySet()) {
+			if (index >= length) {
+				length = index + 1;
+			}
+		}
+		conversionsAtIndex = new Conversion<?, ?>[length][];
+		for (Map.Entry<Integer, List<Conversion<?, ?>>> e : conversionsByIndex.entrySet()) {
+			if (e.getKey() >= 0) {
+				conversionsAtIndex[e.getKey()] = e.getValue().toArray(new Conversion<?, ?>[e.getValue().size()]);
+			}
+		}
+	}
+
+	private Conversion<?, ?>[] conversionsAt(int index) {
+		return index >= 0 && index < conversionsAtIndex.length ? conversionsAtIndex[index] : null;
 	}
 
 	/**
@@ -157,7 +180,7 @@ public class FieldConversionMapping {
 	 */
 	@SuppressWarnings({"unchecked", "rawtypes"})
 	public Object reverseConversions(boolean executeInReverseOrder, int index, Object value, boolean[] convertedFlags) {
-		List<Conversion<?, ?>> conversions = conversionsByIndex.get(index);
+		Conversion[] conversions = conversionsAt(index);
 		if (conversions != null) {
 			if (convertedFlags != null) {
 				convertedFlags[index] = true;
@@ -165,13 +188,13 @@ public class FieldConversionMapping {
 			Conversion conversion = null;
 			try {
 				if (executeInReverseOrder) {
-					for (int i = conversions.size() - 1; i >= 0; i--) {
-						conversion = conversions.get(i);
+					for (int i = conversions.length - 1; i >= 0; i--) {
+						conversion = conversions[i];
 						value = conversion.revert(value);
 					}
 				} else {
-					for (Conversion<?, ?> c : conversions) {
-						conversion = c;
+					for (int i = 0; i < conversions.length; i++) {
+						conversion = conversions[i];
 						value = conversion.revert(value);
 					}
 				}
@@ -203,13 +226,14 @@ public class FieldConversionMapping {
 	 */
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	public Object applyConversions(int index, String stringValue, boolean[] convertedFlags) {
-		List<Conversion<?, ?>> conversions = conversionsByIndex.get(index);
+		Conversion[] conversions = conversionsAt(index);
 		if (conversions != null) {
 			if (convertedFlags != null) {
 				convertedFlags[index] = true;
 			}
 			Object result = stringValue;
-			for (Conversion conversion : conversions) {
+			for (int i = 0; i < conversions.length; i++) {
+				Conversion conversion = conversions[i];
 				try {
 					result = conversion.execute(result);
 				} catch (DataProcessingException ex) {
@@ -235,14 +259,10 @@ public class FieldConversionMapping {
 	 */
 	@SuppressWarnings("rawtypes")
 	public Conversion[] getConversions(int index, Class<?> expectedType) {
-		List<Conversion<?, ?>> conversions = conversionsByIndex.get(index);
+		Conversion[] conversions = conversionsAt(index);
 		Conversion[] out;
 		if (conversions != null) {
-			out = new Conversion[conversions.size()];
-			int i = 0;
-			for (Conversion conversion : conversions) {
-				out[i++] = conversion;
-			}
+			out = conversions.clone();
 		} else if (expectedType == String.class) {
 			return EMPTY_CONVERSION_ARRAY;
 		} else {
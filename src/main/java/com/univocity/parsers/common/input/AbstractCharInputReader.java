@@ -46,6 +46,9 @@ public abstract class AbstractCharInputReader implements CharInputReader {
 
 	private long lineCount;
 	private long charCount;
+	private long reloadCount;
+	private long reloadTime;
+	private boolean reloadTimingEnabled;
 
 	/**
 	 * Current position in the buffer
@@ -138,6 +141,8 @@ public abstract class AbstractCharInputReader implements CharInputReader {
 		stop();
 		setReader(reader);
 		lineCount = 0;
+		reloadCount = 0;
+		reloadTime = 0;
 
 		lineSeparatorDetected = false;
 		submitLineSeparatorDetector();
@@ -154,7 +159,14 @@ public abstract class AbstractCharInputReader implements CharInputReader {
 	 * <p> If there are no more characters in the input, the reading will stop by invoking the {@link AbstractCharInputReader#stop()} method.
 	 */
 	private void updateBuffer() {
-		reloadBuffer();
+		if (reloadTimingEnabled) {
+			long start = System.nanoTime();
+			reloadBuffer();
+			reloadTime += System.nanoTime() - start;
+		} else {
+			reloadBuffer();
+		}
+		reloadCount++;
 
 		charCount += i;
 		i = 0;
@@ -236,6 +248,41 @@ public abstract class AbstractCharInputReader implements CharInputReader {
 		return ch;
 	}
 
+	/**
+	 * Reads a run of characters straight from the {@link AbstractCharInputReader#buffer}, as an alternative to calling {@link #nextChar()} for each one of them.
+	 * Stops before any of the given stop characters or the first character of the line separator, so these are still returned by
+	 * {@link #nextChar()} and processed as usual. The last character of the buffer is never read by this method, so that {@link #nextChar()}
+	 * is responsible for loading the next buffer.
+	 *
+	 * @param out    the array to copy characters into. If {@code null}, the characters are simply skipped.
+	 * @param offset position of {@code out} to receive the first character
+	 * @param max    maximum number of characters to read
+	 * @param stop1  the first character that stops the reading process
+	 * @param stop2  the second character that stops the reading process
+	 * @param stop3  the third character that stops the reading process
+	 *
+	 * @return the number of characters read, all of which are consumed from the input.
+	 */
+	final int readUntil(char[] out, int offset, int max, char stop1, char stop2, char stop3) {
+		final int start = i - 1;
+		final int end = Math.min(length - 1, start + max);
+		if (start < 0 || start >= end) {
+			return 0;
+		}
+		final char[] buffer = this.buffer;
+		final char lineSeparator = lineSeparator1;
+
+		int p = start;
+		for (char c; p < end && (c = buffer[p]) != stop1 && c != stop2 && c != stop3 && c != lineSeparator; p++) ;
+
+		int count = p - start;
+		if (out != null && count > 0) {
+			System.arraycopy(buffer, start, out, offset, count);
+		}
+		i += count;
+		return count;
+	}
+
 	@Override
 	public final char getChar() {
 		return ch;
@@ -295,6 +342,68 @@ public abstract class AbstractCharInputReader implements CharInputReader {
 		return charCount + i;
 	}
 
+	/**
+	 * Returns the number of bytes consumed from the input so far, if known. Readers that decode characters from a {@link Reader} can't tell
+	 * how many bytes were read, and return -1, which is the default.
+	 *
+	 * @return the number of bytes read from the input, or -1 if unknown.
+	 */
+	public long byteCount() {
+		return -1L;
+	}
+
+	/**
+	 * Returns the offset, in bytes from the beginning of the input, of the next character to be read, if known. Readers that decode
+	 * characters from a {@link Reader} can't tell how many bytes each character takes, and return -1, which is the default.
+	 *
+	 * @return the byte offset of the next character, or -1 if unknown.
+	 */
+	public long byteOffset() {
+		return -1L;
+	}
+
+	/**
+	 * Adjusts the number of characters and lines read so far, when the input given to {@link #start(Reader)} is positioned after the
+	 * beginning of the original input (e.g. when parsing is resumed from a {@link com.univocity.parsers.common.Checkpoint}).
+	 * Must be invoked after {@link #start(Reader)}.
+	 *
+	 * @param charCount the number of characters of the original input that precede the current position.
+	 * @param lineCount the number of lines of the original input that precede the current position.
+	 */
+	public final void setCounts(long charCount, long lineCount) {
+		this.charCount = charCount + 1 - i;
+		this.lineCount = lineCount;
+	}
+
+	/**
+	 * Returns the number of times the {@link AbstractCharInputReader#buffer} was loaded with characters from the input, since {@link #start(Reader)} was invoked.
+	 *
+	 * @return the number of buffer reloads.
+	 */
+	public final long bufferReloadCount() {
+		return reloadCount;
+	}
+
+	/**
+	 * Returns the time spent in {@link #reloadBuffer()}, since {@link #start(Reader)} was invoked. Only measured if enabled with
+	 * {@link #setBufferReloadTimingEnabled(boolean)}.
+	 *
+	 * @return the time spent reading from the input, in nanoseconds, or 0 if not measured.
+	 */
+	public final long bufferReloadTime() {
+		return reloadTime;
+	}
+
+	/**
+	 * Defines whether the time spent in {@link #reloadBuffer()} should be measured (disabled by default, to avoid the overhead of reading the
+	 * system clock on every reload).
+	 *
+	 * @param reloadTimingEnabled flag indicating whether the time spent loading the buffer should be measured.
+	 */
+	public final void setBufferReloadTimingEnabled(boolean reloadTimingEnabled) {
+		this.reloadTimingEnabled = reloadTimingEnabled;
+	}
+
 	@Override
 	public final void enableNormalizeLineEndings(boolean normalizeLineEndings) {
 		this.normalizeLineEndings = normalizeLineEndings;
@@ -0,0 +1,295 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input;
+
+import com.univocity.parsers.common.*;
+
+import java.io.*;
+import java.nio.charset.*;
+
+/**
+ * A {@link CharInputReader} that reads bytes from an {@link InputStream} and decodes them into the parser buffer without going through a
+ * {@link java.io.Reader} or a {@link CharsetDecoder}.
+ *
+ * <p> Only encodings where every character of the ASCII range is represented by a single byte are supported: US-ASCII, ISO-8859-1 and UTF-8
+ * (see {@link #isSupported(Charset)}). ISO-8859-1 bytes are simply widened to characters, and UTF-8 input is decoded with a fast path for
+ * ASCII bytes. Malformed input is replaced with the replacement character (U+FFFD), as done by {@link java.io.InputStreamReader}.
+ *
+ * <p> The {@link java.io.Reader} given to {@link CharInputReader#start(Reader)} is ignored by this implementation. The input is always
+ * the {@link InputStream} provided in the constructor.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see com.univocity.parsers.common.CommonParserSettings#isByteLevelDecodingEnabled()
+ */
+public class ByteCharInputReader extends AbstractCharInputReader {
+
+	static final char REPLACEMENT = '\uFFFD';
+
+	static final int ASCII = 0;
+	static final int LATIN_1 = 1;
+	static final int UTF_8 = 2;
+
+	private final InputStream source;
+	private final int encoding;
+	private final byte[] bytes;
+	private final ByteOffsetCounter offsets;
+
+	private InputStream input;
+	private int byteStart;
+	private int byteEnd;
+	private long byteCount;
+
+	/**
+	 * Creates a new instance with the mandatory characters for handling newlines transparently. Line separators will be detected automatically.
+	 *
+	 * @param normalizedLineSeparator the normalized newline character (as defined in {@link Format#getNormalizedNewline()}) that is used to replace any lineSeparator sequence found in the input.
+	 * @param bufferSize              the buffer size used to store characters decoded from the input.
+	 * @param input                   the input stream to be read.
+	 * @param encoding                the encoding of the input stream. Must be supported by {@link #isSupported(Charset)}
+	 */
+	public ByteCharInputReader(char normalizedLineSeparator, int bufferSize, InputStream input, Charset encoding) {
+		super(normalizedLineSeparator);
+		super.buffer = new char[Math.max(bufferSize, 2)];
+		this.bytes = new byte[Math.max(bufferSize, 4)];
+		this.source = input;
+		this.encoding = getEncodingType(encoding);
+		this.offsets = new ByteOffsetCounter(this.encoding);
+	}
+
+	/**
+	 * Creates a new instance with the mandatory characters for handling newlines transparently.
+	 *
+	 * @param lineSeparator           the sequence of characters that represent a newline, as defined in {@link Format#getLineSeparator()}
+	 * @param normalizedLineSeparator the normalized newline character (as defined in {@link Format#getNormalizedNewline()}) that is used to replace any lineSeparator sequence found in the input.
+	 * @param bufferSize              the buffer size used to store characters decoded from the input.
+	 * @param input                   the input stream to be read.
+	 * @param encoding                the encoding of the input stream. Must be supported by {@link #isSupported(Charset)}
+	 */
+	public ByteCharInputReader(char[] lineSeparator, char normalizedLineSeparator, int bufferSize, InputStream input, Charset encoding) {
+		super(lineSeparator, normalizedLineSeparator);
+		super.buffer = new char[Math.max(bufferSize, 2)];
+		this.bytes = new byte[Math.max(bufferSize, 4)];
+		this.source = input;
+		this.encoding = getEncodingType(encoding);
+		this.offsets = new ByteOffsetCounter(this.encoding);
+	}
+
+	/**
+	 * Tests whether the given encoding can be decoded by this class.
+	 *
+	 * @param encoding the encoding of the input
+	 *
+	 * @return {@code true} if the encoding is US-ASCII, ISO-8859-1 or UTF-8, otherwise {@code false}
+	 */
+	public static boolean isSupported(Charset encoding) {
+		return encoding != null && encodingType(encoding) != -1;
+	}
+
+	static int encodingType(Charset encoding) {
+		String name = encoding.name();
+		if ("UTF-8".equals(name)) {
+			return UTF_8;
+		}
+		if ("ISO-8859-1".equals(name)) {
+			return LATIN_1;
+		}
+		if ("US-ASCII".equals(name)) {
+			return ASCII;
+		}
+		return -1;
+	}
+
+	private static int getEncodingType(Charset encoding) {
+		int type = encoding == null ? -1 : encodingType(encoding);
+		if (type == -1) {
+			throw new IllegalArgumentException("Unsupported encoding: " + encoding + ". Only US-ASCII, ISO-8859-1 and UTF-8 can be decoded directly from bytes.");
+		}
+		return type;
+	}
+
+	/**
+	 * Prepares to read from the {@link InputStream} provided in the constructor. The given reader is ignored.
+	 *
+	 * @param reader ignored.
+	 */
+	@Override
+	protected void setReader(Reader reader) {
+		input = source;
+		byteStart = 0;
+		byteEnd = 0;
+		byteCount = 0L;
+	}
+
+	/**
+	 * Reads a sequence of bytes from the input, decodes them into the {@link ByteCharInputReader#buffer}, and updates the {@link ByteCharInputReader#length}
+	 * to the number of characters decoded. Incomplete multi-byte characters at the end of the bytes read are kept for the next call.
+	 */
+	@Override
+	protected void reloadBuffer() {
+		try {
+			int pending = byteEnd - byteStart;
+			offsets.reset(byteCount - pending);
+			if (pending > 0) {
+				System.arraycopy(bytes, byteStart, bytes, 0, pending);
+			}
+			byteStart = 0;
+			byteEnd = pending;
+
+			// bytes may be pending if the buffer was filled up before all of them could be decoded.
+			int decoded = pending > 0 ? decode() : 0;
+			while (decoded == 0) {
+				int read = input.read(bytes, byteEnd, bytes.length - byteEnd);
+				if (read == -1) {
+					if (byteEnd > 0) { //input ended in the middle of a multi-byte character
+						byteEnd = 0;
+						buffer[0] = REPLACEMENT;
+						decoded = 1;
+					} else {
+						decoded = -1;
+					}
+					break;
+				}
+				byteEnd += read;
+				byteCount += read;
+				decoded = decode();
+			}
+			super.length = decoded;
+		} catch (IOException e) {
+			throw new IllegalStateException("Error reading from input", e);
+		}
+	}
+
+	private int decode() {
+		if (encoding == UTF_8) {
+			return decodeUtf8();
+		}
+
+		final byte[] bytes = this.bytes;
+		final char[] buffer = this.buffer;
+		final int end = Math.min(byteEnd, buffer.length);
+		if (encoding == LATIN_1) {
+			for (int i = 0; i < end; i++) {
+				buffer[i] = (char) (bytes[i] & 0xFF);
+			}
+		} else {
+			for (int i = 0; i < end; i++) {
+				byte b = bytes[i];
+				buffer[i] = b >= 0 ? (char) b : REPLACEMENT;
+			}
+		}
+		byteStart = end;
+		return end;
+	}
+
+	private int decodeUtf8() {
+		final byte[] bytes = this.bytes;
+		final char[] buffer = this.buffer;
+		final int end = byteEnd;
+		final int limit = buffer.length;
+
+		int i = 0;
+		int out = 0;
+		while (i < end && out < limit) {
+			int b = bytes[i];
+			if (b >= 0) {
+				buffer[out++] = (char) b;
+				i++;
+				continue;
+			}
+
+			int sequenceLength;
+			int codePoint;
+			if ((b & 0xE0) == 0xC0) {
+				sequenceLength = 2;
+				codePoint = b & 0x1F;
+			} else if ((b & 0xF0) == 0xE0) {
+				sequenceLength = 3;
+				codePoint = b & 0x0F;
+			} else if ((b & 0xF8) == 0xF0) {
+				sequenceLength = 4;
+				codePoint = b & 0x07;
+			} else {
+				buffer[out++] = REPLACEMENT;
+				i++;
+				continue;
+			}
+
+			int available = Math.min(sequenceLength, end - i);
+			int valid = 1;
+			while (valid < available && (bytes[i + valid] & 0xC0) == 0x80) {
+				codePoint = (codePoint << 6) | (bytes[i + valid] & 0x3F);
+				valid++;
+			}
+
+			if (valid < sequenceLength) {
+				if (valid == available && i + available == end) {
+					break; //incomplete character at the end of the bytes read. Will decode it after reading more bytes.
+				}
+				buffer[out++] = REPLACEMENT;
+				i += valid;
+				continue;
+			}
+
+			if (sequenceLength == 2 && codePoint < 0x80
+					|| sequenceLength == 3 && (codePoint < 0x800 || (codePoint >= 0xD800 && codePoint <= 0xDFFF))
+					|| sequenceLength == 4 && (codePoint < 0x10000 || codePoint > 0x10FFFF)) {
+				buffer[out++] = REPLACEMENT;
+				i++;
+				continue;
+			}
+
+			if (sequenceLength == 4) {
+				if (out + 1 == limit) {
+					break; //no room for the surrogate pair. Will decode it in the next buffer.
+				}
+				codePoint -= 0x10000;
+				buffer[out++] = (char) (0xD800 + (codePoint >>> 10));
+				buffer[out++] = (char) (0xDC00 + (codePoint & 0x3FF));
+			} else {
+				buffer[out++] = (char) codePoint;
+			}
+			i += sequenceLength;
+		}
+		byteStart = i;
+		return out;
+	}
+
+	@Override
+	public long byteCount() {
+		return byteCount;
+	}
+
+	@Override
+	public long byteOffset() {
+		if (length == -1) {
+			return byteCount;
+		}
+		return offsets.offset(buffer, Math.max(i - 1, 0));
+	}
+
+	@Override
+	public void stop() {
+		try {
+			if (input != null) {
+				input.close();
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Error closing input", e);
+		} finally {
+			input = null;
+		}
+	}
+}
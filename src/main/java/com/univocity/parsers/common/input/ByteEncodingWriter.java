@@ -0,0 +1,198 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input;
+
+import java.io.*;
+import java.nio.charset.*;
+
+/**
+ * A {@link Writer} that encodes characters straight into a reusable byte buffer, which is written to an {@link OutputStream} whenever it is full,
+ * without going through an {@link java.io.OutputStreamWriter} and its {@link CharsetEncoder}.
+ *
+ * <p> Only the encodings supported by {@link ByteCharInputReader#isSupported(Charset)} can be used: US-ASCII, ISO-8859-1 and UTF-8.
+ * Characters that can't be represented in the encoding, as well as unpaired surrogates, are replaced with {@code '?'}, as done by
+ * {@link java.io.OutputStreamWriter}.
+ *
+ * <p> Instances of this class are not thread-safe.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see com.univocity.parsers.common.CommonWriterSettings#isByteLevelEncodingEnabled()
+ */
+public class ByteEncodingWriter extends Writer {
+
+	private static final byte REPLACEMENT = '?';
+	private static final char MIN_HIGH_SURROGATE = '\uD800';
+	private static final char MIN_LOW_SURROGATE = '\uDC00';
+	private static final char MAX_LOW_SURROGATE = '\uDFFF';
+
+	private final OutputStream output;
+	private final int encoding;
+	private final char max;
+	private final byte[] bytes;
+	private int length;
+	private char highSurrogate;
+	private boolean closed;
+
+	/**
+	 * Creates a new instance that writes the encoded characters to the given output stream.
+	 *
+	 * @param output     the output stream to be written.
+	 * @param encoding   the encoding of the output. Must be supported by {@link ByteCharInputReader#isSupported(Charset)}
+	 * @param bufferSize the number of bytes accumulated before they are written to the output stream. Must be at least 4.
+	 */
+	public ByteEncodingWriter(OutputStream output, Charset encoding, int bufferSize) {
+		if (output == null) {
+			throw new IllegalArgumentException("Output stream cannot be null");
+		}
+		if (bufferSize < 4) {
+			throw new IllegalArgumentException("Invalid buffer size: " + bufferSize + ". At least 4 bytes are required to encode any character.");
+		}
+		int type = encoding == null ? -1 : ByteCharInputReader.encodingType(encoding);
+		if (type == -1) {
+			throw new IllegalArgumentException("Unsupported encoding: " + encoding + ". Only US-ASCII, ISO-8859-1 and UTF-8 can be encoded directly into bytes.");
+		}
+		this.output = output;
+		this.encoding = type;
+		this.max = type == ByteCharInputReader.LATIN_1 ? '\u00FF' : '\u007F';
+		this.bytes = new byte[bufferSize];
+	}
+
+	private void ensureOpen() throws IOException {
+		if (closed) {
+			throw new IOException("Writer closed");
+		}
+	}
+
+	@Override
+	public void write(int c) throws IOException {
+		ensureOpen();
+		encode((char) c);
+	}
+
+	@Override
+	public void write(char[] chars, int offset, int count) throws IOException {
+		ensureOpen();
+		final int end = offset + count;
+		for (; offset < end; offset++) {
+			char ch = chars[offset];
+			if (ch <= max && highSurrogate == 0 && length < bytes.length) {
+				bytes[length++] = (byte) ch;
+			} else {
+				encode(ch);
+			}
+		}
+	}
+
+	@Override
+	public void write(String str, int offset, int count) throws IOException {
+		ensureOpen();
+		final int end = offset + count;
+		for (; offset < end; offset++) {
+			char ch = str.charAt(offset);
+			if (ch <= max && highSurrogate == 0 && length < bytes.length) {
+				bytes[length++] = (byte) ch;
+			} else {
+				encode(ch);
+			}
+		}
+	}
+
+	private void encode(char ch) throws IOException {
+		if (bytes.length - length < 4) {
+			writeBytes();
+		}
+
+		if (highSurrogate != 0) {
+			char high = highSurrogate;
+			highSurrogate = 0;
+			if (ch >= MIN_LOW_SURROGATE && ch <= MAX_LOW_SURROGATE) {
+				if (encoding != ByteCharInputReader.UTF_8) {
+					bytes[length++] = REPLACEMENT;
+					return;
+				}
+				int codePoint = ((high - MIN_HIGH_SURROGATE) << 10) + (ch - MIN_LOW_SURROGATE) + 0x10000;
+				bytes[length++] = (byte) (0xF0 | (codePoint >> 18));
+				bytes[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+				bytes[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+				bytes[length++] = (byte) (0x80 | (codePoint & 0x3F));
+				return;
+			}
+			bytes[length++] = REPLACEMENT;
+			encode(ch);
+			return;
+		}
+
+		if (ch >= MIN_HIGH_SURROGATE && ch < MIN_LOW_SURROGATE) {
+			highSurrogate = ch;
+		} else if (ch <= max) {
+			bytes[length++] = (byte) ch;
+		} else if (encoding != ByteCharInputReader.UTF_8 || (ch >= MIN_LOW_SURROGATE && ch <= MAX_LOW_SURROGATE)) {
+			bytes[length++] = REPLACEMENT;
+		} else if (ch < 0x800) {
+			bytes[length++] = (byte) (0xC0 | (ch >> 6));
+			bytes[length++] = (byte) (0x80 | (ch & 0x3F));
+		} else {
+			bytes[length++] = (byte) (0xE0 | (ch >> 12));
+			bytes[length++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+			bytes[length++] = (byte) (0x80 | (ch & 0x3F));
+		}
+	}
+
+	private void writeBytes() throws IOException {
+		ensureOpen();
+		if (length > 0) {
+			output.write(bytes, 0, length);
+			length = 0;
+		}
+	}
+
+	/**
+	 * Writes all bytes encoded so far to the output stream, and flushes it. A high surrogate at the end of the content written so far is kept
+	 * until the next character is written, as it can only be encoded together with the low surrogate that follows it.
+	 *
+	 * @throws IOException if an error occurs writing to the output stream.
+	 */
+	@Override
+	public void flush() throws IOException {
+		writeBytes();
+		output.flush();
+	}
+
+	/**
+	 * Writes all bytes encoded so far and closes the output stream. An unpaired high surrogate at the end of the content is written as {@code '?'}.
+	 *
+	 * @throws IOException if an error occurs writing to or closing the output stream.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		try {
+			if (highSurrogate != 0) {
+				highSurrogate = 0;
+				if (length == bytes.length) {
+					writeBytes();
+				}
+				bytes[length++] = REPLACEMENT;
+			}
+			writeBytes();
+		} finally {
+			closed = true;
+			output.close();
+		}
+	}
+}
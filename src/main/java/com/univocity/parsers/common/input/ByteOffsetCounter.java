@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input;
+
+/**
+ * Computes the byte offset of a position of a buffer of characters, decoded from the input by a {@link ByteCharInputReader} or a
+ * {@link MappedFileCharInputReader}, by counting the bytes that represent each character in the encoding of the input.
+ *
+ * <p> The count is incremental, so the cost of computing the offset of successive positions of the same buffer is proportional to the
+ * number of characters between them.
+ *
+ * <p> The offset is unknown if the encoding is not supported by {@link ByteCharInputReader#isSupported(java.nio.charset.Charset)}, or if a character
+ * before the position is a UTF-8 replacement character (U+FFFD), as the number of bytes of malformed input it replaced can't be determined.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ */
+final class ByteOffsetCounter {
+
+	private final int encoding;
+
+	private int position;
+	private long offset;
+
+	/**
+	 * Creates a counter for the given encoding
+	 *
+	 * @param encoding the encoding type, as returned by {@link ByteCharInputReader#encodingType(java.nio.charset.Charset)}
+	 */
+	ByteOffsetCounter(int encoding) {
+		this.encoding = encoding;
+	}
+
+	/**
+	 * Resets this counter to process a new buffer.
+	 *
+	 * @param bufferOffset the byte offset of the first character of the buffer.
+	 */
+	void reset(long bufferOffset) {
+		this.position = 0;
+		this.offset = encoding == -1 ? -1L : bufferOffset;
+	}
+
+	/**
+	 * Returns the byte offset of a character of the buffer.
+	 *
+	 * @param buffer   the buffer of characters decoded from the input since the last call to {@link #reset(long)}.
+	 * @param position the position of the character in the buffer.
+	 *
+	 * @return the byte offset of the given position, or -1 if unknown.
+	 */
+	long offset(char[] buffer, int position) {
+		if (offset == -1L) {
+			return -1L;
+		}
+		if (position < this.position) {
+			throw new IllegalStateException("Can't compute the byte offset of a previous position of the buffer");
+		}
+		if (encoding != ByteCharInputReader.UTF_8) {
+			offset += position - this.position;
+			this.position = position;
+			return offset;
+		}
+
+		long bytes = offset;
+		for (int i = this.position; i < position; i++) {
+			char ch = buffer[i];
+			if (ch < 0x80) {
+				bytes++;
+			} else if (ch < 0x800) {
+				bytes += 2;
+			} else if (Character.isHighSurrogate(ch)) {
+				bytes += 4;
+			} else if (Character.isLowSurrogate(ch)) {
+				//counted with the high surrogate
+			} else if (ch == ByteCharInputReader.REPLACEMENT) {
+				offset = -1L;
+				return -1L;
+			} else {
+				bytes += 3;
+			}
+		}
+		this.position = position;
+		offset = bytes;
+		return bytes;
+	}
+}
@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input;
+
+import java.io.*;
+import java.util.zip.*;
+
+/**
+ * The compression formats that can be identified from the first bytes of an input, and decompressed while it is parsed.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see com.univocity.parsers.common.CommonParserSettings#isCompressedInputDetectionEnabled()
+ */
+public enum Compression {
+
+	/**
+	 * Uncompressed input
+	 */
+	NONE,
+
+	/**
+	 * Input in the GZIP file format (RFC 1952), such as files created with the {@code gzip} utility, or {@link GZIPOutputStream}.
+	 */
+	GZIP,
+
+	/**
+	 * Input in the ZLIB format (RFC 1950), such as the output of {@link DeflaterOutputStream}.
+	 */
+	DEFLATE;
+
+	private static final int HEADER_SIZE = 512;
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * Identifies the compression format of the given input stream, and wraps it in a stream that decompresses its contents if required.
+	 * The first bytes of the input are read to identify its format, so the given stream must not be used afterwards.
+	 *
+	 * @param input the input stream that may contain compressed data.
+	 *
+	 * @return an input stream that returns the decompressed contents of the given input.
+	 *
+	 * @throws IOException if an error occurs reading from the input stream.
+	 */
+	public static InputStream decompress(InputStream input) throws IOException {
+		if (!input.markSupported()) {
+			input = new BufferedInputStream(input, BUFFER_SIZE);
+		}
+		return detect(input).wrap(input);
+	}
+
+	/**
+	 * Identifies the compression format of the given input stream from its first bytes, and resets it to its initial position.
+	 *
+	 * @param input the input stream, which must support {@link InputStream#mark(int)}.
+	 *
+	 * @return the compression format of the input.
+	 *
+	 * @throws IOException if an error occurs reading from the input stream.
+	 */
+	public static Compression detect(InputStream input) throws IOException {
+		byte[] header = new byte[HEADER_SIZE];
+		input.mark(HEADER_SIZE);
+		int length = 0;
+		try {
+			int read;
+			while (length < HEADER_SIZE && (read = input.read(header, length, HEADER_SIZE - length)) != -1) {
+				length += read;
+			}
+		} finally {
+			input.reset();
+		}
+		return detect(header, length);
+	}
+
+	/**
+	 * Identifies the compression format of a file from its first bytes.
+	 *
+	 * @param file the file that may contain compressed data.
+	 *
+	 * @return the compression format of the file.
+	 *
+	 * @throws IOException if an error occurs reading from the file.
+	 */
+	public static Compression detect(File file) throws IOException {
+		InputStream input = new BufferedInputStream(new FileInputStream(file), HEADER_SIZE);
+		try {
+			return detect(input);
+		} finally {
+			input.close();
+		}
+	}
+
+	/**
+	 * Identifies the compression format of an input from its first bytes.
+	 *
+	 * <p> GZIP input is identified by its magic number. ZLIB input only has a two-byte header, which might match the first characters of text,
+	 * so only the headers produced by the default 32K window of ZLIB encoders are accepted, and the given bytes must also be decompressed without errors.
+	 * If the entire input fits in the given bytes, its compressed stream must end within them.
+	 *
+	 * @param header the first bytes of the input
+	 * @param length the number of bytes available in the header.
+	 *
+	 * @return the compression format of the input.
+	 */
+	static Compression detect(byte[] header, int length) {
+		if (length < 2) {
+			return NONE;
+		}
+		int b0 = header[0] & 0xFF;
+		int b1 = header[1] & 0xFF;
+
+		if (b0 == 0x1F && b1 == 0x8B) {
+			return GZIP;
+		}
+
+		if (b0 == 0x78 && (b1 == 0x01 || b1 == 0x5E || b1 == 0x9C || b1 == 0xDA)) {
+			Inflater inflater = new Inflater();
+			try {
+				inflater.setInput(header, 0, length);
+				byte[] out = new byte[HEADER_SIZE * 4];
+				while (!inflater.finished() && inflater.inflate(out) > 0) ;
+				if (inflater.finished() || (length == HEADER_SIZE && inflater.getTotalOut() > 0)) {
+					return DEFLATE;
+				}
+			} catch (DataFormatException e) {
+				//not compressed
+			} finally {
+				inflater.end();
+			}
+		}
+		return NONE;
+	}
+
+	/**
+	 * Wraps the given input stream in a stream that decompresses its contents in this format.
+	 *
+	 * @param input the input stream with data in this compression format.
+	 *
+	 * @return a stream that decompresses the contents of the given input, or the input itself if it is not compressed.
+	 *
+	 * @throws IOException if an error occurs reading from the input stream.
+	 */
+	public InputStream wrap(InputStream input) throws IOException {
+		switch (this) {
+			case GZIP:
+				return new GZIPInputStream(input, BUFFER_SIZE);
+			case DEFLATE: {
+				final Inflater inflater = new Inflater();
+				return new InflaterInputStream(input, inflater, BUFFER_SIZE) {
+					@Override
+					public void close() throws IOException {
+						try {
+							super.close();
+						} finally {
+							inflater.end();
+						}
+					}
+				};
+			}
+			default:
+				return input;
+		}
+	}
+}
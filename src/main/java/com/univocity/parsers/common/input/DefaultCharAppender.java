@@ -197,6 +197,9 @@ public class DefaultCharAppender implements CharAppender {
 	}
 
 	public char appendUntil(char ch, CharInputReader input, char stop1, char stop2) {
+		if (input instanceof AbstractCharInputReader) {
+			return appendUntil(ch, (AbstractCharInputReader) input, stop1, stop2, stop2);
+		}
 		for (; ch != stop1 && ch != stop2; ch = input.nextChar()){
 			chars[index++] = ch;
 		}
@@ -204,9 +207,26 @@ public class DefaultCharAppender implements CharAppender {
 	}
 
 	public char appendUntil(char ch, CharInputReader input, char stop1, char stop2, char stop3) {
+		if (input instanceof AbstractCharInputReader) {
+			return appendUntil(ch, (AbstractCharInputReader) input, stop1, stop2, stop3);
+		}
 		for (; ch != stop1 && ch != stop2 && ch != stop3; ch = input.nextChar()){
 			chars[index++] = ch;
 		}
 		return ch;
 	}
+
+	/**
+	 * Copies runs of characters straight from the input buffer with {@link AbstractCharInputReader#readUntil(char[], int, int, char, char, char)},
+	 * and only invokes {@link CharInputReader#nextChar()} for the characters that require special handling (stop characters, line separators and
+	 * the last character of each buffer). The number of characters copied in bulk never exceeds the capacity of this appender, so any
+	 * {@link ArrayIndexOutOfBoundsException} happens when appending a single character, as expected by {@link ExpandingCharAppender}.
+	 */
+	private char appendUntil(char ch, AbstractCharInputReader input, char stop1, char stop2, char stop3) {
+		for (; ch != stop1 && ch != stop2 && ch != stop3; ch = input.nextChar()) {
+			chars[index++] = ch;
+			index += input.readUntil(chars, index, chars.length - index, stop1, stop2, stop3);
+		}
+		return ch;
+	}
 }
@@ -0,0 +1,256 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input;
+
+import com.univocity.parsers.common.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+
+/**
+ * A {@link CharInputReader} that maps a file into memory using {@link FileChannel#map(FileChannel.MapMode, long, long)} and decodes its
+ * characters straight from the mapped region into the parser buffer.
+ *
+ * <p> The file is mapped in windows of a fixed size (64 MB by default), so that files of any size can be processed without exhausting
+ * the address space. Read-ahead is left to the operating system, which loads the mapped pages on demand.
+ *
+ * <p> The {@link java.io.Reader} given to {@link CharInputReader#start(Reader)} is ignored by this implementation. The input is always
+ * the file provided in the constructor.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see com.univocity.parsers.common.CommonParserSettings#isMemoryMappedInputEnabled()
+ */
+public class MappedFileCharInputReader extends AbstractCharInputReader {
+
+	/**
+	 * The default size of each region of the file mapped into memory.
+	 */
+	public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+	private final File file;
+	private final Charset encoding;
+	private final int windowSize;
+	private final CharBuffer charBuffer;
+	private final ByteOffsetCounter offsets;
+
+	private FileInputStream inputStream;
+	private FileChannel channel;
+	private CharsetDecoder decoder;
+
+	private long rangeStart = 0L;
+	private long rangeEnd = -1L;
+
+	private MappedByteBuffer window;
+	private long windowStart;
+	private long end;
+	private boolean flushing;
+	private boolean finished;
+	private long byteCount;
+
+	/**
+	 * Creates a new instance with the mandatory characters for handling newlines transparently. Line separators will be detected automatically.
+	 *
+	 * @param normalizedLineSeparator the normalized newline character (as defined in {@link Format#getNormalizedNewline()}) that is used to replace any lineSeparator sequence found in the input.
+	 * @param bufferSize              the buffer size used to store characters decoded from the input.
+	 * @param file                    the file to be read.
+	 * @param encoding                the encoding of the file. If {@code null}, the default charset of the JVM will be used.
+	 */
+	public MappedFileCharInputReader(char normalizedLineSeparator, int bufferSize, File file, Charset encoding) {
+		this(normalizedLineSeparator, bufferSize, file, encoding, DEFAULT_WINDOW_SIZE);
+	}
+
+	/**
+	 * Creates a new instance with the mandatory characters for handling newlines transparently. Line separators will be detected automatically.
+	 *
+	 * @param normalizedLineSeparator the normalized newline character (as defined in {@link Format#getNormalizedNewline()}) that is used to replace any lineSeparator sequence found in the input.
+	 * @param bufferSize              the buffer size used to store characters decoded from the input.
+	 * @param file                    the file to be read.
+	 * @param encoding                the encoding of the file. If {@code null}, the default charset of the JVM will be used.
+	 * @param windowSize              the maximum number of bytes of the file mapped into memory at any given time.
+	 */
+	public MappedFileCharInputReader(char normalizedLineSeparator, int bufferSize, File file, Charset encoding, int windowSize) {
+		super(normalizedLineSeparator);
+		super.buffer = new char[bufferSize];
+		this.charBuffer = CharBuffer.wrap(buffer);
+		this.file = file;
+		this.encoding = encoding == null ? Charset.defaultCharset() : encoding;
+		this.windowSize = validateWindowSize(windowSize);
+		this.offsets = new ByteOffsetCounter(ByteCharInputReader.encodingType(this.encoding));
+	}
+
+	/**
+	 * Creates a new instance with the mandatory characters for handling newlines transparently.
+	 *
+	 * @param lineSeparator           the sequence of characters that represent a newline, as defined in {@link Format#getLineSeparator()}
+	 * @param normalizedLineSeparator the normalized newline character (as defined in {@link Format#getNormalizedNewline()}) that is used to replace any lineSeparator sequence found in the input.
+	 * @param bufferSize              the buffer size used to store characters decoded from the input.
+	 * @param file                    the file to be read.
+	 * @param encoding                the encoding of the file. If {@code null}, the default charset of the JVM will be used.
+	 */
+	public MappedFileCharInputReader(char[] lineSeparator, char normalizedLineSeparator, int bufferSize, File file, Charset encoding) {
+		this(lineSeparator, normalizedLineSeparator, bufferSize, file, encoding, DEFAULT_WINDOW_SIZE);
+	}
+
+	/**
+	 * Creates a new instance with the mandatory characters for handling newlines transparently.
+	 *
+	 * @param lineSeparator           the sequence of characters that represent a newline, as defined in {@link Format#getLineSeparator()}
+	 * @param normalizedLineSeparator the normalized newline character (as defined in {@link Format#getNormalizedNewline()}) that is used to replace any lineSeparator sequence found in the input.
+	 * @param bufferSize              the buffer size used to store characters decoded from the input.
+	 * @param file                    the file to be read.
+	 * @param encoding                the encoding of the file. If {@code null}, the default charset of the JVM will be used.
+	 * @param windowSize              the maximum number of bytes of the file mapped into memory at any given time.
+	 */
+	public MappedFileCharInputReader(char[] lineSeparator, char normalizedLineSeparator, int bufferSize, File file, Charset encoding, int windowSize) {
+		super(lineSeparator, normalizedLineSeparator);
+		super.buffer = new char[bufferSize];
+		this.charBuffer = CharBuffer.wrap(buffer);
+		this.file = file;
+		this.encoding = encoding == null ? Charset.defaultCharset() : encoding;
+		this.windowSize = validateWindowSize(windowSize);
+		this.offsets = new ByteOffsetCounter(ByteCharInputReader.encodingType(this.encoding));
+	}
+
+	private static int validateWindowSize(int windowSize) {
+		if (windowSize < 16) {
+			throw new IllegalArgumentException("Invalid window size: " + windowSize + ". At least 16 bytes must be mapped into memory at a time.");
+		}
+		return windowSize;
+	}
+
+	/**
+	 * Restricts the input to a region of the file, so that only the bytes between the given offsets are read.
+	 * Must be invoked before {@link #start(Reader)}. By default, the entire file is read.
+	 *
+	 * <p> The region must begin at the first byte of a character, which is the case of any position after a line separator.
+	 *
+	 * @param start the offset of the first byte to read.
+	 * @param end   the offset after the last byte to read. A negative value indicates the end of the file.
+	 */
+	public final void setRange(long start, long end) {
+		if (start < 0 || (end >= 0 && end < start)) {
+			throw new IllegalArgumentException("Invalid range of bytes to read: [" + start + ", " + end + ")");
+		}
+		this.rangeStart = start;
+		this.rangeEnd = end;
+	}
+
+	/**
+	 * Opens the file provided in the constructor and maps its first window into memory. The given reader is ignored.
+	 *
+	 * @param reader ignored.
+	 */
+	@Override
+	protected void setReader(Reader reader) {
+		try {
+			inputStream = new FileInputStream(file);
+		} catch (FileNotFoundException e) {
+			throw new IllegalArgumentException(e);
+		}
+		try {
+			channel = inputStream.getChannel();
+			long size = channel.size();
+			end = rangeEnd < 0 ? size : Math.min(rangeEnd, size);
+			decoder = encoding.newDecoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+			flushing = false;
+			finished = false;
+			byteCount = 0L;
+			map(Math.min(rangeStart, end));
+		} catch (IOException e) {
+			stop();
+			throw new IllegalStateException("Error reading from input", e);
+		}
+	}
+
+	private void map(long position) throws IOException {
+		long size = Math.min(windowSize, end - position);
+		window = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+		windowStart = position;
+	}
+
+	/**
+	 * Decodes the bytes of the current mapped window into the {@link MappedFileCharInputReader#buffer}, mapping the next window of the
+	 * file when the current one is exhausted, and updates the {@link MappedFileCharInputReader#length} to the number of characters decoded.
+	 */
+	@Override
+	protected void reloadBuffer() {
+		charBuffer.clear();
+		offsets.reset(windowStart + window.position() - Math.min(rangeStart, end));
+		try {
+			while (!finished && charBuffer.hasRemaining()) {
+				if (flushing) {
+					if (decoder.flush(charBuffer).isOverflow()) {
+						break;
+					}
+					finished = true;
+					break;
+				}
+
+				boolean endOfInput = windowStart + window.limit() >= end;
+				CoderResult result = decoder.decode(window, charBuffer, endOfInput);
+				if (result.isError()) {
+					result.throwException();
+				}
+				if (result.isOverflow()) {
+					break;
+				}
+
+				if (endOfInput) {
+					flushing = true;
+				} else {
+					// remaps from the first byte not yet decoded, as the window may end in the middle of a multi-byte character.
+					map(windowStart + window.position());
+				}
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Error reading from input", e);
+		}
+
+		byteCount = windowStart + window.position() - Math.min(rangeStart, end);
+		int decoded = charBuffer.position();
+		super.length = decoded == 0 ? -1 : decoded;
+	}
+
+	@Override
+	public long byteCount() {
+		return byteCount;
+	}
+
+	@Override
+	public long byteOffset() {
+		if (length == -1) {
+			return byteCount;
+		}
+		return offsets.offset(buffer, Math.max(i - 1, 0));
+	}
+
+	@Override
+	public void stop() {
+		window = null;
+		try {
+			if (inputStream != null) {
+				inputStream.close();
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Error closing input", e);
+		} finally {
+			inputStream = null;
+			channel = null;
+		}
+	}
+}
@@ -161,12 +161,18 @@ public class NoopCharAppender implements CharAppender {
 
 	@Override
 	public final char appendUntil(char ch, CharInputReader input, char stop1, char stop2) {
-		for (; ch != stop1 && ch != stop2; ch = input.nextChar()) ;
-		return ch;
+		return appendUntil(ch, input, stop1, stop2, stop2);
 	}
 
 	@Override
 	public final char appendUntil(char ch, CharInputReader input, char stop1, char stop2, char stop3) {
+		if (input instanceof AbstractCharInputReader) {
+			AbstractCharInputReader reader = (AbstractCharInputReader) input;
+			for (; ch != stop1 && ch != stop2 && ch != stop3; ch = input.nextChar()) {
+				reader.readUntil(null, 0, Integer.MAX_VALUE, stop1, stop2, stop3);
+			}
+			return ch;
+		}
 		for (; ch != stop1 && ch != stop2 && ch != stop3; ch = input.nextChar()) ;
 		return ch;
 	}
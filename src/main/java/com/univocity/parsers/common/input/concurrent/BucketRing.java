@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input.concurrent;
+
+import java.util.concurrent.locks.*;
+
+/**
+ * A ring of buckets exchanged between a single producer thread, which fills buckets with data read from an input,
+ * and a single consumer thread, which reads them.
+ *
+ * <p> Buckets are allocated once, the first time the producer needs them, and reused afterwards. No locks are used: the producer and the consumer
+ * only communicate through two {@link Sequence} counters - the number of buckets published by the producer and the number of buckets released by the consumer.
+ * Each side keeps a local copy of the other's counter and only reads it again when the local copy indicates that it must wait.
+ *
+ * <p> A thread that has to wait spins for a short while, then yields, and then parks for very short periods, until the other thread catches up
+ * or the ring is closed.
+ *
+ * @param <T> the type of bucket exchanged through the ring.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see CharBucketRing
+ * @see ByteBucketRing
+ */
+abstract class BucketRing<T> {
+
+	private static final int SPIN_TRIES = 100;
+	private static final int YIELD_TRIES = 200;
+	private static final long PARK_NANOS = 1000L;
+
+	private final Object[] buckets;
+
+	private final Sequence published = new Sequence();
+	private final Sequence released = new Sequence();
+	private volatile boolean closed;
+
+	// accessed by the producer thread only
+	private long producerPosition;
+	private long cachedReleased;
+
+	// accessed by the consumer thread only
+	private long consumerPosition;
+	private long cachedPublished;
+	private boolean holding;
+
+	/**
+	 * Creates a ring with a given number of buckets.
+	 *
+	 * @param bucketQuantity the number of buckets in the ring.
+	 */
+	BucketRing(int bucketQuantity) {
+		this.buckets = new Object[Math.max(bucketQuantity, 1)];
+	}
+
+	/**
+	 * Creates a new bucket, the first time the producer needs it.
+	 *
+	 * @return a new bucket
+	 */
+	abstract T newBucket();
+
+	/**
+	 * Returns the next bucket to be filled by the producer. Waits while all buckets are published and not yet released by the consumer.
+	 * The bucket must be handed over to the consumer with {@link #publish()}.
+	 *
+	 * @return the next bucket to be filled, or {@code null} if the ring was closed or the producer thread was interrupted while waiting.
+	 */
+	@SuppressWarnings("unchecked")
+	T claim() {
+		final long wrapPoint = producerPosition - buckets.length;
+		int tries = 0;
+		while (cachedReleased <= wrapPoint) {
+			cachedReleased = released.get();
+			if (cachedReleased <= wrapPoint) {
+				if (closed || Thread.currentThread().isInterrupted()) {
+					return null;
+				}
+				tries = idle(tries);
+			}
+		}
+
+		int index = (int) (producerPosition % buckets.length);
+		Object bucket = buckets[index];
+		if (bucket == null) {
+			bucket = newBucket();
+			buckets[index] = bucket;
+		}
+		return (T) bucket;
+	}
+
+	/**
+	 * Makes the bucket returned by the last call to {@link #claim()} available to the consumer.
+	 */
+	void publish() {
+		published.set(++producerPosition);
+	}
+
+	/**
+	 * Releases the bucket previously returned to the consumer and returns the next published bucket. Waits until the producer publishes a bucket.
+	 *
+	 * @return the next published bucket, or {@code null} if the ring was closed and all buckets were consumed, or if the consumer thread was interrupted while waiting.
+	 */
+	@SuppressWarnings("unchecked")
+	T take() {
+		if (holding) {
+			holding = false;
+			released.set(++consumerPosition);
+		}
+
+		int tries = 0;
+		while (cachedPublished <= consumerPosition) {
+			cachedPublished = published.get();
+			if (cachedPublished <= consumerPosition) {
+				if (closed) {
+					// the producer publishes its last bucket before closing the ring.
+					cachedPublished = published.get();
+					if (cachedPublished <= consumerPosition) {
+						return null;
+					}
+				} else if (Thread.currentThread().isInterrupted()) {
+					return null;
+				} else {
+					tries = idle(tries);
+				}
+			}
+		}
+
+		holding = true;
+		return (T) buckets[(int) (consumerPosition % buckets.length)];
+	}
+
+	/**
+	 * Closes the ring. Threads waiting on {@link #claim()} or {@link #take()} stop waiting, but buckets published before closing can still be taken.
+	 */
+	void close() {
+		closed = true;
+	}
+
+	private static int idle(int tries) {
+		if (tries < SPIN_TRIES) {
+			return tries + 1;
+		}
+		if (tries < SPIN_TRIES + YIELD_TRIES) {
+			Thread.yield();
+			return tries + 1;
+		}
+		LockSupport.parkNanos(PARK_NANOS);
+		return tries;
+	}
+}
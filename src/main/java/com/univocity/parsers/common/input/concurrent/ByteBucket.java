@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input.concurrent;
+
+import java.io.*;
+
+/**
+ * A buffer of bytes read from an {@link InputStream}, handed over to the consumer through a {@link ByteBucketRing}.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see ConcurrentInputStream
+ */
+class ByteBucket {
+
+	final byte[] data;
+
+	/**
+	 * The number of bytes this bucket contains, or -1 if the end of the input was reached.
+	 */
+	int length = -1;
+
+	ByteBucket(int bucketSize) {
+		data = new byte[Math.max(bucketSize, 1)];
+	}
+
+	/**
+	 * Fills this bucket with bytes read from the given input stream.
+	 *
+	 * @param input the input stream to read bytes from
+	 *
+	 * @return the number of bytes read, or -1 if the end of the input was reached.
+	 *
+	 * @throws IOException if an error occurs reading from the input stream.
+	 */
+	int fill(InputStream input) throws IOException {
+		int read = input.read(data, 0, data.length);
+		while (read == 0) {
+			read = input.read(data, 0, data.length);
+		}
+		length = read;
+		return length;
+	}
+}
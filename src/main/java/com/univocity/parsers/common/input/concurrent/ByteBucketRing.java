@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright 2014 uniVocity Software Pty Ltd
+ * Copyright 2016 uniVocity Software Pty Ltd
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,34 +16,28 @@
 package com.univocity.parsers.common.input.concurrent;
 
 /**
- * An entry used by the {@link FixedInstancePool}
-
- * @param <T> the type of this entry.
- *
- * @see FixedInstancePool
+ * A {@link BucketRing} of {@link ByteBucket} instances, used to hand bytes read from an input stream over to the consumer.
  *
  * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
- *
+ * @see ConcurrentInputStream
  */
-class Entry<T> {
-	final T entry;
-	final int index;
+class ByteBucketRing extends BucketRing<ByteBucket> {
+
+	private final int bucketSize;
 
 	/**
-	 * Creates a new entry with an object and its position in the {@link FixedInstancePool}
-	 * @param entry the value in this entry
-	 * @param index the position of this entry in the {@link FixedInstancePool}
+	 * Creates a ring with a given number of buckets.
+	 *
+	 * @param bucketSize     the size of each individual {@link ByteBucket}
+	 * @param bucketQuantity the number of {@link ByteBucket} instances in the ring.
 	 */
-	Entry(T entry, int index) {
-		this.entry = entry;
-		this.index = index;
+	ByteBucketRing(int bucketSize, int bucketQuantity) {
+		super(bucketQuantity);
+		this.bucketSize = bucketSize;
 	}
 
-	/**
-	 * Returns the object stored in this  {@link FixedInstancePool} entry.
-	 * @return the object stored in this  {@link FixedInstancePool} entry.
-	 */
-	public T get() {
-		return this.entry;
+	@Override
+	ByteBucket newBucket() {
+		return new ByteBucket(bucketSize);
 	}
 }
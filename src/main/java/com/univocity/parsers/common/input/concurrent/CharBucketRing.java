@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input.concurrent;
+
+/**
+ * A {@link BucketRing} of {@link CharBucket} instances, used to hand characters read from the input over to the parser.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see ConcurrentCharLoader
+ */
+class CharBucketRing extends BucketRing<CharBucket> {
+
+	private final int bucketSize;
+
+	/**
+	 * Creates a ring with a given number of buckets.
+	 *
+	 * @param bucketSize     the size of each individual {@link CharBucket}
+	 * @param bucketQuantity the number of {@link CharBucket} instances in the ring.
+	 */
+	CharBucketRing(int bucketSize, int bucketQuantity) {
+		super(bucketQuantity);
+		this.bucketSize = bucketSize;
+	}
+
+	@Override
+	CharBucket newBucket() {
+		return new CharBucket(bucketSize);
+	}
+}
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input.concurrent;
+
+import java.io.*;
+
+/**
+ * An {@link InputStream} that reads another input stream in a separate thread, so that reading (and any processing performed by the
+ * underlying stream, such as decompression) happens while the consumer processes the bytes already read.
+ *
+ * <p> Bytes are handed over to the consumer through a {@link ByteBucketRing}, in the same way {@link ConcurrentCharLoader} hands characters
+ * over to the {@link ConcurrentCharInputReader}. Errors reading from the underlying stream are rethrown to the consumer.
+ *
+ * <p> Instances of this class must be read by a single thread.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ */
+public class ConcurrentInputStream extends InputStream implements Runnable {
+
+	/**
+	 * Time, in milliseconds, that {@link #close()} waits for the reading thread to stop before closing the input stream it is reading.
+	 */
+	private static final long CLOSE_TIMEOUT = 1000L;
+
+	private final InputStream input;
+	private final ByteBucketRing buckets;
+	private final Thread activeExecution;
+
+	private volatile boolean active;
+	private volatile IOException error;
+
+	private ByteBucket current;
+	private int position;
+	private boolean finished;
+
+	/**
+	 * Creates a new instance and starts a thread to read the given input stream.
+	 *
+	 * @param input          the input stream to read in a separate thread.
+	 * @param bucketSize     the number of bytes read at a time from the input stream.
+	 * @param bucketQuantity the number of buckets of bytes that can be read ahead of the consumer.
+	 */
+	public ConcurrentInputStream(InputStream input, int bucketSize, int bucketQuantity) {
+		this.input = input;
+		this.buckets = new ByteBucketRing(bucketSize, bucketQuantity);
+		this.active = true;
+		this.activeExecution = new Thread(this, "unVocity-parsers input stream reading thread");
+		this.activeExecution.setDaemon(true);
+		this.activeExecution.start();
+	}
+
+	/**
+	 * Reads the input stream provided in the constructor until its end is reached, or this stream is closed.
+	 */
+	@Override
+	public void run() {
+		try {
+			int length;
+			do {
+				ByteBucket bucket = buckets.claim();
+				if (bucket == null) {
+					break;
+				}
+				length = bucket.fill(input);
+				buckets.publish();
+			} while (active && length != -1);
+		} catch (IOException e) {
+			//errors after this stream is closed come from closing the input stream to unblock a read.
+			if (active) {
+				error = e;
+			}
+		} catch (RuntimeException e) {
+			if (active) {
+				error = new IOException("Error reading input stream", e);
+			}
+		} finally {
+			buckets.close();
+		}
+	}
+
+	private boolean nextBucket() throws IOException {
+		if (finished) {
+			return false;
+		}
+		current = buckets.take();
+		position = 0;
+		if (current == null || current.length == -1) {
+			finished = true;
+			current = null;
+			if (error != null) {
+				throw error;
+			}
+			if (Thread.currentThread().isInterrupted()) {
+				throw new InterruptedIOException("Interrupted while reading input stream");
+			}
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	public int read() throws IOException {
+		while (current == null || position >= current.length) {
+			if (!nextBucket()) {
+				return -1;
+			}
+		}
+		return current.data[position++] & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		while (current == null || position >= current.length) {
+			if (!nextBucket()) {
+				return -1;
+			}
+		}
+		int count = Math.min(len, current.length - position);
+		System.arraycopy(current.data, position, b, off, count);
+		position += count;
+		return count;
+	}
+
+	@Override
+	public int available() {
+		return current == null ? 0 : current.length - position;
+	}
+
+	/**
+	 * Stops the reading thread, waits for it to finish, and then closes the input stream provided in the constructor, so the input stream
+	 * is not closed while it is being read. If the reading thread is blocked waiting for data (e.g. from a socket or from {@code System.in})
+	 * and doesn't stop within one second, the input stream is closed anyway, to unblock it.
+	 *
+	 * @throws IOException if an error occurs closing the input stream.
+	 */
+	@Override
+	public void close() throws IOException {
+		active = false;
+		finished = true;
+		current = null;
+		buckets.close();
+		try {
+			activeExecution.interrupt();
+			activeExecution.join(CLOSE_TIMEOUT);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			input.close();
+		}
+	}
+}
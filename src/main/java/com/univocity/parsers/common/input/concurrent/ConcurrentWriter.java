@@ -0,0 +1,261 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input.concurrent;
+
+import java.io.*;
+
+/**
+ * A {@link Writer} that writes to another writer in a separate thread, so that writing (and any processing performed by the
+ * underlying writer, such as encoding characters and flushing bytes to disk) happens while the producer formats more content.
+ *
+ * <p> Two buffers of characters are used: one is filled by the producer while the other is written to the underlying writer.
+ * The producer only waits when it fills its buffer before the underlying writer is done with the other. Errors writing to the
+ * underlying writer are rethrown to the producer in the next operation performed.
+ *
+ * <p> Instances of this class must be written to by a single thread.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ */
+public class ConcurrentWriter extends Writer implements Runnable {
+
+	private final Writer output;
+	private final Thread activeExecution;
+	private final Object handover = new Object();
+
+	private char[] buffer;
+	private int length;
+
+	private char[] spare;
+	private char[] pending;
+	private int pendingLength;
+	private boolean flushRequested;
+	private boolean closed;
+	private boolean finished;
+
+	private volatile IOException error;
+
+	/**
+	 * Creates a new instance and starts a thread to write to the given writer.
+	 *
+	 * @param output     the writer that receives the characters in a separate thread.
+	 * @param bufferSize the number of characters accumulated in each buffer before they are handed over to the writing thread.
+	 */
+	public ConcurrentWriter(Writer output, int bufferSize) {
+		if (bufferSize <= 0) {
+			throw new IllegalArgumentException("Buffer size must be positive. Got " + bufferSize);
+		}
+		this.output = output;
+		this.buffer = new char[bufferSize];
+		this.spare = new char[bufferSize];
+		this.activeExecution = new Thread(this, "unVocity-parsers output writing thread");
+		this.activeExecution.setDaemon(true);
+		this.activeExecution.start();
+	}
+
+	/**
+	 * Writes the buffers handed over by the producer to the writer provided in the constructor, until this writer is closed.
+	 */
+	@Override
+	public void run() {
+		try {
+			while (true) {
+				char[] chars;
+				int count;
+				boolean flush;
+				boolean close;
+				synchronized (handover) {
+					while (pending == null && !flushRequested && !closed) {
+						handover.wait();
+					}
+					chars = pending;
+					count = pendingLength;
+					flush = flushRequested;
+					close = closed;
+				}
+
+				try {
+					if (error == null) {
+						if (chars != null) {
+							output.write(chars, 0, count);
+						}
+						if (flush) {
+							output.flush();
+						}
+					}
+				} catch (IOException e) {
+					error = e;
+				} catch (RuntimeException e) {
+					error = new IOException("Error writing to output", e);
+				}
+
+				synchronized (handover) {
+					if (chars != null) {
+						spare = chars;
+						pending = null;
+					}
+					if (flush) {
+						flushRequested = false;
+					}
+					handover.notifyAll();
+					if (close && pending == null && !flushRequested) {
+						break;
+					}
+				}
+			}
+		} catch (InterruptedException e) {
+			error = new InterruptedIOException("Interrupted while writing to output");
+		} finally {
+			synchronized (handover) {
+				finished = true;
+				handover.notifyAll();
+			}
+		}
+	}
+
+	private void checkError() throws IOException {
+		if (error != null) {
+			throw error;
+		}
+		if (closed) {
+			throw new IOException("Writer closed");
+		}
+	}
+
+	/**
+	 * Hands the buffer filled by the producer over to the writing thread, waiting for the buffer previously handed over to be written.
+	 *
+	 * @param flush flag indicating whether the underlying writer should be flushed after writing the buffer.
+	 * @param wait  flag indicating whether to wait for the writing thread to write everything handed over.
+	 */
+	private void handOver(boolean flush, boolean wait) throws IOException {
+		synchronized (handover) {
+			try {
+				while (pending != null && !finished) {
+					handover.wait();
+				}
+				if (finished) {
+					checkError();
+					throw new IOException("Output writing thread stopped");
+				}
+				if (length > 0) {
+					pending = buffer;
+					pendingLength = length;
+					buffer = spare;
+					spare = null;
+					length = 0;
+				}
+				flushRequested |= flush;
+				handover.notifyAll();
+
+				while (wait && (pending != null || flushRequested) && !finished) {
+					handover.wait();
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while writing to output");
+			}
+		}
+		checkError();
+	}
+
+	private void ensureOpen() throws IOException {
+		if (closed) {
+			throw new IOException("Writer closed");
+		}
+	}
+
+	@Override
+	public void write(int c) throws IOException {
+		ensureOpen();
+		if (length == buffer.length) {
+			handOver(false, false);
+		}
+		buffer[length++] = (char) c;
+	}
+
+	@Override
+	public void write(char[] chars, int offset, int count) throws IOException {
+		ensureOpen();
+		while (count > 0) {
+			if (length == buffer.length) {
+				handOver(false, false);
+			}
+			int toCopy = Math.min(count, buffer.length - length);
+			System.arraycopy(chars, offset, buffer, length, toCopy);
+			length += toCopy;
+			offset += toCopy;
+			count -= toCopy;
+		}
+	}
+
+	@Override
+	public void write(String str, int offset, int count) throws IOException {
+		ensureOpen();
+		while (count > 0) {
+			if (length == buffer.length) {
+				handOver(false, false);
+			}
+			int toCopy = Math.min(count, buffer.length - length);
+			str.getChars(offset, offset + toCopy, buffer, length);
+			length += toCopy;
+			offset += toCopy;
+			count -= toCopy;
+		}
+	}
+
+	/**
+	 * Writes all characters accumulated so far and flushes the writer provided in the constructor, waiting for the writing thread to finish.
+	 *
+	 * @throws IOException if an error occurs writing to the underlying writer.
+	 */
+	@Override
+	public void flush() throws IOException {
+		checkError();
+		handOver(true, true);
+	}
+
+	/**
+	 * Writes all characters accumulated so far, stops the writing thread and closes the writer provided in the constructor.
+	 *
+	 * @throws IOException if an error occurs writing to or closing the underlying writer.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		try {
+			if (error == null) {
+				handOver(true, true);
+			}
+		} finally {
+			synchronized (handover) {
+				closed = true;
+				handover.notifyAll();
+			}
+			try {
+				activeExecution.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				output.close();
+			}
+		}
+		if (error != null) {
+			throw error;
+		}
+	}
+}
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input.concurrent;
+
+import java.util.concurrent.atomic.*;
+
+/**
+ * Left padding of a {@link Sequence}, so its value never shares a cache line with fields of objects allocated before it.
+ */
+abstract class SequenceLeftPadding {
+	protected long p1, p2, p3, p4, p5, p6, p7;
+}
+
+/**
+ * The value of a {@link Sequence}.
+ */
+abstract class SequenceValue extends SequenceLeftPadding {
+	protected volatile long value;
+}
+
+/**
+ * Right padding of a {@link Sequence}, so its value never shares a cache line with fields of objects allocated after it.
+ */
+abstract class SequenceRightPadding extends SequenceValue {
+	protected long p9, p10, p11, p12, p13, p14, p15;
+}
+
+/**
+ * A counter written by a single thread and read by another, padded to occupy a cache line of its own. This prevents false sharing between
+ * the counters of producers and consumers that are updated concurrently.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see BucketRing
+ */
+final class Sequence extends SequenceRightPadding {
+
+	private static final AtomicLongFieldUpdater<SequenceValue> VALUE = AtomicLongFieldUpdater.newUpdater(SequenceValue.class, "value");
+
+	/**
+	 * Returns the current value of this sequence.
+	 *
+	 * @return the current value of this sequence.
+	 */
+	long get() {
+		return value;
+	}
+
+	/**
+	 * Updates the value of this sequence. Only the thread that owns the sequence may call this method. The new value becomes visible to
+	 * other threads after all writes made by the owner thread before calling this method.
+	 *
+	 * @param value the new value of this sequence.
+	 */
+	void set(long value) {
+		VALUE.lazySet(this, value);
+	}
+}
@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.processor;
+
+import com.univocity.parsers.common.*;
+import com.univocity.parsers.common.processor.core.*;
+
+/**
+ * A {@link RowProcessor} implementation that stores values of columns in batches, using arrays of primitives instead of lists of objects.
+ * Use this implementation in favor of {@link BatchedColumnProcessor} when the columns are consumed as a whole, and the memory
+ * used to hold each batch matters.
+ *
+ * <p> The type of each column is defined with {@link #setColumnType(int, Class)} or {@link #setColumnType(String, Class)}. Columns of type
+ * {@code int}, {@code long} and {@code double} are stored in an {@link IntColumn}, {@link LongColumn} and {@link DoubleColumn} respectively.
+ * Any other column is stored in a {@link DictionaryColumn}, which keeps each distinct String of the batch only once.
+ * Values can also be stored outside of the Java heap, in direct buffers, with {@link #setOffHeapEnabled(boolean)}.
+ *
+ * <p> This processor is also a {@link RowViewProcessor}. If it is set as the row processor in the parser settings and then given to
+ * {@link AbstractParser#parse(java.io.Reader, RowViewProcessor)}, numeric values are read directly from the characters collected by the
+ * parser, without creating a String for each value.
+ *
+ * <p> During the execution of the process, the {@link #batchProcessed(int)} method will be invoked after a given number of rows has been processed.
+ * The user can access the values parsed for each column using {@link #getColumn(int)} and {@link #getColumn(String)}.
+ * After {@link #batchProcessed(int)} is invoked, all values will be discarded and the next batch of column values will be accumulated
+ * into the same arrays. This process will repeat until there's no more rows in the input.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see AbstractParser
+ * @see RowProcessor
+ * @see PrimitiveColumn
+ */
+public abstract class BatchedPrimitiveColumnProcessor extends TypedBatchedPrimitiveColumnProcessor<ParsingContext> implements RowProcessor, RowViewProcessor {
+
+	/**
+	 * Constructs a batched column processor configured to invoke the {@link #batchProcessed} method after a given number of rows has been processed.
+	 *
+	 * @param rowsPerBatch the number of rows to process in each batch.
+	 */
+	public BatchedPrimitiveColumnProcessor(int rowsPerBatch) {
+		super(rowsPerBatch);
+	}
+}
@@ -38,4 +38,15 @@ public class ConcurrentRowProcessor extends ConcurrentProcessor<ParsingContext>
 	public ConcurrentRowProcessor(RowProcessor rowProcessor) {
 		super(rowProcessor);
 	}
+
+	/**
+	 * Creates a non-blocking {@code ConcurrentRowProcessor}, to perform processing of rows parsed from the input in a separate thread.
+	 *
+	 * @param rowProcessor a regular {@link RowProcessor} implementation which will be executed in a separate thread.
+	 * @param capacity     the maximum number of rows waiting to be processed. The parser waits while this limit is reached.
+	 * @param waitStrategy how the parsing and processing threads wait for each other.
+	 */
+	public ConcurrentRowProcessor(RowProcessor rowProcessor, int capacity, WaitStrategy waitStrategy) {
+		super(rowProcessor, capacity, waitStrategy);
+	}
 }
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.processor;
+
+import com.univocity.parsers.common.*;
+import com.univocity.parsers.common.processor.core.*;
+
+/**
+ * A {@link RowProcessor} that converts rows into java beans using a pool of worker threads, as an alternative to {@link BeanProcessor}
+ * for inputs whose conversions take longer than the parsing itself. See {@link ParallelConversionProcessor} for details.
+ *
+ * <p> The class type of the object must contain the annotations provided in {@link com.univocity.parsers.annotations}. Each worker thread
+ * processes these annotations to create its own conversions, as they are usually not thread-safe.
+ *
+ * @param <T> the annotated class type.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see BeanProcessor
+ * @see ParallelConversionProcessor
+ */
+public abstract class ParallelBeanProcessor<T> extends ParallelConversionProcessor<T> {
+
+	private final Class<T> beanClass;
+
+	/**
+	 * Creates a processor for java beans of a given type, which converts rows using the given number of threads.
+	 *
+	 * @param beanType the class with its attributes mapped to fields of records parsed by an {@link AbstractParser}.
+	 * @param threads  the number of worker threads.
+	 */
+	public ParallelBeanProcessor(Class<T> beanType, int threads) {
+		this(beanType, threads, DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * Creates a processor for java beans of a given type, which converts rows using the given number of threads.
+	 *
+	 * @param beanType  the class with its attributes mapped to fields of records parsed by an {@link AbstractParser}.
+	 * @param threads   the number of worker threads.
+	 * @param batchSize the number of rows converted at a time by each worker thread.
+	 */
+	public ParallelBeanProcessor(Class<T> beanType, int threads, int batchSize) {
+		super(threads, batchSize);
+		if (beanType == null) {
+			throw new IllegalArgumentException("Bean type cannot be null");
+		}
+		this.beanClass = beanType;
+	}
+
+	/**
+	 * Returns the class of the annotated java bean instances that will be manipulated by this processor.
+	 *
+	 * @return the class of the annotated java bean instances that will be manipulated by this processor.
+	 */
+	public final Class<T> getBeanClass() {
+		return beanClass;
+	}
+
+	/**
+	 * Invoked in the parsing thread with each java bean created from the records of the input, in the same order of the input.
+	 *
+	 * @param bean    java object created with the information extracted by the parser for an individual record.
+	 * @param context A contextual object with information and controls over the current state of the parsing process
+	 */
+	public abstract void beanProcessed(T bean, ParsingContext context);
+
+	@Override
+	protected final RowConverter<T> newConverter() {
+		final BeanConversionProcessor<T> converter = new BeanConversionProcessor<T>(beanClass) {
+		};
+		converter.initialize();
+
+		return new RowConverter<T>() {
+			@Override
+			public T convert(String[] row, ParsingContext context) {
+				return converter.createBean(row, context);
+			}
+		};
+	}
+
+	@Override
+	protected final void rowConverted(T converted, ParsingContext context) {
+		beanProcessed(converted, context);
+	}
+}
@@ -0,0 +1,510 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.processor;
+
+import com.univocity.parsers.common.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * A {@link RowProcessor} that converts rows parsed from the input using a pool of worker threads, leaving the parsing thread with the
+ * tokenization of the input only. Useful when conversions (e.g. of dates or decimals) take longer than the parsing itself.
+ *
+ * <p> Rows are collected in batches, which are converted in parallel by the worker threads. Each worker uses its own {@link RowConverter},
+ * created with {@link #newConverter()}, as {@link com.univocity.parsers.conversions.Conversion}s are usually not thread-safe.
+ * The converted results are given to {@link #rowConverted(Object, ParsingContext)} in the parsing thread, in the same order of the input,
+ * as soon as they are available. The number of batches being converted is bounded, so the parser waits if the conversions fall behind.
+ *
+ * <p> Errors produced by the conversion of a row are given to the {@link RowProcessorErrorHandler} defined in
+ * {@link CommonSettings#getRowProcessorErrorHandler()}, in the parsing thread, when the row would be given to {@link #rowConverted(Object, ParsingContext)}.
+ * The parsing process stops if the error handler rethrows the error.
+ *
+ * <p> The {@link RowConverter}s of the worker threads receive a copy of the {@link ParsingContext}, taken when the batch of rows was collected.
+ * Invoking {@link ParsingContext#stop()} on it stops the parser after the row it is processing: all rows up to and including that row are still
+ * given to {@link #rowConverted(Object, ParsingContext)}, in order, and no rows after it.
+ *
+ * @param <T> the type of the objects produced by the conversion of each row.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see ParallelObjectRowProcessor
+ * @see ParallelBeanProcessor
+ */
+public abstract class ParallelConversionProcessor<T> implements RowProcessor {
+
+	/**
+	 * The default number of rows converted at a time by each worker thread.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 256;
+
+	/**
+	 * Converts rows parsed from the input. Each worker thread uses its own instance, so implementations don't need to be thread-safe.
+	 *
+	 * @param <T> the type of the objects produced by the conversion of each row.
+	 */
+	public interface RowConverter<T> {
+
+		/**
+		 * Converts a row parsed from the input.
+		 *
+		 * @param row     the parsed row
+		 * @param context the context of the parsing process, positioned at the given row.
+		 *
+		 * @return the result of the conversion, or {@code null} if the row must be discarded.
+		 */
+		T convert(String[] row, ParsingContext context);
+	}
+
+	private final int threads;
+	private final int batchSize;
+
+	private RowProcessorErrorHandler errorHandler;
+	private ExecutorService executor;
+	private ThreadLocal<RowConverter<T>> converters;
+	private LinkedList<Future<Object[]>> pending;
+	private LinkedList<BatchContext> pendingContexts;
+	private RecordContext deliveryContext;
+	private volatile boolean stopRequested;
+	private final AtomicLong stopRecord = new AtomicLong(Long.MAX_VALUE);
+	private boolean failed;
+
+	private String[][] batch;
+	private long[] lines;
+	private long[] chars;
+	private int batchLength;
+	private long batchStart;
+
+	/**
+	 * Creates a processor that converts rows using the given number of threads, in batches of {@link #DEFAULT_BATCH_SIZE} rows.
+	 *
+	 * @param threads the number of worker threads.
+	 */
+	protected ParallelConversionProcessor(int threads) {
+		this(threads, DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * Creates a processor that converts rows using the given number of threads.
+	 *
+	 * @param threads   the number of worker threads.
+	 * @param batchSize the number of rows converted at a time by each worker thread.
+	 */
+	protected ParallelConversionProcessor(int threads, int batchSize) {
+		if (threads < 1) {
+			throw new IllegalArgumentException("Number of threads must be greater than 0. Got " + threads);
+		}
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("Batch size must be greater than 0. Got " + batchSize);
+		}
+		this.threads = threads;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Defines the handler of errors produced by the conversion of rows. The parser invokes this method with the handler
+	 * provided in {@link CommonSettings#getRowProcessorErrorHandler()} before the parsing process starts.
+	 *
+	 * <p> The handler is invoked in the parsing thread, in the same order of the input, with the row that could not be converted and a context
+	 * positioned at that row. If no handler is defined, or if the handler rethrows the error, the parsing process stops.
+	 *
+	 * @param errorHandler the handler of errors produced by the conversion of rows.
+	 */
+	public final void setErrorHandler(RowProcessorErrorHandler errorHandler) {
+		this.errorHandler = errorHandler;
+	}
+
+	/**
+	 * Creates the {@link RowConverter} used by a worker thread. Invoked once by each worker thread.
+	 *
+	 * @return a new converter of rows.
+	 */
+	protected abstract RowConverter<T> newConverter();
+
+	/**
+	 * Invoked in the parsing thread with the result of the conversion of each row, in the same order of the input.
+	 *
+	 * @param converted the result of the conversion of a row.
+	 * @param context   the context of the parsing process. Its {@link ParsingContext#currentRecord()} is the number of the converted row.
+	 */
+	protected abstract void rowConverted(T converted, ParsingContext context);
+
+	/**
+	 * Invoked when the parsing process starts, before any row is converted. Does nothing by default.
+	 *
+	 * @param context the context of the parsing process.
+	 */
+	protected void conversionStarted(ParsingContext context) {
+	}
+
+	/**
+	 * Invoked when the parsing process ends, after all rows have been converted and given to {@link #rowConverted(Object, ParsingContext)}.
+	 * Does nothing by default.
+	 *
+	 * @param context the context of the parsing process.
+	 */
+	protected void conversionEnded(ParsingContext context) {
+	}
+
+	@Override
+	public final void processStarted(ParsingContext context) {
+		executor = Executors.newFixedThreadPool(threads);
+		converters = new ThreadLocal<RowConverter<T>>() {
+			@Override
+			protected RowConverter<T> initialValue() {
+				return newConverter();
+			}
+		};
+		pending = new LinkedList<Future<Object[]>>();
+		pendingContexts = new LinkedList<BatchContext>();
+		deliveryContext = new RecordContext(context);
+		stopRequested = false;
+		stopRecord.set(Long.MAX_VALUE);
+		failed = false;
+		newBatch();
+
+		conversionStarted(context);
+	}
+
+	@Override
+	public final void rowProcessed(String[] row, ParsingContext context) {
+		if (!stopRequested && stopRecord.get() != Long.MAX_VALUE) {
+			deliver(true);
+			stopRequested = true;
+		}
+		if (stopRequested) {
+			context.stop();
+			return;
+		}
+		if (batchLength == 0) {
+			batchStart = context.currentRecord();
+		}
+		lines[batchLength] = context.currentLine();
+		chars[batchLength] = context.currentChar();
+		batch[batchLength++] = row;
+		if (batchLength == batchSize) {
+			submitBatch(context);
+			deliver(false);
+		}
+	}
+
+	@Override
+	public final void processEnded(ParsingContext context) {
+		try {
+			if (!failed && !stopRequested) {
+				if (batchLength > 0 && stopRecord.get() == Long.MAX_VALUE) {
+					submitBatch(context);
+				}
+				deliver(true);
+			}
+		} finally {
+			executor.shutdownNow();
+			batch = null;
+			pending = null;
+			pendingContexts = null;
+			conversionEnded(context);
+		}
+	}
+
+	private void newBatch() {
+		batch = new String[batchSize][];
+		lines = new long[batchSize];
+		chars = new long[batchSize];
+		batchLength = 0;
+	}
+
+	private void submitBatch(ParsingContext context) {
+		final String[][] rows = batch;
+		final int length = batchLength;
+		final BatchContext workerContext = new BatchContext(this, context, batchStart, lines, chars);
+
+		pending.add(executor.submit(new Callable<Object[]>() {
+			@Override
+			public Object[] call() {
+				RowConverter<T> converter = converters.get();
+				Object[] out = new Object[length];
+				for (int i = 0; i < length; i++) {
+					workerContext.index = i;
+					if (workerContext.currentRecord() > stopRecord.get()) {
+						break;
+					}
+					try {
+						out[i] = converter.convert(rows[i], workerContext);
+					} catch (Throwable ex) {
+						out[i] = new ConversionError(rows[i], ex);
+					}
+				}
+				return out;
+			}
+		}));
+		pendingContexts.add(workerContext);
+
+		newBatch();
+	}
+
+	/**
+	 * Gives the converted rows to {@link #rowConverted(Object, ParsingContext)}, in order. If a worker thread requested the parser to stop,
+	 * rows after the one it was converting are discarded.
+	 *
+	 * @param all flag indicating whether to wait for all pending batches. Otherwise only completed batches are processed, unless the number
+	 *            of pending batches exceeds the limit.
+	 */
+	@SuppressWarnings("unchecked")
+	private void deliver(boolean all) {
+		while (!pending.isEmpty() && !stopRequested && (all || pending.size() > threads * 2 || pending.getFirst().isDone())) {
+			Object[] results;
+			BatchContext batchContext = pendingContexts.removeFirst();
+			try {
+				results = pending.removeFirst().get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				failed = true;
+				throw new DataProcessingException("Interrupted while waiting for the conversion of records", e);
+			} catch (ExecutionException e) {
+				failed = true;
+				throw new DataProcessingException("Error converting records", e.getCause());
+			}
+
+			for (int i = 0; i < results.length && !stopRequested; i++) {
+				if (batchContext.firstRecord + i > stopRecord.get()) {
+					stopRequested = true;
+					break;
+				}
+				Object result = results[i];
+				deliveryContext.setPosition(batchContext, i);
+				if (result instanceof ConversionError) {
+					handleError((ConversionError) result);
+				} else if (result != null) {
+					rowConverted((T) result, deliveryContext);
+				}
+			}
+		}
+	}
+
+	private void handleError(ConversionError conversionError) {
+		Throwable ex = conversionError.error;
+		DataProcessingException error;
+		if (ex instanceof DataProcessingException) {
+			error = (DataProcessingException) ex;
+		} else {
+			error = new DataProcessingException("Error converting record " + deliveryContext.currentRecord(), conversionError.row, ex);
+		}
+		if (errorHandler == null) {
+			failed = true;
+			throw error;
+		}
+		try {
+			errorHandler.handleError(error, conversionError.row, deliveryContext);
+		} catch (RuntimeException e) {
+			failed = true;
+			throw e;
+		}
+	}
+
+	/**
+	 * The row that could not be converted by a worker thread, and the error produced.
+	 */
+	private static final class ConversionError {
+		final String[] row;
+		final Throwable error;
+
+		ConversionError(String[] row, Throwable error) {
+			this.row = row;
+			this.error = error;
+		}
+	}
+
+	/**
+	 * The context given to {@link #rowConverted(Object, ParsingContext)} and to the error handler: reports the position of a converted record,
+	 * and delegates everything else to the parser.
+	 */
+	private final class RecordContext extends ParsingContextWrapper {
+		private long record;
+		private long line;
+		private long charIndex;
+
+		RecordContext(ParsingContext context) {
+			super(context);
+		}
+
+		void setPosition(BatchContext batch, int index) {
+			record = batch.firstRecord + index;
+			line = batch.lines[index];
+			charIndex = batch.chars[index];
+		}
+
+		@Override
+		public long currentRecord() {
+			return record;
+		}
+
+		@Override
+		public long currentLine() {
+			return line;
+		}
+
+		@Override
+		public long currentChar() {
+			return charIndex;
+		}
+
+		@Override
+		public String currentParsedContent() {
+			return null;
+		}
+
+		@Override
+		public void stop() {
+			stopRequested = true;
+			super.stop();
+		}
+	}
+
+	/**
+	 * The context given to the {@link RowConverter} of a worker thread. Holds a copy of the state of the parser taken in the parsing thread when the
+	 * batch of rows was submitted, so that workers never access the parser.
+	 */
+	private static final class BatchContext implements ParsingContext {
+		private final ParallelConversionProcessor<?> processor;
+		private final String[] headers;
+		private final String[] parsedHeaders;
+		private final int[] extractedFieldIndexes;
+		private final boolean columnsReordered;
+		private final char[] lineSeparator;
+		private final String lastComment;
+		private final long firstRecord;
+		private final long[] lines;
+		private final long[] chars;
+		private ColumnMap columnMap;
+		int index;
+
+		BatchContext(ParallelConversionProcessor<?> processor, ParsingContext context, long firstRecord, long[] lines, long[] chars) {
+			this.processor = processor;
+			this.headers = context.headers();
+			this.parsedHeaders = context.parsedHeaders();
+			this.extractedFieldIndexes = context.extractedFieldIndexes();
+			this.columnsReordered = context.columnsReordered();
+			this.lineSeparator = context.lineSeparator();
+			this.lastComment = context.lastComment();
+			this.firstRecord = firstRecord;
+			this.lines = lines;
+			this.chars = chars;
+		}
+
+		@Override
+		public String[] headers() {
+			return headers;
+		}
+
+		@Override
+		public int[] extractedFieldIndexes() {
+			return extractedFieldIndexes;
+		}
+
+		@Override
+		public boolean columnsReordered() {
+			return columnsReordered;
+		}
+
+		@Override
+		public int indexOf(String header) {
+			return columnMap().indexOf(header);
+		}
+
+		@Override
+		public int indexOf(Enum<?> header) {
+			return columnMap().indexOf(header);
+		}
+
+		private ColumnMap columnMap() {
+			if (columnMap == null) {
+				columnMap = new ColumnMap(this, null);
+			}
+			return columnMap;
+		}
+
+		@Override
+		public int currentColumn() {
+			return 0;
+		}
+
+		@Override
+		public long currentRecord() {
+			return firstRecord + index;
+		}
+
+		@Override
+		public long currentLine() {
+			return lines[index];
+		}
+
+		@Override
+		public long currentChar() {
+			return chars[index];
+		}
+
+		/**
+		 * Requests the parser to stop after the current record. The parsing thread stops the parser once all records up to this one
+		 * have been delivered. If workers request to stop at different records, the parser stops after the first of them.
+		 */
+		@Override
+		public void stop() {
+			long record = currentRecord();
+			long stopRecord = processor.stopRecord.get();
+			while (record < stopRecord && !processor.stopRecord.compareAndSet(stopRecord, record)) {
+				stopRecord = processor.stopRecord.get();
+			}
+		}
+
+		@Override
+		public boolean isStopped() {
+			return processor.stopRequested || processor.stopRecord.get() != Long.MAX_VALUE;
+		}
+
+		/**
+		 * Not supported, as the parser can't be controlled from a worker thread.
+		 */
+		@Override
+		public void skipLines(long lines) {
+			throw new UnsupportedOperationException("Can't skip lines while converting rows in a worker thread");
+		}
+
+		@Override
+		public String[] parsedHeaders() {
+			return parsedHeaders;
+		}
+
+		@Override
+		public String currentParsedContent() {
+			return null;
+		}
+
+		@Override
+		public Map<Long, String> comments() {
+			return Collections.emptyMap();
+		}
+
+		@Override
+		public String lastComment() {
+			return lastComment;
+		}
+
+		@Override
+		public char[] lineSeparator() {
+			return lineSeparator;
+		}
+	}
+}
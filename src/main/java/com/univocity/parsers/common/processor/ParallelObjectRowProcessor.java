@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.processor;
+
+import com.univocity.parsers.common.*;
+import com.univocity.parsers.conversions.*;
+
+/**
+ * A {@link RowProcessor} that converts rows into arrays of objects using a pool of worker threads, as an alternative to {@link ObjectRowProcessor}
+ * for inputs whose conversions take longer than the parsing itself. See {@link ParallelConversionProcessor} for details.
+ *
+ * <p> As {@link Conversion}s are usually not thread-safe, the conversions are not defined on this processor. Instead, each worker thread invokes
+ * {@link #configureConversions(ConversionProcessor)} to define the conversions it will execute.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see ObjectRowProcessor
+ * @see ParallelConversionProcessor
+ */
+public abstract class ParallelObjectRowProcessor extends ParallelConversionProcessor<Object[]> {
+
+	/**
+	 * Creates a processor that converts rows using the given number of threads.
+	 *
+	 * @param threads the number of worker threads.
+	 */
+	public ParallelObjectRowProcessor(int threads) {
+		super(threads);
+	}
+
+	/**
+	 * Creates a processor that converts rows using the given number of threads.
+	 *
+	 * @param threads   the number of worker threads.
+	 * @param batchSize the number of rows converted at a time by each worker thread.
+	 */
+	public ParallelObjectRowProcessor(int threads, int batchSize) {
+		super(threads, batchSize);
+	}
+
+	/**
+	 * Defines the conversions executed by a worker thread, using {@link ConversionProcessor#convertFields(Conversion...)},
+	 * {@link ConversionProcessor#convertIndexes(Conversion...)}, {@link ConversionProcessor#convertAll(Conversion...)} and
+	 * {@link ConversionProcessor#convertType(Class, Conversion...)}. Invoked once by each worker thread, so new {@link Conversion} instances
+	 * must be created on every call.
+	 *
+	 * @param conversions the conversions of a worker thread.
+	 */
+	protected abstract void configureConversions(ConversionProcessor conversions);
+
+	/**
+	 * Invoked in the parsing thread after all values of a valid record have been converted into an Object array, in the same order of the input.
+	 *
+	 * @param row     object array created with the information extracted by the parser and then converted.
+	 * @param context A contextual object with information and controls over the current state of the parsing process
+	 */
+	public abstract void rowProcessed(Object[] row, ParsingContext context);
+
+	@Override
+	protected final RowConverter<Object[]> newConverter() {
+		final ObjectRowProcessor converter = new ObjectRowProcessor() {
+			@Override
+			public void rowProcessed(Object[] row, ParsingContext context) {
+			}
+		};
+		configureConversions(converter);
+
+		return new RowConverter<Object[]>() {
+			@Override
+			public Object[] convert(String[] row, ParsingContext context) {
+				return converter.applyConversions(row, context);
+			}
+		};
+	}
+
+	@Override
+	protected final void rowConverted(Object[] converted, ParsingContext context) {
+		rowProcessed(converted, context);
+	}
+}
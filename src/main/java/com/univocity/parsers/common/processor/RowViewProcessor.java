@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.processor;
+
+import com.univocity.parsers.common.*;
+
+/**
+ * A processor of {@link RowView} instances, given by {@link AbstractParser#parse(java.io.Reader, RowViewProcessor)} for each row parsed from the input.
+ *
+ * <p> The {@link RowView} given to {@link #rowProcessed(RowView, ParsingContext)} is reused by the parser and is only valid while the method executes,
+ * which allows rows to be inspected without creating a {@code String} for each of their values.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see RowView
+ * @see AbstractParser#parseNextView()
+ */
+public interface RowViewProcessor {
+
+	/**
+	 * Invoked by the parser after each row is parsed.
+	 *
+	 * @param row     a view of the values of the row parsed from the input, valid only until this method returns.
+	 * @param context A contextual object with information and controls over the current state of the parsing process
+	 */
+	void rowProcessed(RowView row, ParsingContext context);
+}
@@ -9,7 +9,6 @@ package com.univocity.parsers.common.processor.core;
 import com.univocity.parsers.annotations.*;
 import com.univocity.parsers.annotations.helpers.*;
 import com.univocity.parsers.common.*;
-import com.univocity.parsers.common.beans.*;
 import com.univocity.parsers.common.processor.*;
 import com.univocity.parsers.conversions.*;
 
@@ -36,6 +35,7 @@ public abstract class BeanConversionProcessor<T> extends DefaultConversionProces
 	boolean strictHeaderValidationEnabled = false;
 	private String[] syntheticHeaders = null;
 	private Object[] row;
+	private Constructor<T> constructor;
 
 	/**
 	 * Initializes the BeanConversionProcessor with the annotated bean class
@@ -63,11 +63,11 @@ public abstract class BeanConversionProcessor<T> extends DefaultConversionProces
 		if (!initialized) {
 			initialized = true;
 
-			Map<Field, PropertyWrapper> allFields = AnnotationHelper.getAllFields(beanClass);
-			for (Map.Entry<Field, PropertyWrapper> e : allFields.entrySet()) {
-				Field field = e.getKey();
-				PropertyWrapper property = e.getValue();
-				processField(field, property);
+			for (FieldMapping mapping : AnnotationHelper.getFieldMappings(beanClass)) {
+				if (processField(mapping)) {
+					parsedFields.add(mapping);
+					setupConversions(mapping.getField(), mapping);
+				}
 			}
 
 			readOrder = null;
@@ -87,17 +87,6 @@ public abstract class BeanConversionProcessor<T> extends DefaultConversionProces
 		this.strictHeaderValidationEnabled = strictHeaderValidationEnabled;
 	}
 
-	void processField(Field field, PropertyWrapper propertyDescriptor) {
-		Parsed annotation = field.getAnnotation(Parsed.class);
-		if (annotation != null) {
-			FieldMapping mapping = new FieldMapping(beanClass, field, propertyDescriptor);
-			if (processField(mapping)) {
-				parsedFields.add(mapping);
-				setupConversions(field, mapping);
-			}
-		}
-	}
-
 	/**
 	 * Determines whether or not an annotated field should be processed.
 	 * Can be overridden by subclasses for fine grained control.
@@ -371,7 +360,9 @@ public abstract class BeanConversionProcessor<T> extends DefaultConversionProces
 
 		T instance;
 		try {
-			instance = beanClass.newInstance();
+			instance = newInstance();
+		} catch (InvocationTargetException e) {
+			throw new DataProcessingException("Unable to instantiate class '" + beanClass.getName() + '\'', row, e.getCause());
 		} catch (Throwable e) {
 			throw new DataProcessingException("Unable to instantiate class '" + beanClass.getName() + '\'', row, e);
 		}
@@ -380,6 +371,27 @@ public abstract class BeanConversionProcessor<T> extends DefaultConversionProces
 		return instance;
 	}
 
+	/**
+	 * Creates a new instance of the java bean using its default constructor, which is looked up and made accessible only once, to avoid
+	 * the access checks performed by {@link Class#newInstance()} for every record.
+	 *
+	 * @return a new instance of the java bean type defined in this class constructor.
+	 *
+	 * @throws Exception if the bean has no default constructor, or if the constructor throws an exception.
+	 */
+	private T newInstance() throws Exception {
+		if (constructor == null) {
+			Constructor<T> constructor = beanClass.getDeclaredConstructor();
+			try {
+				constructor.setAccessible(true);
+			} catch (SecurityException e) {
+				//public constructors can still be used, with the usual access checks.
+			}
+			this.constructor = constructor;
+		}
+		return constructor.newInstance();
+	}
+
 	/**
 	 * Iterates over all fields in the java bean instance and extracts its values.
 	 *
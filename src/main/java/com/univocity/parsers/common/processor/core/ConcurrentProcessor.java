@@ -24,25 +24,31 @@ import java.util.concurrent.*;
  * A {@link RowProcessor} implementation to perform row processing tasks in parallel. The {@code ConcurrentRowProcessor} wraps another {@link RowProcessor}, and collects rows read from the input.
  * The actual row processing is performed in by wrapped {@link RowProcessor} in a separate thread.
  *
+ * <p> Rows are handed over to the processing thread through a bounded queue of batches. If the wrapped {@link RowProcessor} is slower than the parser,
+ * the parser waits until there is space in the queue, so the number of rows held in memory never exceeds the given capacity. The {@link WaitStrategy}
+ * determines how each thread waits for the other.
+ *
+ * <p> Each row is available to the processing thread as soon as it is parsed. The processing thread never waits for a batch to be full, so rows are
+ * processed without delay when the input arrives slowly.
+ *
  * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
  *
  * @see AbstractParser
  * @see RowProcessor
+ * @see WaitStrategy
  */
 public class ConcurrentProcessor<T extends Context> implements Processor<T> {
 
-	private final Processor rowProcessor;
-
-	private boolean ended = false;
+	/**
+	 * The default maximum number of rows waiting to be processed.
+	 */
+	public static final int DEFAULT_CAPACITY = 8192;
 
-	private static class Node {
-		public Node(String[] row) {
-			this.row = row;
-		}
+	private static final int MAX_BATCH_SIZE = 128;
 
-		public final String[] row;
-		public Node next;
-	}
+	private final Processor rowProcessor;
+	private final int capacity;
+	private final WaitStrategy waitStrategy;
 
 	private final ExecutorService executor = Executors.newSingleThreadExecutor();
 	private long rowCount;
@@ -50,18 +56,38 @@ public class ConcurrentProcessor<T extends Context> implements Processor<T> {
 	private Future<Void> process;
 
 	private ParsingContext context;
-	private Node inputQueue;
-	private volatile Node outputQueue;
+	private RowBatchRing queue;
 
 	/**
 	 * Creates a non-blocking {@code ConcurrentRowProcessor}, to perform processing of rows parsed from the input in a separate thread.
+	 * Up to {@link #DEFAULT_CAPACITY} rows can wait to be processed, and threads wait using {@link WaitStrategy#PARK}.
+	 *
 	 * @param rowProcessor a regular {@link RowProcessor} implementation which will be executed in a separate thread.
 	 */
 	public ConcurrentProcessor(RowProcessor rowProcessor) {
+		this(rowProcessor, DEFAULT_CAPACITY, WaitStrategy.PARK);
+	}
+
+	/**
+	 * Creates a non-blocking {@code ConcurrentRowProcessor}, to perform processing of rows parsed from the input in a separate thread.
+	 *
+	 * @param rowProcessor a regular {@link RowProcessor} implementation which will be executed in a separate thread.
+	 * @param capacity     the maximum number of rows waiting to be processed. The parser waits while this limit is reached.
+	 * @param waitStrategy how the parsing and processing threads wait for each other.
+	 */
+	public ConcurrentProcessor(RowProcessor rowProcessor, int capacity, WaitStrategy waitStrategy) {
 		if (rowProcessor == null) {
 			throw new IllegalArgumentException("Row processor cannot be null");
 		}
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Capacity must be greater than 0. Got " + capacity);
+		}
+		if (waitStrategy == null) {
+			throw new IllegalArgumentException("Wait strategy cannot be null");
+		}
 		this.rowProcessor = rowProcessor;
+		this.capacity = capacity;
+		this.waitStrategy = waitStrategy;
 	}
 
 	@Override
@@ -79,35 +105,25 @@ public class ConcurrentProcessor<T extends Context> implements Processor<T> {
 	}
 
 	private void startProcess() {
-		ended = false;
 		rowCount = 0;
 
+		int batchSize = Math.max(1, Math.min(MAX_BATCH_SIZE, capacity / 4));
+		final RowBatchRing queue = new RowBatchRing(Math.max(1, capacity / batchSize), batchSize, waitStrategy);
+		this.queue = queue;
+
 		process = executor.submit(new Callable<Void>() {
 
 			@Override
 			public Void call() {
-				while (outputQueue == null && !ended) {
-					Thread.yield();
-				}
-
-				while (!ended) {
-					rowCount++;
-					rowProcessor.rowProcessed(outputQueue.row, context);
-
-					while (outputQueue.next == null) {
-						if (ended && outputQueue.next == null) {
-							return null;
-						}
+				try {
+					String[] row;
+					while ((row = queue.take()) != null) {
+						rowCount++;
+						rowProcessor.rowProcessed(row, context);
 					}
-					outputQueue = outputQueue.next;
+				} finally {
+					queue.close();
 				}
-
-				while (outputQueue != null) {
-					rowCount++;
-					rowProcessor.rowProcessed(outputQueue.row, context);
-					outputQueue = outputQueue.next;
-				}
-
 				return null;
 			}
 
@@ -116,20 +132,23 @@ public class ConcurrentProcessor<T extends Context> implements Processor<T> {
 
 	@Override
 	public final void rowProcessed(String[] row, T context) {
-		if (inputQueue == null) {
-			inputQueue = new Node(row);
-			outputQueue = inputQueue;
-		} else {
-			inputQueue.next = new Node(row);
-			inputQueue = inputQueue.next;
+		if (!queue.add(row)) {
+			// the processing thread stopped due to an error.
+			waitForProcess();
 		}
 	}
 
 	@Override
 	public final void processEnded(T context) {
-		rowProcessor.processEnded(context);
-		ended = true;
+		queue.end();
+		try {
+			waitForProcess();
+		} finally {
+			rowProcessor.processEnded(context);
+		}
+	}
 
+	private void waitForProcess() {
 		try {
 			process.get();
 		} catch (ExecutionException e) {
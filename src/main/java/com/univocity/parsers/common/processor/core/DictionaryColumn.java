@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.processor.core;
+
+import com.univocity.parsers.common.*;
+
+import java.util.*;
+
+/**
+ * A {@link PrimitiveColumn} of Strings, encoded with a dictionary. Each distinct value of the current batch is stored once in the
+ * dictionary, and the value of each row is given by the position of its String in the dictionary.
+ *
+ * <p> Values read from a {@link RowView} are looked up in the dictionary by their characters, so a String is only created for values
+ * not yet in the dictionary.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see TypedBatchedPrimitiveColumnProcessor
+ */
+public final class DictionaryColumn extends PrimitiveColumn {
+
+	private final int[] codes;
+	private String[] dictionary = new String[16];
+	private int dictionarySize;
+	private int[] table = new int[32];
+	private boolean addedToDictionary;
+
+	DictionaryColumn(String name, int capacity) {
+		super(name, capacity);
+		codes = new int[capacity];
+	}
+
+	/**
+	 * Returns the dictionary codes of the values of the current batch. Positions of null values are filled with {@code -1}.
+	 *
+	 * @return the array of codes of the current batch. Only the first {@link #size()} elements belong to the current batch.
+	 */
+	public int[] getCodes() {
+		return codes;
+	}
+
+	/**
+	 * Returns the distinct values of the current batch.
+	 *
+	 * @return the dictionary of the current batch, indexed by the codes returned in {@link #getCodes()}. Only the first
+	 * {@link #getDictionarySize()} elements belong to the current batch.
+	 */
+	public String[] getDictionary() {
+		return dictionary;
+	}
+
+	/**
+	 * Returns the number of distinct values in the current batch.
+	 *
+	 * @return the number of elements in the dictionary of the current batch.
+	 */
+	public int getDictionarySize() {
+		return dictionarySize;
+	}
+
+	/**
+	 * Returns the value of a row in the current batch.
+	 *
+	 * @param row the position of the row in the current batch.
+	 *
+	 * @return the value of the given row, or {@code null} if the value is null.
+	 */
+	public String getString(int row) {
+		int code = codes[row];
+		return code == -1 ? null : dictionary[code];
+	}
+
+	@Override
+	public Class<?> getType() {
+		return String.class;
+	}
+
+	@Override
+	public String getObject(int row) {
+		return getString(row);
+	}
+
+	@Override
+	void addNullValue() {
+		codes[size] = -1;
+		addedToDictionary = false;
+	}
+
+	@Override
+	void addValue(String value) {
+		codes[size] = encode(value);
+	}
+
+	@Override
+	void addValue(RowView row, int index) {
+		codes[size] = encode(row.getValue(index));
+	}
+
+	private int encode(CharSequence value) {
+		final int length = value.length();
+		int hash = 0;
+		for (int i = 0; i < length; i++) {
+			hash = 31 * hash + value.charAt(i);
+		}
+
+		int mask = table.length - 1;
+		int slot = (hash ^ (hash >>> 16)) & mask;
+		for (int entry; (entry = table[slot]) != 0; slot = (slot + 1) & mask) {
+			String existing = dictionary[entry - 1];
+			if (existing.hashCode() == hash && existing.contentEquals(value)) {
+				addedToDictionary = false;
+				return entry - 1;
+			}
+		}
+
+		if (dictionarySize == dictionary.length) {
+			dictionary = Arrays.copyOf(dictionary, dictionarySize * 2);
+		}
+		int code = dictionarySize++;
+		dictionary[code] = value.toString();
+		table[slot] = code + 1;
+		addedToDictionary = true;
+
+		if (dictionarySize * 2 > table.length) {
+			rehash();
+		}
+		return code;
+	}
+
+	private void rehash() {
+		table = new int[table.length * 2];
+		int mask = table.length - 1;
+		for (int code = 0; code < dictionarySize; code++) {
+			int hash = dictionary[code].hashCode();
+			int slot = (hash ^ (hash >>> 16)) & mask;
+			while (table[slot] != 0) {
+				slot = (slot + 1) & mask;
+			}
+			table[slot] = code + 1;
+		}
+	}
+
+	@Override
+	void removeLast() {
+		super.removeLast();
+		if (addedToDictionary) {
+			// the last entry added is at the end of its probe sequence, so removing it doesn't affect the lookup of other entries.
+			int code = --dictionarySize;
+			int mask = table.length - 1;
+			int hash = dictionary[code].hashCode();
+			int slot = (hash ^ (hash >>> 16)) & mask;
+			while (table[slot] != code + 1) {
+				slot = (slot + 1) & mask;
+			}
+			table[slot] = 0;
+			dictionary[code] = null;
+			addedToDictionary = false;
+		}
+	}
+
+	@Override
+	void clear() {
+		super.clear();
+		Arrays.fill(dictionary, 0, dictionarySize, null);
+		Arrays.fill(table, 0);
+		dictionarySize = 0;
+	}
+}
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.processor.core;
+
+import com.univocity.parsers.common.*;
+
+import java.nio.*;
+
+/**
+ * A {@link PrimitiveColumn} of {@code int}, {@code long} or {@code double} values stored outside of the Java heap, in a direct {@link ByteBuffer}.
+ * Each value occupies a slot of fixed width (4 bytes for {@code int}, 8 bytes for {@code long} and {@code double}), in the native byte order,
+ * so that the value of row {@code i} is located at position {@code i * }{@link #getWidth()} of the buffer.
+ *
+ * <p> The buffer is allocated once and reused by every batch. Positions of null values are filled with zero.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see TypedBatchedPrimitiveColumnProcessor#setOffHeapEnabled(boolean)
+ */
+public final class FixedWidthColumn extends PrimitiveColumn {
+
+	private final Class<?> type;
+	private final int width;
+	private final ByteBuffer data;
+
+	FixedWidthColumn(String name, int capacity, Class<?> type) {
+		super(name, capacity);
+		this.type = type;
+		this.width = type == int.class ? 4 : 8;
+		this.data = ByteBuffer.allocateDirect(bufferSize((long) capacity * width)).order(ByteOrder.nativeOrder());
+	}
+
+	/**
+	 * Returns the number of bytes used by each value.
+	 *
+	 * @return 4 for {@code int} columns, 8 for {@code long} and {@code double} columns.
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * Returns the values of the current batch. The buffer shares its content with the buffer used to store the values of this column,
+	 * and is only valid until the next batch.
+	 *
+	 * @return a direct buffer in the native byte order, with its limit set to the end of the last value of the current batch.
+	 */
+	public ByteBuffer getData() {
+		ByteBuffer out = data.duplicate().order(ByteOrder.nativeOrder());
+		out.limit(size * width);
+		return out;
+	}
+
+	/**
+	 * Returns the value of a row in the current batch of an {@code int} column.
+	 *
+	 * @param row the position of the row in the current batch.
+	 *
+	 * @return the value of the given row, or zero if the value is null.
+	 */
+	public int getInt(int row) {
+		return data.getInt(row * 4);
+	}
+
+	/**
+	 * Returns the value of a row in the current batch of a {@code long} column.
+	 *
+	 * @param row the position of the row in the current batch.
+	 *
+	 * @return the value of the given row, or zero if the value is null.
+	 */
+	public long getLong(int row) {
+		return data.getLong(row * 8);
+	}
+
+	/**
+	 * Returns the value of a row in the current batch of a {@code double} column.
+	 *
+	 * @param row the position of the row in the current batch.
+	 *
+	 * @return the value of the given row, or zero if the value is null.
+	 */
+	public double getDouble(int row) {
+		return data.getDouble(row * 8);
+	}
+
+	@Override
+	public Class<?> getType() {
+		return type;
+	}
+
+	@Override
+	public Object getObject(int row) {
+		if (isNull(row)) {
+			return null;
+		} else if (type == int.class) {
+			return getInt(row);
+		} else if (type == long.class) {
+			return getLong(row);
+		}
+		return getDouble(row);
+	}
+
+	@Override
+	void addNullValue() {
+		if (width == 4) {
+			data.putInt(size * 4, 0);
+		} else {
+			data.putLong(size * 8, 0L);
+		}
+	}
+
+	@Override
+	void addValue(String value) {
+		if (type == int.class) {
+			data.putInt(size * 4, Integer.parseInt(value));
+		} else if (type == long.class) {
+			data.putLong(size * 8, Long.parseLong(value));
+		} else {
+			data.putDouble(size * 8, Double.parseDouble(value));
+		}
+	}
+
+	@Override
+	void addValue(RowView row, int index) {
+		if (type == int.class) {
+			data.putInt(size * 4, row.getInt(index));
+		} else if (type == long.class) {
+			data.putLong(size * 8, row.getLong(index));
+		} else {
+			data.putDouble(size * 8, row.getDouble(index));
+		}
+	}
+}
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.processor.core;
+
+import com.univocity.parsers.common.*;
+
+/**
+ * A {@link PrimitiveColumn} that stores values in an array of {@code int}.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see TypedBatchedPrimitiveColumnProcessor
+ */
+public final class IntColumn extends PrimitiveColumn {
+
+	private final int[] values;
+
+	IntColumn(String name, int capacity) {
+		super(name, capacity);
+		values = new int[capacity];
+	}
+
+	/**
+	 * Returns the values of the current batch. Positions of null values are filled with zero.
+	 *
+	 * @return the array of values of the current batch. Only the first {@link #size()} elements belong to the current batch.
+	 */
+	public int[] getValues() {
+		return values;
+	}
+
+	/**
+	 * Returns the value of a row in the current batch.
+	 *
+	 * @param row the position of the row in the current batch.
+	 *
+	 * @return the value of the given row, or zero if the value is null.
+	 */
+	public int getInt(int row) {
+		return values[row];
+	}
+
+	@Override
+	public Class<?> getType() {
+		return int.class;
+	}
+
+	@Override
+	public Integer getObject(int row) {
+		return isNull(row) ? null : values[row];
+	}
+
+	@Override
+	void addNullValue() {
+		values[size] = 0;
+	}
+
+	@Override
+	void addValue(String value) {
+		values[size] = Integer.parseInt(value);
+	}
+
+	@Override
+	void addValue(RowView row, int index) {
+		values[size] = row.getInt(index);
+	}
+}
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.processor.core;
+
+import com.univocity.parsers.common.*;
+
+import java.util.*;
+
+/**
+ * The values of a column accumulated by a {@link TypedBatchedPrimitiveColumnProcessor} in a batch of rows, stored in an array of primitives
+ * instead of a list of objects. Null values are identified by a bitmap in which the bit of each row is set if its value is null.
+ *
+ * <p> The arrays returned by the implementations of this class are the ones used internally to store the values, so no copies are made.
+ * They are reused by the next batch, and may be longer than the number of values in the batch, given by {@link #size()}.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see TypedBatchedPrimitiveColumnProcessor
+ */
+public abstract class PrimitiveColumn {
+
+	private final String name;
+	private final long[] nulls;
+	int size;
+
+	PrimitiveColumn(String name, int capacity) {
+		this.name = name;
+		this.nulls = new long[(capacity + 63) >>> 6];
+	}
+
+	/**
+	 * Returns the header of this column, if any.
+	 *
+	 * @return the header of this column, or {@code null} if the input has no headers.
+	 */
+	public final String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the number of values accumulated in the current batch.
+	 *
+	 * @return the number of values of this column in the current batch.
+	 */
+	public final int size() {
+		return size;
+	}
+
+	/**
+	 * Indicates whether the value of a row in the current batch is null.
+	 *
+	 * @param row the position of the row in the current batch.
+	 *
+	 * @return {@code true} if the value is null, otherwise {@code false}
+	 */
+	public final boolean isNull(int row) {
+		return (nulls[row >>> 6] & (1L << row)) != 0;
+	}
+
+	/**
+	 * Returns the bitmap of null values. The value of row {@code i} in the current batch is null if bit {@code i % 64}
+	 * of element {@code i / 64} is set.
+	 *
+	 * @return the bitmap of null values of the current batch.
+	 */
+	public final long[] getNullBitmap() {
+		return nulls;
+	}
+
+	/**
+	 * Returns the type of the values of this column.
+	 *
+	 * @return the primitive type of the values stored by this column, or {@code String.class} for dictionary encoded columns.
+	 */
+	public abstract Class<?> getType();
+
+	/**
+	 * Returns the value of a row in the current batch as an object.
+	 *
+	 * @param row the position of the row in the current batch.
+	 *
+	 * @return the value of the given row, or {@code null} if the value is null.
+	 */
+	public abstract Object getObject(int row);
+
+	final void addNull() {
+		nulls[size >>> 6] |= 1L << size;
+		addNullValue();
+		size++;
+	}
+
+	/**
+	 * Adds a value parsed from a row of the input.
+	 *
+	 * @param value the parsed value, which may be null.
+	 */
+	final void add(String value) {
+		if (value == null) {
+			addNull();
+		} else {
+			addValue(value);
+			size++;
+		}
+	}
+
+	/**
+	 * Adds a value of the current row of a {@link RowView}, reading it directly from the parsed characters whenever possible.
+	 *
+	 * @param row   the current row
+	 * @param index the position of the value in the row.
+	 */
+	final void add(RowView row, int index) {
+		if (row.getValue(index) == null) {
+			addNull();
+		} else {
+			addValue(row, index);
+			size++;
+		}
+	}
+
+	abstract void addNullValue();
+
+	abstract void addValue(String value);
+
+	abstract void addValue(RowView row, int index);
+
+	/**
+	 * Discards the last value added to the current batch, when the other values of its row could not be stored.
+	 */
+	void removeLast() {
+		size--;
+		nulls[size >>> 6] &= ~(1L << size);
+	}
+
+	/**
+	 * Discards the values of the current batch.
+	 */
+	void clear() {
+		Arrays.fill(nulls, 0, (size + 63) >>> 6, 0L);
+		size = 0;
+	}
+
+	/**
+	 * Validates the size of a buffer used to store the values of a batch of this column.
+	 *
+	 * @param bytes the number of bytes required.
+	 *
+	 * @return the number of bytes required, if it fits in a single buffer.
+	 */
+	final int bufferSize(long bytes) {
+		if (bytes > Integer.MAX_VALUE) {
+			throw new IllegalStateException("Values of column '" + name + "' need up to " + bytes + " bytes to be stored in a batch, which exceeds the limit of "
+					+ Integer.MAX_VALUE + " bytes of a buffer. Reduce the number of rows per batch.");
+		}
+		return (int) bytes;
+	}
+}
@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.processor.core;
+
+import java.util.concurrent.atomic.*;
+
+/**
+ * A bounded ring of batches of rows exchanged between a single producer (the parsing thread) and a single consumer (the processing thread)
+ * of a {@link ConcurrentProcessor}.
+ *
+ * <p> The producer adds rows to the current batch and moves on to the next batch once it is full. Each row becomes visible to the consumer as soon
+ * as it is added, so the consumer never waits for a batch to fill up. Batches are allocated upfront, reused, and released by the consumer once all of
+ * their rows are processed. The producer and the consumer communicate through the number of rows filled in each batch and two counters, the number of
+ * batches published and the number of batches released. Each thread waits according to a {@link WaitStrategy} while the ring is full or empty.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see ConcurrentProcessor
+ */
+final class RowBatchRing {
+
+	/**
+	 * A batch of rows
+	 */
+	private static final class Batch {
+		final String[][] rows;
+		final AtomicInteger filled = new AtomicInteger();
+
+		Batch(int batchSize) {
+			this.rows = new String[batchSize][];
+		}
+	}
+
+	private final Batch[] batches;
+	private final WaitStrategy waitStrategy;
+
+	private final AtomicLong published = new AtomicLong();
+	private final AtomicLong released = new AtomicLong();
+	private volatile boolean ended;
+	private volatile boolean closed;
+
+	// accessed by the producer thread only
+	private long producerPosition;
+	private long cachedReleased;
+	private Batch current;
+	private int size;
+
+	// accessed by the consumer thread only
+	private long consumerPosition;
+	private long cachedPublished;
+	private int consumed;
+	private int cachedFilled;
+
+	/**
+	 * Creates a ring with the given number of batches.
+	 *
+	 * @param batchCount   the number of batches in the ring
+	 * @param batchSize    the maximum number of rows in each batch
+	 * @param waitStrategy the strategy used by the producer and consumer while the ring is full or empty.
+	 */
+	RowBatchRing(int batchCount, int batchSize, WaitStrategy waitStrategy) {
+		this.batches = new Batch[batchCount];
+		for (int i = 0; i < batchCount; i++) {
+			batches[i] = new Batch(batchSize);
+		}
+		this.waitStrategy = waitStrategy;
+	}
+
+	/**
+	 * Adds a row to the current batch, making it immediately available to the consumer. Waits while all batches hold rows not yet processed by the consumer.
+	 *
+	 * @param row the row to add
+	 *
+	 * @return {@code false} if the ring was closed by the consumer and the row was discarded, otherwise {@code true}
+	 */
+	boolean add(String[] row) {
+		if (current == null) {
+			current = claim();
+			if (current == null) {
+				return false;
+			}
+		}
+		current.rows[size++] = row;
+		current.filled.lazySet(size);
+		if (size == current.rows.length) {
+			publish();
+		}
+		return true;
+	}
+
+	/**
+	 * Publishes the current batch and signals the consumer that no more rows will be added.
+	 */
+	void end() {
+		if (current != null) {
+			publish();
+		}
+		ended = true;
+	}
+
+	private Batch claim() {
+		final long wrapPoint = producerPosition - batches.length;
+		int tries = 0;
+		while (cachedReleased <= wrapPoint) {
+			cachedReleased = released.get();
+			if (cachedReleased <= wrapPoint) {
+				if (closed) {
+					return null;
+				}
+				tries = waitStrategy.idle(tries);
+			}
+		}
+		size = 0;
+		return batches[(int) (producerPosition % batches.length)];
+	}
+
+	private void publish() {
+		current = null;
+		published.lazySet(++producerPosition);
+	}
+
+	/**
+	 * Returns the next row added by the producer, waiting until one is available. Batches are released to the producer once all their rows are taken.
+	 *
+	 * @return the next row, or {@code null} if the producer ended and all rows were consumed.
+	 */
+	String[] take() {
+		int tries = 0;
+		while (true) {
+			Batch batch = batches[(int) (consumerPosition % batches.length)];
+			if (consumed < cachedFilled) {
+				return batch.rows[consumed++];
+			}
+			cachedFilled = batch.filled.get();
+			if (consumed < cachedFilled) {
+				continue;
+			}
+			if (cachedPublished <= consumerPosition) {
+				cachedPublished = published.get();
+			}
+			if (cachedPublished > consumerPosition) {
+				// rows are filled before the batch is published, so no more rows will be added to it.
+				cachedFilled = batch.filled.get();
+				if (consumed == cachedFilled) {
+					release(batch);
+				}
+				tries = 0;
+			} else if (ended) {
+				// the producer publishes its last batch before ending.
+				if (published.get() <= consumerPosition) {
+					return null;
+				}
+			} else {
+				tries = waitStrategy.idle(tries);
+			}
+		}
+	}
+
+	private void release(Batch batch) {
+		for (int i = 0; i < consumed; i++) {
+			batch.rows[i] = null;
+		}
+		consumed = 0;
+		cachedFilled = 0;
+		batch.filled.lazySet(0);
+		released.lazySet(++consumerPosition);
+	}
+
+	/**
+	 * Closes the ring from the consumer side, in case of errors, so the producer stops waiting for batches to be released.
+	 */
+	void close() {
+		closed = true;
+	}
+}
@@ -0,0 +1,337 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.processor.core;
+
+import com.univocity.parsers.common.*;
+import com.univocity.parsers.common.processor.*;
+
+import java.util.*;
+
+/**
+ * A {@link Processor} implementation that stores values of columns in batches, using arrays of primitives instead of lists of objects.
+ * Use this implementation in favor of {@link TypedBatchedColumnProcessor} when the columns are consumed as a whole, and the memory
+ * used to hold each batch matters.
+ *
+ * <p> The type of each column is defined with {@link #setColumnType(int, Class)} or {@link #setColumnType(String, Class)}. Columns of type
+ * {@code int}, {@code long} and {@code double} are stored in an {@link IntColumn}, {@link LongColumn} and {@link DoubleColumn} respectively.
+ * Any other column is stored in a {@link DictionaryColumn}, which keeps each distinct String of the batch only once.
+ *
+ * <p> When {@link #setOffHeapEnabled(boolean)} is enabled, values are stored outside of the Java heap instead: numbers in a {@link FixedWidthColumn}
+ * and Strings in a {@link VariableWidthColumn}.
+ *
+ * <p> During the execution of the process, the {@link #batchProcessed(int)} method will be invoked after a given number of rows has been processed.
+ * The user can access the values parsed for each column using {@link #getColumn(int)} and {@link #getColumn(String)}.
+ * After {@link #batchProcessed(int)} is invoked, all values will be discarded and the next batch of column values will be accumulated
+ * into the same arrays. This process will repeat until there's no more rows in the input.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see PrimitiveColumn
+ * @see com.univocity.parsers.common.processor.BatchedPrimitiveColumnProcessor
+ */
+public abstract class TypedBatchedPrimitiveColumnProcessor<T extends Context> implements Processor<T> {
+
+	private final int rowsPerBatch;
+	private final Map<Integer, Class<?>> typesByIndex = new HashMap<Integer, Class<?>>();
+	private final Map<String, Class<?>> typesByName = new HashMap<String, Class<?>>();
+
+	private boolean offHeapEnabled;
+
+	private String[] headers;
+	private PrimitiveColumn[] columns;
+	private int batchCount;
+	private int batchesProcessed;
+
+	/**
+	 * Constructs a batched column processor configured to invoke the {@link #batchProcessed} method after a given number of rows has been processed.
+	 *
+	 * @param rowsPerBatch the number of rows to process in each batch.
+	 */
+	public TypedBatchedPrimitiveColumnProcessor(int rowsPerBatch) {
+		if (rowsPerBatch <= 0) {
+			throw new IllegalArgumentException("Number of rows per batch must be positive");
+		}
+		this.rowsPerBatch = rowsPerBatch;
+	}
+
+	/**
+	 * Defines the type of the values of a column, identified by its position in the parsed rows.
+	 *
+	 * @param columnIndex the position of the column in the parsed rows
+	 * @param type        {@code int.class}, {@code long.class}, {@code double.class} or {@code String.class}
+	 */
+	public void setColumnType(int columnIndex, Class<?> type) {
+		if (columnIndex < 0) {
+			throw new IllegalArgumentException("Column index must be positive");
+		}
+		typesByIndex.put(columnIndex, validateType(type));
+	}
+
+	/**
+	 * Defines the type of the values of a column, identified by its header.
+	 *
+	 * @param columnName the header of the column
+	 * @param type       {@code int.class}, {@code long.class}, {@code double.class} or {@code String.class}
+	 */
+	public void setColumnType(String columnName, Class<?> type) {
+		if (columnName == null) {
+			throw new IllegalArgumentException("Column name cannot be null");
+		}
+		typesByName.put(columnName, validateType(type));
+	}
+
+	private static Class<?> validateType(Class<?> type) {
+		if (type != int.class && type != long.class && type != double.class && type != String.class) {
+			throw new IllegalArgumentException("Unsupported column type: " + type + ". Supported types are int, long, double and String");
+		}
+		return type;
+	}
+
+	/**
+	 * Indicates whether values are stored outside of the Java heap, in direct {@link java.nio.ByteBuffer}s (disabled by default).
+	 *
+	 * @return {@code true} if values are stored in {@link FixedWidthColumn}s and {@link VariableWidthColumn}s, or {@code false} if
+	 * values are stored in Java arrays.
+	 */
+	public boolean isOffHeapEnabled() {
+		return offHeapEnabled;
+	}
+
+	/**
+	 * Defines whether values should be stored outside of the Java heap, in direct {@link java.nio.ByteBuffer}s (disabled by default).
+	 * Numbers are stored in slots of fixed width of a {@link FixedWidthColumn}, and Strings are encoded in UTF-8 into the data buffer of
+	 * a {@link VariableWidthColumn}, along with a buffer of offsets that identify where each value begins and ends.
+	 *
+	 * <p> This allows batches with many rows to be handed to native or columnar consumers without growing the Java heap.
+	 * The buffers are allocated when the first row is processed, and reused by every batch. Must be invoked before parsing.
+	 *
+	 * @param offHeapEnabled flag indicating whether values should be stored outside of the Java heap.
+	 */
+	public void setOffHeapEnabled(boolean offHeapEnabled) {
+		this.offHeapEnabled = offHeapEnabled;
+	}
+
+	@Override
+	public void processStarted(T context) {
+		headers = null;
+		columns = null;
+		batchCount = 0;
+		batchesProcessed = 0;
+	}
+
+	@Override
+	public void rowProcessed(String[] row, T context) {
+		initializeColumns(row.length, context);
+		int i = 0;
+		try {
+			for (; i < row.length; i++) {
+				columns[i].add(row[i]);
+			}
+		} catch (NumberFormatException e) {
+			discardValues(i);
+			throw new DataProcessingException("Unable to store value of column " + i + " as " + columns[i].getType().getName(), i, row, e);
+		}
+		rowAdded(row.length);
+	}
+
+	/**
+	 * Adds the values of a row parsed with {@link AbstractParser#parse(java.io.Reader, RowViewProcessor)}. Numeric values are read directly
+	 * from the characters collected by the parser, and Strings are only created for values not yet in the dictionary of their column.
+	 *
+	 * @param row     a view of the values of the row parsed from the input
+	 * @param context A contextual object with information and controls over the current state of the parsing process
+	 */
+	public void rowProcessed(RowView row, T context) {
+		final int length = row.length();
+		initializeColumns(length, context);
+		int i = 0;
+		try {
+			for (; i < length; i++) {
+				columns[i].add(row, i);
+			}
+		} catch (NumberFormatException e) {
+			discardValues(i);
+			throw new DataProcessingException("Unable to store value of column " + i + " as " + columns[i].getType().getName(), i, row.getValues(), e);
+		}
+		rowAdded(length);
+	}
+
+	/**
+	 * Discards the values of a row that could not be stored entirely, so that all columns keep the same number of values.
+	 *
+	 * @param count the number of columns that stored a value of the row.
+	 */
+	private void discardValues(int count) {
+		for (int i = 0; i < count; i++) {
+			columns[i].removeLast();
+		}
+	}
+
+	private void initializeColumns(int length, T context) {
+		if (columns == null) {
+			headers = headersOf(context);
+			columns = new PrimitiveColumn[0];
+		}
+		if (columns.length < length) {
+			int start = columns.length;
+			columns = Arrays.copyOf(columns, length);
+			for (int i = start; i < length; i++) {
+				columns[i] = newColumn(i);
+				//adding nulls to the values of a new row with more columns than parsed before.
+				for (int j = 0; j < batchCount; j++) {
+					columns[i].addNull();
+				}
+			}
+		}
+	}
+
+	private static String[] headersOf(Context context) {
+		String[] allHeaders = context.headers();
+		if (allHeaders == null) {
+			return ArgumentUtils.EMPTY_STRING_ARRAY;
+		}
+		if (!context.columnsReordered()) {
+			return allHeaders;
+		}
+		int[] selectedIndexes = context.extractedFieldIndexes();
+		String[] out = new String[selectedIndexes.length];
+		for (int i = 0; i < selectedIndexes.length; i++) {
+			int index = selectedIndexes[i];
+			if (index >= 0 && index < allHeaders.length) {
+				out[i] = allHeaders[index];
+			}
+		}
+		return out;
+	}
+
+	private PrimitiveColumn newColumn(int index) {
+		String name = index < headers.length ? headers[index] : null;
+		Class<?> type = typesByIndex.get(index);
+		if (type == null && name != null) {
+			type = typesByName.get(name);
+		}
+		if (offHeapEnabled) {
+			if (type == null || type == String.class) {
+				return new VariableWidthColumn(name, rowsPerBatch);
+			}
+			return new FixedWidthColumn(name, rowsPerBatch, type);
+		}
+		if (type == int.class) {
+			return new IntColumn(name, rowsPerBatch);
+		} else if (type == long.class) {
+			return new LongColumn(name, rowsPerBatch);
+		} else if (type == double.class) {
+			return new DoubleColumn(name, rowsPerBatch);
+		}
+		return new DictionaryColumn(name, rowsPerBatch);
+	}
+
+	private void rowAdded(int length) {
+		//if we have more columns than what was parsed in the current row, we need to add nulls to the remaining columns.
+		for (int i = length; i < columns.length; i++) {
+			columns[i].addNull();
+		}
+
+		batchCount++;
+		if (batchCount >= rowsPerBatch) {
+			batchProcessed(batchCount);
+			batchCount = 0;
+			for (PrimitiveColumn column : columns) {
+				column.clear();
+			}
+			batchesProcessed++;
+		}
+	}
+
+	@Override
+	public void processEnded(T context) {
+		if (batchCount > 0) {
+			batchProcessed(batchCount);
+		}
+	}
+
+	/**
+	 * Returns the headers of the columns, if any.
+	 *
+	 * @return the headers of the columns, or {@code null} if no rows have been processed.
+	 */
+	public final String[] getHeaders() {
+		return headers;
+	}
+
+	/**
+	 * Returns the number of columns accumulated so far.
+	 *
+	 * @return the number of columns.
+	 */
+	public final int getColumnCount() {
+		return columns == null ? 0 : columns.length;
+	}
+
+	/**
+	 * Returns the values of a column in the current batch.
+	 *
+	 * @param columnIndex the position of the column
+	 *
+	 * @return the values of the given column.
+	 */
+	public final PrimitiveColumn getColumn(int columnIndex) {
+		if (columnIndex < 0 || columnIndex >= getColumnCount()) {
+			throw new IllegalArgumentException("Column index must be between 0 and " + (getColumnCount() - 1) + ". Got " + columnIndex);
+		}
+		return columns[columnIndex];
+	}
+
+	/**
+	 * Returns the values of a column in the current batch.
+	 *
+	 * @param columnName the header of the column
+	 *
+	 * @return the values of the given column.
+	 */
+	public final PrimitiveColumn getColumn(String columnName) {
+		int index = headers == null ? -1 : ArgumentUtils.indexOf(headers, columnName);
+		if (index == -1) {
+			throw new IllegalArgumentException("No column named '" + columnName + "' has been found. Available column headers: " + Arrays.toString(headers));
+		}
+		return getColumn(index);
+	}
+
+	/**
+	 * Returns the number of rows processed in each batch
+	 *
+	 * @return the number of rows per batch
+	 */
+	public final int getRowsPerBatch() {
+		return rowsPerBatch;
+	}
+
+	/**
+	 * Returns the number of batches already processed
+	 *
+	 * @return the number of batches already processed
+	 */
+	public final int getBatchesProcessed() {
+		return batchesProcessed;
+	}
+
+	/**
+	 * Callback to the user, where the values of each column in the current batch can be accessed with {@link #getColumn(int)} and
+	 * {@link #getColumn(String)}.
+	 *
+	 * @param rowsInThisBatch the number of rows processed in the current batch.
+	 */
+	public abstract void batchProcessed(int rowsInThisBatch);
+}
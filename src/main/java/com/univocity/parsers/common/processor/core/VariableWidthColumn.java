@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.processor.core;
+
+import com.univocity.parsers.common.*;
+
+import java.nio.*;
+import java.nio.charset.*;
+
+/**
+ * A {@link PrimitiveColumn} of Strings stored outside of the Java heap. The characters of each value are encoded in UTF-8 and stored one after
+ * the other in a direct data buffer. A direct offsets buffer holds the position of the first byte of each value in the data buffer, followed by
+ * the position after its last byte. The value of row {@code i} is therefore stored between offsets {@code i} and {@code i + 1}.
+ * Offsets are {@code int} values in the native byte order.
+ *
+ * <p> Null values have no bytes in the data buffer. The data buffer grows if the values of a batch don't fit, and both buffers are reused by every batch.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see TypedBatchedPrimitiveColumnProcessor#setOffHeapEnabled(boolean)
+ */
+public final class VariableWidthColumn extends PrimitiveColumn {
+
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	private final ByteBuffer offsets;
+	private ByteBuffer data;
+	private int end;
+
+	VariableWidthColumn(String name, int capacity) {
+		super(name, capacity);
+		this.offsets = ByteBuffer.allocateDirect(bufferSize((capacity + 1L) * 4)).order(ByteOrder.nativeOrder());
+		this.data = ByteBuffer.allocateDirect((int) Math.min(Math.max(capacity * 8L, 1024), Integer.MAX_VALUE));
+	}
+
+	/**
+	 * Returns the offsets of the values of the current batch in the data buffer. The buffer shares its content with the buffer used
+	 * by this column, and is only valid until the next batch.
+	 *
+	 * @return a direct buffer of {@link #size()} + 1 {@code int} values in the native byte order.
+	 */
+	public ByteBuffer getOffsets() {
+		ByteBuffer out = offsets.duplicate().order(ByteOrder.nativeOrder());
+		out.limit((size + 1) * 4);
+		return out;
+	}
+
+	/**
+	 * Returns the UTF-8 encoded values of the current batch. The buffer shares its content with the buffer used by this column,
+	 * and is only valid until the next batch.
+	 *
+	 * @return a direct buffer with its limit set to the end of the last value of the current batch.
+	 */
+	public ByteBuffer getData() {
+		ByteBuffer out = data.duplicate();
+		out.limit(end);
+		return out;
+	}
+
+	/**
+	 * Returns the value of a row in the current batch, decoding it into a new String.
+	 *
+	 * @param row the position of the row in the current batch.
+	 *
+	 * @return the value of the given row, or {@code null} if the value is null.
+	 */
+	public String getString(int row) {
+		if (isNull(row)) {
+			return null;
+		}
+		int start = offsets.getInt(row * 4);
+		byte[] bytes = new byte[offsets.getInt((row + 1) * 4) - start];
+		ByteBuffer value = data.duplicate();
+		value.position(start);
+		value.get(bytes);
+		return new String(bytes, UTF_8);
+	}
+
+	@Override
+	public Class<?> getType() {
+		return String.class;
+	}
+
+	@Override
+	public String getObject(int row) {
+		return getString(row);
+	}
+
+	@Override
+	void addNullValue() {
+		offsets.putInt((size + 1) * 4, end);
+	}
+
+	@Override
+	void addValue(String value) {
+		encode(value);
+	}
+
+	@Override
+	void addValue(RowView row, int index) {
+		encode(row.getValue(index));
+	}
+
+	private void encode(CharSequence value) {
+		final int length = value.length();
+		if (data.capacity() - end < length * 3L) {
+			long required = bufferSize(end + length * 3L);
+			ByteBuffer expanded = ByteBuffer.allocateDirect((int) Math.min(Math.max(data.capacity() * 2L, required), Integer.MAX_VALUE));
+			ByteBuffer current = data.duplicate();
+			current.limit(end);
+			expanded.put(current);
+			data = expanded;
+		}
+
+		int position = end;
+		for (int i = 0; i < length; i++) {
+			char ch = value.charAt(i);
+			if (ch < 0x80) {
+				data.put(position++, (byte) ch);
+			} else if (ch < 0x800) {
+				data.put(position++, (byte) (0xC0 | (ch >> 6)));
+				data.put(position++, (byte) (0x80 | (ch & 0x3F)));
+			} else if (Character.isHighSurrogate(ch) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+				int codePoint = Character.toCodePoint(ch, value.charAt(++i));
+				data.put(position++, (byte) (0xF0 | (codePoint >> 18)));
+				data.put(position++, (byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+				data.put(position++, (byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+				data.put(position++, (byte) (0x80 | (codePoint & 0x3F)));
+			} else if (ch >= Character.MIN_SURROGATE && ch <= Character.MAX_SURROGATE) {
+				// unpaired surrogates are replaced, as in String.getBytes()
+				data.put(position++, (byte) '?');
+			} else {
+				data.put(position++, (byte) (0xE0 | (ch >> 12)));
+				data.put(position++, (byte) (0x80 | ((ch >> 6) & 0x3F)));
+				data.put(position++, (byte) (0x80 | (ch & 0x3F)));
+			}
+		}
+		end = position;
+		offsets.putInt((size + 1) * 4, end);
+	}
+
+	@Override
+	void removeLast() {
+		super.removeLast();
+		end = offsets.getInt(size * 4);
+	}
+
+	@Override
+	void clear() {
+		super.clear();
+		end = 0;
+	}
+}
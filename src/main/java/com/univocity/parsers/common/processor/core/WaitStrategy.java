@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.processor.core;
+
+import java.util.concurrent.locks.*;
+
+/**
+ * Defines how a thread waits for another in a {@link ConcurrentProcessor}: the processing thread waits while there are no rows to process,
+ * and the parsing thread waits while the queue of rows is full.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see ConcurrentProcessor
+ */
+public enum WaitStrategy {
+
+	/**
+	 * Keeps checking for progress, only giving up the CPU once every 1024 checks so that the other thread can run on machines with fewer cores than
+	 * running threads. Provides the lowest latency, but keeps a CPU core busy while waiting.
+	 */
+	SPIN {
+		@Override
+		int idle(int tries) {
+			if ((tries & 1023) == 1023) {
+				Thread.yield();
+			}
+			return tries + 1;
+		}
+	},
+
+	/**
+	 * Yields the CPU to other threads between checks. Reduces the impact on other threads, but still consumes CPU while waiting.
+	 */
+	YIELD {
+		@Override
+		int idle(int tries) {
+			Thread.yield();
+			return tries + 1;
+		}
+	},
+
+	/**
+	 * Spins and yields for a short while, then parks the thread for increasingly longer periods (up to 1 millisecond).
+	 * Uses practically no CPU while waiting, at the cost of a higher latency. This is the default.
+	 */
+	PARK {
+		@Override
+		int idle(int tries) {
+			if (tries < 100) {
+				return tries + 1;
+			}
+			if (tries < 200) {
+				Thread.yield();
+				return tries + 1;
+			}
+			int parks = Math.min(tries - 200, 10);
+			LockSupport.parkNanos(1000L << parks);
+			return tries + 1;
+		}
+	};
+
+	/**
+	 * Waits once.
+	 *
+	 * @param tries the number of times this method was invoked since the thread started waiting.
+	 *
+	 * @return the number of tries to provide in the next invocation of this method.
+	 */
+	abstract int idle(int tries);
+}
@@ -17,6 +17,7 @@ package com.univocity.parsers.common.routine;
 
 import com.univocity.parsers.common.*;
 import com.univocity.parsers.common.processor.*;
+import com.univocity.parsers.common.record.*;
 
 import java.io.*;
 import java.nio.charset.*;
@@ -706,6 +707,176 @@ public abstract class AbstractRoutines<P extends CommonParserSettings<?>, W exte
 		};
 	}
 
+	/**
+	 * Iterates over an input to produce its rows on demand.
+	 * Only one iterator can be obtained, as the input can only be read once.
+	 *
+	 * @param input the input to be parsed
+	 *
+	 * @return an {@link Iterable} that allows iterating over the input and producing rows on demand.
+	 */
+	public Iterable<String[]> iterate(Reader input) {
+		return createParser(parserSettings).iterate(input);
+	}
+
+	/**
+	 * Iterates over a file to produce its rows on demand.
+	 *
+	 * @param input the file to be parsed
+	 *
+	 * @return an {@link Iterable} that allows iterating over the input and producing rows on demand.
+	 */
+	public Iterable<String[]> iterate(File input) {
+		return createParser(parserSettings).iterate(input);
+	}
+
+	/**
+	 * Iterates over a file to produce its rows on demand.
+	 *
+	 * @param input    the file to be parsed
+	 * @param encoding encoding of the given file
+	 *
+	 * @return an {@link Iterable} that allows iterating over the input and producing rows on demand.
+	 */
+	public Iterable<String[]> iterate(File input, String encoding) {
+		return createParser(parserSettings).iterate(input, encoding);
+	}
+
+	/**
+	 * Iterates over a file to produce its rows on demand.
+	 *
+	 * @param input    the file to be parsed
+	 * @param encoding encoding of the given file
+	 *
+	 * @return an {@link Iterable} that allows iterating over the input and producing rows on demand.
+	 */
+	public Iterable<String[]> iterate(File input, Charset encoding) {
+		return createParser(parserSettings).iterate(input, encoding);
+	}
+
+	/**
+	 * Iterates over an input stream to produce its rows on demand.
+	 * Only one iterator can be obtained, as the input can only be read once.
+	 *
+	 * @param input the input stream to be parsed
+	 *
+	 * @return an {@link Iterable} that allows iterating over the input and producing rows on demand.
+	 */
+	public Iterable<String[]> iterate(InputStream input) {
+		return createParser(parserSettings).iterate(input);
+	}
+
+	/**
+	 * Iterates over an input stream to produce its rows on demand.
+	 * Only one iterator can be obtained, as the input can only be read once.
+	 *
+	 * @param input    the input stream to be parsed
+	 * @param encoding encoding of the given input stream
+	 *
+	 * @return an {@link Iterable} that allows iterating over the input and producing rows on demand.
+	 */
+	public Iterable<String[]> iterate(InputStream input, String encoding) {
+		return createParser(parserSettings).iterate(input, encoding);
+	}
+
+	/**
+	 * Iterates over an input stream to produce its rows on demand.
+	 * Only one iterator can be obtained, as the input can only be read once.
+	 *
+	 * @param input    the input stream to be parsed
+	 * @param encoding encoding of the given input stream
+	 *
+	 * @return an {@link Iterable} that allows iterating over the input and producing rows on demand.
+	 */
+	public Iterable<String[]> iterate(InputStream input, Charset encoding) {
+		return createParser(parserSettings).iterate(input, encoding);
+	}
+
+	/**
+	 * Iterates over an input to produce its {@link Record}s on demand.
+	 * Only one iterator can be obtained, as the input can only be read once.
+	 *
+	 * @param input the input to be parsed
+	 *
+	 * @return an {@link Iterable} that allows iterating over the input and producing records on demand.
+	 */
+	public Iterable<Record> iterateRecords(Reader input) {
+		return createParser(parserSettings).iterateRecords(input);
+	}
+
+	/**
+	 * Iterates over a file to produce its {@link Record}s on demand.
+	 *
+	 * @param input the file to be parsed
+	 *
+	 * @return an {@link Iterable} that allows iterating over the input and producing records on demand.
+	 */
+	public Iterable<Record> iterateRecords(File input) {
+		return createParser(parserSettings).iterateRecords(input);
+	}
+
+	/**
+	 * Iterates over a file to produce its {@link Record}s on demand.
+	 *
+	 * @param input    the file to be parsed
+	 * @param encoding encoding of the given file
+	 *
+	 * @return an {@link Iterable} that allows iterating over the input and producing records on demand.
+	 */
+	public Iterable<Record> iterateRecords(File input, String encoding) {
+		return createParser(parserSettings).iterateRecords(input, encoding);
+	}
+
+	/**
+	 * Iterates over a file to produce its {@link Record}s on demand.
+	 *
+	 * @param input    the file to be parsed
+	 * @param encoding encoding of the given file
+	 *
+	 * @return an {@link Iterable} that allows iterating over the input and producing records on demand.
+	 */
+	public Iterable<Record> iterateRecords(File input, Charset encoding) {
+		return createParser(parserSettings).iterateRecords(input, encoding);
+	}
+
+	/**
+	 * Iterates over an input stream to produce its {@link Record}s on demand.
+	 * Only one iterator can be obtained, as the input can only be read once.
+	 *
+	 * @param input the input stream to be parsed
+	 *
+	 * @return an {@link Iterable} that allows iterating over the input and producing records on demand.
+	 */
+	public Iterable<Record> iterateRecords(InputStream input) {
+		return createParser(parserSettings).iterateRecords(input);
+	}
+
+	/**
+	 * Iterates over an input stream to produce its {@link Record}s on demand.
+	 * Only one iterator can be obtained, as the input can only be read once.
+	 *
+	 * @param input    the input stream to be parsed
+	 * @param encoding encoding of the given input stream
+	 *
+	 * @return an {@link Iterable} that allows iterating over the input and producing records on demand.
+	 */
+	public Iterable<Record> iterateRecords(InputStream input, String encoding) {
+		return createParser(parserSettings).iterateRecords(input, encoding);
+	}
+
+	/**
+	 * Iterates over an input stream to produce its {@link Record}s on demand.
+	 * Only one iterator can be obtained, as the input can only be read once.
+	 *
+	 * @param input    the input stream to be parsed
+	 * @param encoding encoding of the given input stream
+	 *
+	 * @return an {@link Iterable} that allows iterating over the input and producing records on demand.
+	 */
+	public Iterable<Record> iterateRecords(InputStream input, Charset encoding) {
+		return createParser(parserSettings).iterateRecords(input, encoding);
+	}
+
 	@Override
 	public String toString() {
 		return routineDescription;
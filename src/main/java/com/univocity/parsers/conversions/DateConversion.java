@@ -28,6 +28,11 @@ import java.util.*;
  * <p> The reverse conversion from a Date to String (in {@link DateConversion#revert(Date)} will return a formatted String using the date pattern provided in this class constructor
  * <p> The date patterns must follows the pattern rules of {@link java.text.SimpleDateFormat}
  *
+ * <p> Patterns made only of fixed-width numeric fields, such as {@code yyyy-MM-dd}, {@code yyyy-MM-dd HH:mm:ss.SSS} and {@code yyyy-MM-dd'T'HH:mm:ss},
+ * are parsed by reading their digits straight from the input. A {@link java.text.SimpleDateFormat} is used for any other pattern,
+ * and for input that doesn't match one of these patterns exactly. Each thread works with its own copy of the formatters, so instances of this
+ * class can be shared among threads.
+ *
  * @see java.text.SimpleDateFormat
  *
  * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
@@ -37,6 +42,14 @@ public class DateConversion extends ObjectConversion<Date> implements FormattedC
 
 	private final SimpleDateFormat[] parsers;
 	private final String[] formats;
+	private final FixedDatePattern[] patterns;
+
+	private final ThreadLocal<Formatters> formatters = new ThreadLocal<Formatters>() {
+		@Override
+		protected Formatters initialValue() {
+			return new Formatters(parsers, patterns);
+		}
+	};
 
 	/**
 	 * Defines a conversion from String to {@link java.util.Date} using a sequence of acceptable date patterns.
@@ -50,9 +63,11 @@ public class DateConversion extends ObjectConversion<Date> implements FormattedC
 		ArgumentUtils.noNulls("Date formats", dateFormats);
 		this.formats = dateFormats.clone();
 		this.parsers = new SimpleDateFormat[dateFormats.length];
+		this.patterns = new FixedDatePattern[dateFormats.length];
 		for (int i = 0; i < dateFormats.length; i++) {
 			String dateFormat = dateFormats[i];
 			parsers[i] = new SimpleDateFormat(dateFormat);
+			patterns[i] = FixedDatePattern.compile(dateFormat);
 		}
 	}
 
@@ -76,7 +91,7 @@ public class DateConversion extends ObjectConversion<Date> implements FormattedC
 		if (input == null) {
 			return super.revert(null);
 		}
-		return parsers[0].format(input);
+		return formatters.get().parsers[0].format(input);
 	}
 
 	/**
@@ -87,9 +102,21 @@ public class DateConversion extends ObjectConversion<Date> implements FormattedC
 	 */
 	@Override
 	protected Date fromString(String input) {
-		for (SimpleDateFormat formatter : parsers) {
+		Formatters local = formatters.get();
+		for (int i = 0; i < parsers.length; i++) {
+			if (patterns[i] != null) {
+				Calendar calendar = local.calendars[i];
+				if (patterns[i].parse(input, calendar)) {
+					try {
+						return calendar.getTime();
+					} catch (IllegalArgumentException ex) {
+						//not a valid date and the formatter is not lenient, so it would reject the input as well.
+						continue;
+					}
+				}
+			}
 			try {
-				return formatter.parse(input);
+				return local.parsers[i].parse(input);
 			} catch (ParseException ex) {
 				//ignore and continue
 			}
@@ -97,9 +124,35 @@ public class DateConversion extends ObjectConversion<Date> implements FormattedC
 		throw new DataProcessingException("Cannot parse '" + input + "' as a valid date. Supported formats are: " + Arrays.toString(formats));
 	}
 
+	/**
+	 * Returns the formatters built from the date patterns provided in the constructor of this class. Any changes to these formatters,
+	 * such as the time zone or leniency, must be made before the conversion is used, as each thread works on a copy of them.
+	 *
+	 * @return the formatters used to parse and format dates.
+	 */
 	@Override
 	public SimpleDateFormat[] getFormatterObjects() {
 		return parsers;
 	}
 
+	/**
+	 * Copies of the formatters and their calendars, used by a single thread. Holds no reference to the conversion, which would
+	 * otherwise be kept in memory by every thread that used it, along with the thread-local variable that stores these copies.
+	 */
+	private static final class Formatters {
+		final SimpleDateFormat[] parsers;
+		final Calendar[] calendars;
+
+		Formatters(SimpleDateFormat[] prototypes, FixedDatePattern[] patterns) {
+			parsers = new SimpleDateFormat[prototypes.length];
+			calendars = new Calendar[prototypes.length];
+			for (int i = 0; i < prototypes.length; i++) {
+				parsers[i] = (SimpleDateFormat) prototypes[i].clone();
+				if (patterns[i] != null) {
+					calendars[i] = (Calendar) parsers[i].getCalendar().clone();
+				}
+			}
+		}
+	}
+
 }
@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.conversions;
+
+import java.util.*;
+
+/**
+ * A date pattern made only of fixed-width numeric fields and literal characters, such as {@code yyyy-MM-dd}, {@code yyyy-MM-dd HH:mm:ss.SSS}
+ * and the ISO-8601 form {@code yyyy-MM-dd'T'HH:mm:ss}. The digits of each field are read straight from the input, without the overhead of
+ * {@link java.text.SimpleDateFormat#parse(String)}.
+ *
+ * <p> Instances are immutable and can be shared among threads. Only input that matches the pattern exactly is accepted, so that any other
+ * input can be handed over to a {@link java.text.SimpleDateFormat} built with the same pattern, producing the same result it would produce
+ * otherwise.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ */
+final class FixedDatePattern {
+
+	private static final int LITERAL = -1;
+
+	private final char[] template;
+	private final int[] fields;
+	private final int[] starts;
+	private final int[] widths;
+
+	private FixedDatePattern(char[] template, int[] fields, int[] starts, int[] widths) {
+		this.template = template;
+		this.fields = fields;
+		this.starts = starts;
+		this.widths = widths;
+	}
+
+	/**
+	 * Compiles a pattern that follows the rules of {@link java.text.SimpleDateFormat}.
+	 *
+	 * @param pattern the date pattern
+	 *
+	 * @return the compiled pattern, or {@code null} if the pattern has anything other than the fields {@code yyyy}, {@code MM}, {@code dd},
+	 * {@code HH}, {@code mm}, {@code ss} and {@code SSS}, and literal characters.
+	 */
+	static FixedDatePattern compile(String pattern) {
+		StringBuilder template = new StringBuilder();
+		List<int[]> segments = new ArrayList<int[]>();
+
+		int i = 0;
+		while (i < pattern.length()) {
+			char ch = pattern.charAt(i);
+			if (ch == '\'') {
+				int end = pattern.indexOf('\'', i + 1);
+				if (end == -1) {
+					return null;
+				}
+				if (end == i + 1) {
+					template.append('\'');
+				} else {
+					template.append(pattern, i + 1, end);
+				}
+				i = end + 1;
+			} else if ((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z')) {
+				int count = 1;
+				while (i + count < pattern.length() && pattern.charAt(i + count) == ch) {
+					count++;
+				}
+				int field = fieldOf(ch, count);
+				if (field == LITERAL) {
+					return null;
+				}
+				segments.add(new int[]{field, template.length(), count});
+				for (int j = 0; j < count; j++) {
+					template.append('0');
+				}
+				i += count;
+			} else {
+				template.append(ch);
+				i++;
+			}
+		}
+
+		if (segments.isEmpty()) {
+			return null;
+		}
+
+		int[] fields = new int[segments.size()];
+		int[] starts = new int[fields.length];
+		int[] widths = new int[fields.length];
+		for (int j = 0; j < fields.length; j++) {
+			int[] segment = segments.get(j);
+			fields[j] = segment[0];
+			starts[j] = segment[1];
+			widths[j] = segment[2];
+		}
+		return new FixedDatePattern(template.toString().toCharArray(), fields, starts, widths);
+	}
+
+	private static int fieldOf(char letter, int count) {
+		switch (letter) {
+			case 'y':
+				return count == 4 ? Calendar.YEAR : LITERAL;
+			case 'M':
+				return count == 2 ? Calendar.MONTH : LITERAL;
+			case 'd':
+				return count == 2 ? Calendar.DAY_OF_MONTH : LITERAL;
+			case 'H':
+				return count == 2 ? Calendar.HOUR_OF_DAY : LITERAL;
+			case 'm':
+				return count == 2 ? Calendar.MINUTE : LITERAL;
+			case 's':
+				return count == 2 ? Calendar.SECOND : LITERAL;
+			case 'S':
+				return count == 3 ? Calendar.MILLISECOND : LITERAL;
+			default:
+				return LITERAL;
+		}
+	}
+
+	/**
+	 * Parses the given input into a calendar. The calendar is cleared and its fields are set the same way
+	 * {@link java.text.SimpleDateFormat} does, so its time zone and leniency settings apply when the time is computed.
+	 *
+	 * @param input    the String to parse
+	 * @param calendar the calendar that receives the parsed fields.
+	 *
+	 * @return {@code true} if the input matches this pattern exactly and has valid values for each field, otherwise {@code false},
+	 * in which case the calendar is left untouched.
+	 */
+	boolean parse(String input, Calendar calendar) {
+		if (input.length() != template.length) {
+			return false;
+		}
+
+		int segment = 0;
+		int nextField = starts[0];
+		for (int i = 0; i < template.length; i++) {
+			char ch = input.charAt(i);
+			if (i == nextField) {
+				int end = i + widths[segment];
+				for (; i < end; i++) {
+					ch = input.charAt(i);
+					if (ch < '0' || ch > '9') {
+						return false;
+					}
+				}
+				i--;
+				segment++;
+				nextField = segment < starts.length ? starts[segment] : -1;
+			} else if (ch != template[i]) {
+				return false;
+			}
+		}
+
+		// out of range values are left for the formatter to roll over or reject, depending on its leniency.
+		for (int j = 0; j < fields.length; j++) {
+			if (!isValid(fields[j], valueOf(input, j))) {
+				return false;
+			}
+		}
+
+		calendar.clear();
+		for (int j = 0; j < fields.length; j++) {
+			int value = valueOf(input, j);
+			calendar.set(fields[j], fields[j] == Calendar.MONTH ? value - 1 : value);
+		}
+		return true;
+	}
+
+	private int valueOf(String input, int segment) {
+		int value = 0;
+		int end = starts[segment] + widths[segment];
+		for (int i = starts[segment]; i < end; i++) {
+			value = value * 10 + (input.charAt(i) - '0');
+		}
+		return value;
+	}
+
+	private static boolean isValid(int field, int value) {
+		switch (field) {
+			case Calendar.MONTH:
+				return value >= 1 && value <= 12;
+			case Calendar.DAY_OF_MONTH:
+				return value >= 1 && value <= 31;
+			case Calendar.HOUR_OF_DAY:
+				return value <= 23;
+			case Calendar.MINUTE:
+			case Calendar.SECOND:
+				return value <= 59;
+			default:
+				return true;
+		}
+	}
+}
@@ -30,6 +30,8 @@ import java.util.*;
  * <p> Extending classes must implement the {@link NumericConversion#configureFormatter(DecimalFormat)} method to provide specific configuration to the DecimalFormat instance.
  * <p> The reverse conversion from a Number to String (in {@link NumericConversion#revert(Number)} will return a formatted String using the pattern provided in this class constructor
  * <p> The numeric patterns must follows the pattern rules of {@link java.text.DecimalFormat}
+ * <p> Numbers written in plain form (an optional minus sign, digits, grouping separators and a decimal separator) are parsed directly from the input
+ * whenever the formatter has no prefixes, suffixes or multipliers. The {@link java.text.DecimalFormat} is used for any other input.
  *
  * @param <T> The type of numbers supported by this conversion class.
  *
@@ -41,6 +43,7 @@ public abstract class NumericConversion<T extends Number> extends ObjectConversi
 	private DecimalFormat[] formatters = new DecimalFormat[0];
 	private String[] formats = new String[0];
 	private final ParsePosition position = new ParsePosition(0);
+	private PlainNumberFormat[] plainFormats;
 	private Class<? extends Number> numberType = Number.class;
 
 	/**
@@ -140,6 +143,11 @@ public abstract class NumericConversion<T extends Number> extends ObjectConversi
 		this.numberType = numberType;
 	}
 
+	/**
+	 * Returns the formatters used to parse and format numbers. Any changes to these formatters must be made before the conversion is used.
+	 *
+	 * @return the formatters used to parse and format numbers.
+	 */
 	@Override
 	public DecimalFormat[] getFormatterObjects() {
 		return formatters;
@@ -163,9 +171,21 @@ public abstract class NumericConversion<T extends Number> extends ObjectConversi
 	@SuppressWarnings("unchecked")
 	@Override
 	protected T fromString(String input) {
+		if (plainFormats == null) {
+			plainFormats = new PlainNumberFormat[formatters.length];
+			for (int i = 0; i < formatters.length; i++) {
+				plainFormats[i] = PlainNumberFormat.of(formatters[i]);
+			}
+		}
+
 		for (int i = 0; i < formatters.length; i++) {
-			position.setIndex(0);
-			T out = (T) formatters[i].parse(input, position);
+			T out = plainFormats[i] == null ? null : (T) plainFormats[i].parse(input);
+			if (out != null) {
+				position.setIndex(input.length());
+			} else {
+				position.setIndex(0);
+				out = (T) formatters[i].parse(input, position);
+			}
 			if (formatters.length == 1 || position.getIndex() == input.length()) {
 				if (out == null || numberType == Number.class) {
 					return out;
@@ -176,6 +196,8 @@ public abstract class NumericConversion<T extends Number> extends ObjectConversi
 				} else if (numberType == BigDecimal.class) {
 					if (out instanceof BigDecimal) {
 						return out;
+					} else if (out instanceof Long) {
+						return (T) BigDecimal.valueOf(out.longValue());
 					}
 					return (T) new BigDecimal(String.valueOf(out));
 				} else if (numberType == BigInteger.class) {
@@ -238,5 +260,6 @@ public abstract class NumericConversion<T extends Number> extends ObjectConversi
 
 		formats[formats.length - 1] = format;
 		formatters[formatters.length - 1] = formatter;
+		plainFormats = null;
 	}
 }
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.conversions;
+
+import java.math.*;
+import java.text.*;
+
+/**
+ * Parses numbers written with an optional minus sign, digits, optional grouping separators and a single decimal separator,
+ * which is what a {@link DecimalFormat} without prefixes, suffixes or multipliers accepts. The value is computed directly from the
+ * characters of the input, without the overhead of {@link DecimalFormat#parse(String, ParsePosition)}.
+ *
+ * <p> The result is the same a {@link DecimalFormat} produces: a {@link BigDecimal} if the formatter parses big decimals, otherwise
+ * a {@link Long} if the value is integral and fits in a {@code long}, and a {@link Double} in any other case.
+ * Any input that doesn't match this simple form must be parsed by the {@link DecimalFormat} itself.
+ *
+ * <p> Instances are immutable and can be shared among threads.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ */
+final class PlainNumberFormat {
+
+	private static final int MAX_LONG_DIGITS = 18;
+
+	private final char decimalSeparator;
+	private final char groupingSeparator;
+	private final boolean groupingUsed;
+	private final boolean parseBigDecimal;
+
+	private PlainNumberFormat(DecimalFormat formatter, DecimalFormatSymbols symbols) {
+		this.decimalSeparator = symbols.getDecimalSeparator();
+		this.groupingSeparator = symbols.getGroupingSeparator();
+		this.groupingUsed = formatter.isGroupingUsed();
+		this.parseBigDecimal = formatter.isParseBigDecimal();
+	}
+
+	/**
+	 * Creates a parser that produces the same results of the given formatter, for input in plain form.
+	 *
+	 * @param formatter the formatter whose configuration will be used.
+	 *
+	 * @return a parser for plain numbers, or {@code null} if the formatter has prefixes, suffixes, a multiplier, or symbols other
+	 * than {@code '0'} to {@code '9'} for digits and {@code '-'} for negative numbers.
+	 */
+	static PlainNumberFormat of(DecimalFormat formatter) {
+		DecimalFormatSymbols symbols = formatter.getDecimalFormatSymbols();
+		if (formatter.getMultiplier() != 1 || formatter.isParseIntegerOnly()
+				|| formatter.getPositivePrefix().length() > 0 || formatter.getPositiveSuffix().length() > 0
+				|| !"-".equals(formatter.getNegativePrefix()) || formatter.getNegativeSuffix().length() > 0
+				|| symbols.getZeroDigit() != '0' || symbols.getDecimalSeparator() == symbols.getGroupingSeparator()
+				|| isDigit(symbols.getDecimalSeparator()) || isDigit(symbols.getGroupingSeparator())) {
+			return null;
+		}
+		return new PlainNumberFormat(formatter, symbols);
+	}
+
+	private static boolean isDigit(char ch) {
+		return ch >= '0' && ch <= '9';
+	}
+
+	/**
+	 * Parses the given input.
+	 *
+	 * @param input the String to parse
+	 *
+	 * @return the parsed number, or {@code null} if the input is not a plain number.
+	 */
+	Number parse(String input) {
+		final int length = input.length();
+		if (length == 0) {
+			return null;
+		}
+
+		boolean negative = input.charAt(0) == '-';
+		boolean decimal = false;
+		boolean fraction = false;
+		boolean rewrite = false;
+		int digits = 0;
+		int integerDigits = 0;
+		long value = 0;
+
+		for (int i = negative ? 1 : 0; i < length; i++) {
+			char ch = input.charAt(i);
+			if (isDigit(ch)) {
+				digits++;
+				if (decimal) {
+					fraction |= ch != '0';
+				} else if (integerDigits > 0 || ch != '0') {
+					if (++integerDigits <= MAX_LONG_DIGITS) {
+						value = value * 10 + (ch - '0');
+					}
+				}
+			} else if (ch == decimalSeparator && !decimal) {
+				decimal = true;
+				rewrite |= ch != '.';
+			} else if (groupingUsed && ch == groupingSeparator && !decimal && digits > 0 && i + 1 < length && isDigit(input.charAt(i + 1))) {
+				rewrite = true;
+			} else {
+				return null;
+			}
+		}
+
+		if (digits == 0) {
+			return null;
+		}
+
+		if (!parseBigDecimal && !fraction) {
+			if (integerDigits > MAX_LONG_DIGITS) {
+				// may or may not fit in a long.
+				return null;
+			}
+			if (negative) {
+				if (value == 0) {
+					return -0.0;
+				}
+				return -value;
+			}
+			return value;
+		}
+
+		String number = rewrite ? normalize(input) : input;
+		if (parseBigDecimal) {
+			return new BigDecimal(number);
+		}
+		return Double.valueOf(number);
+	}
+
+	private String normalize(String input) {
+		StringBuilder out = new StringBuilder(input.length());
+		for (int i = 0; i < input.length(); i++) {
+			char ch = input.charAt(i);
+			if (ch == decimalSeparator) {
+				out.append('.');
+			} else if (ch != groupingSeparator) {
+				out.append(ch);
+			}
+		}
+		return out.toString();
+	}
+}
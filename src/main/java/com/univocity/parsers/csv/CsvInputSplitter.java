@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.csv;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Finds positions of a CSV file where records begin, so it can be split into chunks that are parsed in parallel by {@link CsvParser#parseParallel(File, int)}.
+ *
+ * <p> The file is scanned byte by byte, which is possible because quotes and line separators are ASCII characters, and these are never part of multi-byte
+ * sequences in the supported encodings. A record boundary is the position after a newline that is not inside a quoted value.
+ *
+ * <p> When quotes are escaped by doubling them (the default), a newline is outside of a quoted value if it is preceded by an even number of quotes.
+ * In this case the file is split into segments that are scanned in parallel. Each segment records how many quotes it has, and the first newline
+ * found after an even and an odd number of quotes. The segments are then combined sequentially to select the actual boundaries. Other escape
+ * characters require a sequential scan of the whole file.
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ */
+class CsvInputSplitter {
+
+	private static final int SCAN_WINDOW_SIZE = 16 * 1024 * 1024;
+
+	private final byte quote;
+	private final byte quoteEscape;
+	private final byte newLine;
+
+	/**
+	 * Creates a splitter for the given characters, which must be in the ASCII range.
+	 *
+	 * @param quote       the character used for quoting values
+	 * @param quoteEscape the character used to escape quotes inside quoted values
+	 * @param newLine     the last character of the line separator
+	 */
+	CsvInputSplitter(char quote, char quoteEscape, char newLine) {
+		this.quote = (byte) quote;
+		this.quoteEscape = (byte) quoteEscape;
+		this.newLine = (byte) newLine;
+	}
+
+	/**
+	 * Splits a file into chunks of approximately the given size.
+	 *
+	 * @param file      the file to split
+	 * @param chunkSize the approximate size of each chunk
+	 * @param executor  the thread pool used to scan segments of the file in parallel.
+	 *
+	 * @return the offset of the first byte of each chunk, followed by the length of the file.
+	 *
+	 * @throws IOException if the file can't be read.
+	 */
+	long[] split(File file, long chunkSize, ExecutorService executor) throws IOException {
+		FileInputStream in = new FileInputStream(file);
+		try {
+			FileChannel channel = in.getChannel();
+			long size = channel.size();
+			if (quote == quoteEscape) {
+				return splitDoubledQuotes(channel, size, chunkSize, executor);
+			}
+			return splitEscapedQuotes(channel, size, chunkSize);
+		} finally {
+			in.close();
+		}
+	}
+
+	private long[] splitDoubledQuotes(final FileChannel channel, final long size, final long chunkSize, ExecutorService executor) throws IOException {
+		List<Future<long[]>> scans = new ArrayList<Future<long[]>>();
+		for (long start = 0; start < size; start += chunkSize) {
+			final long segmentStart = start;
+			final long segmentEnd = Math.min(size, start + chunkSize);
+			scans.add(executor.submit(new Callable<long[]>() {
+				@Override
+				public long[] call() throws IOException {
+					return scanSegment(channel, segmentStart, segmentEnd);
+				}
+			}));
+		}
+
+		List<Long> boundaries = new ArrayList<Long>();
+		boundaries.add(0L);
+		boolean inQuotes = false;
+		try {
+			for (int i = 0; i < scans.size(); i++) {
+				long[] scan = scans.get(i).get();
+				if (i > 0) {
+					long boundary = inQuotes ? scan[2] : scan[1];
+					if (boundary > boundaries.get(boundaries.size() - 1) && boundary < size) {
+						boundaries.add(boundary);
+					}
+				}
+				inQuotes ^= scan[0] == 1L;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while splitting input");
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			throw new IllegalStateException("Error splitting input", cause);
+		}
+		boundaries.add(size);
+		return toArray(boundaries);
+	}
+
+	/**
+	 * Scans a segment of the file.
+	 *
+	 * @return the parity of the number of quotes in the segment, followed by the position after the first newline found after an even
+	 * number of quotes and the position after the first newline found after an odd number of quotes (-1 if not found).
+	 */
+	private long[] scanSegment(FileChannel channel, long start, long end) throws IOException {
+		MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+		final int length = segment.limit();
+		int quotes = 0;
+		long even = -1L;
+		long odd = -1L;
+		for (int i = 0; i < length; i++) {
+			byte b = segment.get(i);
+			if (b == quote) {
+				quotes++;
+			} else if (b == newLine) {
+				if ((quotes & 1) == 0) {
+					if (even == -1L) {
+						even = start + i + 1;
+					}
+				} else if (odd == -1L) {
+					odd = start + i + 1;
+				}
+			}
+		}
+		return new long[]{quotes & 1, even, odd};
+	}
+
+	private long[] splitEscapedQuotes(FileChannel channel, long size, long chunkSize) throws IOException {
+		List<Long> boundaries = new ArrayList<Long>();
+		boundaries.add(0L);
+		long next = chunkSize;
+		boolean inQuotes = false;
+		boolean escaping = false;
+
+		for (long start = 0; start < size && next < size; start += SCAN_WINDOW_SIZE) {
+			MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(SCAN_WINDOW_SIZE, size - start));
+			final int length = window.limit();
+			for (int i = 0; i < length; i++) {
+				byte b = window.get(i);
+				if (inQuotes) {
+					if (escaping) {
+						escaping = false;
+					} else if (b == quoteEscape) {
+						escaping = true;
+					} else if (b == quote) {
+						inQuotes = false;
+					}
+				} else if (b == quote) {
+					inQuotes = true;
+				} else if (b == newLine && start + i + 1 >= next) {
+					long boundary = start + i + 1;
+					if (boundary < size) {
+						boundaries.add(boundary);
+					}
+					next = boundary + chunkSize;
+				}
+			}
+		}
+		boundaries.add(size);
+		return toArray(boundaries);
+	}
+
+	private static long[] toArray(List<Long> boundaries) {
+		long[] out = new long[boundaries.size()];
+		for (int i = 0; i < out.length; i++) {
+			out[i] = boundaries.get(i);
+		}
+		return out;
+	}
+}
@@ -19,6 +19,8 @@ import com.univocity.parsers.common.*;
 import com.univocity.parsers.common.input.*;
 
 import java.io.*;
+import java.nio.charset.*;
+import java.util.concurrent.*;
 
 import static com.univocity.parsers.csv.UnescapedQuoteHandling.*;
 
@@ -375,4 +377,43 @@ public class CsvParser extends AbstractParser<CsvParserSettings> {
 		}
 		return false;
 	}
+
+	/**
+	 * Finds record boundaries in the raw bytes of a CSV file, to parse it in parallel with {@link #parseParallel(File, Charset, int)}.
+	 *
+	 * <p> Boundaries are identified from the quote, quote escape and line separator characters of the {@link CsvFormat}, so files with unescaped quotes,
+	 * or with quotes inside comments, can't be split correctly. The input is not split if the format is detected automatically
+	 * ({@link CsvParserSettings#isDelimiterDetectionEnabled()} or {@link CsvParserSettings#isQuoteDetectionEnabled()}), or if any of these characters
+	 * is not in the ASCII range.
+	 *
+	 * @param file      the file to be split
+	 * @param chunkSize the approximate size, in bytes, of each chunk
+	 * @param executor  the thread pool available to process the input.
+	 *
+	 * @return the offset of the first byte of each chunk, followed by the length of the file; or {@code null} if the file can't be split.
+	 */
+	@Override
+	protected long[] splitInput(File file, long chunkSize, ExecutorService executor) {
+		if (settings.isDelimiterDetectionEnabled() || settings.isQuoteDetectionEnabled()) {
+			return null;
+		}
+		CsvFormat format = settings.getFormat();
+		char[] lineSeparator = format.getLineSeparator();
+		char newLine = settings.isLineSeparatorDetectionEnabled() ? '\n' : lineSeparator[lineSeparator.length - 1];
+		char escapeEscape = format.getCharToEscapeQuoteEscaping();
+		if (format.getQuote() > 127 || format.getQuoteEscape() > 127 || newLine > 127 || (escapeEscape != '\0' && escapeEscape != format.getQuoteEscape())) {
+			return null;
+		}
+
+		try {
+			return new CsvInputSplitter(format.getQuote(), format.getQuoteEscape(), newLine).split(file, chunkSize, executor);
+		} catch (IOException e) {
+			throw new IllegalStateException("Error reading from input", e);
+		}
+	}
+
+	@Override
+	protected AbstractParser<CsvParserSettings> newParallelParser() {
+		return new CsvParser(settings);
+	}
 }
@@ -16,7 +16,9 @@
 package com.univocity.parsers.annotations;
 
 import com.univocity.parsers.annotations.helpers.AnnotationHelper;
+import com.univocity.parsers.annotations.helpers.FieldMapping;
 import java.lang.reflect.Constructor;
+import java.util.List;
 
 import org.testng.annotations.*;
 import static org.testng.Assert.*;
@@ -32,4 +34,32 @@ public class AnnotationHelperTest {
         assertNotNull(helper);
     }
 
+    public static class AnnotatedBean {
+        @Parsed(index = 1)
+        public String name;
+
+        @Parsed(index = 0)
+        public int id;
+
+        public String notParsed;
+    }
+
+    @Test
+    public void shouldReuseClassInformation() {
+        List<FieldMapping> mappings = AnnotationHelper.getFieldMappings(AnnotatedBean.class);
+        assertEquals(mappings.size(), 2);
+        assertEquals(mappings.get(0).getField().getName(), "name");
+        assertSame(AnnotationHelper.getFieldMappings(AnnotatedBean.class), mappings);
+
+        String[] headers = AnnotationHelper.deriveHeaderNamesFromFields(AnnotatedBean.class);
+        String[] expected = headers.clone();
+        headers[0] = "changed";
+        assertEquals(AnnotationHelper.deriveHeaderNamesFromFields(AnnotatedBean.class), expected);
+
+        assertEquals(AnnotationHelper.getSelectedIndexes(AnnotatedBean.class), new Integer[]{1, 0});
+        assertTrue(AnnotationHelper.allFieldsIndexBased(AnnotatedBean.class));
+        assertFalse(AnnotationHelper.allFieldsNameBased(AnnotatedBean.class));
+        assertEquals(AnnotationHelper.getAllFields(AnnotatedBean.class).size(), 3);
+        assertNull(AnnotationHelper.findHeadersAnnotation(AnnotatedBean.class));
+    }
 }
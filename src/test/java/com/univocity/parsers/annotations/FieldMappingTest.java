@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.annotations;
+
+import com.univocity.parsers.annotations.helpers.*;
+import com.univocity.parsers.common.*;
+import com.univocity.parsers.common.processor.*;
+import com.univocity.parsers.csv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class FieldMappingTest {
+
+	private static class PrivateBean {
+		@Parsed
+		private int id;
+
+		@Parsed
+		private String name;
+
+		private int nameWrites;
+
+		public void setName(String name) {
+			this.name = name;
+			nameWrites++;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Test
+	public void testPrivateMembers() {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setHeaderExtractionEnabled(true);
+		BeanListProcessor<PrivateBean> processor = new BeanListProcessor<PrivateBean>(PrivateBean.class);
+		settings.setRowProcessor(processor);
+
+		new CsvParser(settings).parse(new StringReader("id,name\n1,a\n2,b\n"));
+
+		List<PrivateBean> beans = processor.getBeans();
+		assertEquals(beans.size(), 2);
+		assertEquals(beans.get(1).id, 2);
+		assertEquals(beans.get(1).getName(), "b");
+		assertEquals(beans.get(1).nameWrites, 1);
+	}
+
+	@Test
+	public void testReadAndWrite() throws Exception {
+		FieldMapping mapping = new FieldMapping(PrivateBean.class, PrivateBean.class.getDeclaredField("id"), null);
+		PrivateBean bean = new PrivateBean();
+		mapping.write(bean, 10);
+		assertEquals(mapping.read(bean), 10);
+
+		try {
+			mapping.write(bean, null);
+			fail("Expecting error writing null to primitive field");
+		} catch (DataProcessingException e) {
+			assertEquals(e.getValue(), null);
+		}
+	}
+}
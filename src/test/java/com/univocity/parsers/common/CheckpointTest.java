@@ -0,0 +1,198 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+import com.univocity.parsers.common.processor.*;
+import com.univocity.parsers.csv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.zip.*;
+
+import static org.testng.Assert.*;
+
+public class CheckpointTest {
+
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	private static final int MAPPED = 0;
+	private static final int BYTES = 1;
+	private static final int READER = 2;
+	private static final int GZIP = 3;
+
+	private String content() {
+		StringBuilder out = new StringBuilder("id,name,description\r\n");
+		for (int i = 0; i < 100; i++) {
+			out.append(i).append(",ação ").append(i);
+			if (i % 7 == 0) {
+				out.append(",\"multi\r\nline, \"\"€\"\" 😀\"\r\n");
+			} else {
+				out.append(",plain value\r\n");
+			}
+			if (i % 10 == 0) {
+				out.append("\r\n");
+			}
+		}
+		return out.toString();
+	}
+
+	private File createFile(boolean compressed) throws IOException {
+		File file = File.createTempFile("checkpoint", compressed ? ".csv.gz" : ".csv");
+		file.deleteOnExit();
+		OutputStream out = new FileOutputStream(file);
+		if (compressed) {
+			out = new GZIPOutputStream(out);
+		}
+		try {
+			out.write(content().getBytes(UTF_8));
+		} finally {
+			out.close();
+		}
+		return file;
+	}
+
+	private CsvParserSettings newSettings(int input) {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\r\n");
+		settings.setHeaderExtractionEnabled(true);
+		settings.setInputBufferSize(16);
+		settings.setReadInputOnSeparateThread(false);
+		settings.setMemoryMappedInputEnabled(input == MAPPED);
+		settings.setByteLevelDecodingEnabled(input == BYTES || input == GZIP);
+		settings.setCompressedInputDetectionEnabled(input == GZIP);
+		return settings;
+	}
+
+	private List<String[]> parseFrom(CsvParser parser, File file, Checkpoint checkpoint) {
+		List<String[]> rows = new ArrayList<String[]>();
+		parser.beginParsing(file, UTF_8, checkpoint);
+		String[] row;
+		while ((row = parser.parseNext()) != null) {
+			rows.add(row);
+		}
+		return rows;
+	}
+
+	@DataProvider
+	public Object[][] inputs() {
+		return new Object[][]{{MAPPED}, {BYTES}, {READER}, {GZIP}};
+	}
+
+	@Test(dataProvider = "inputs")
+	public void testResumeFromCheckpoint(int input) throws Exception {
+		File file = createFile(input == GZIP);
+		List<String[]> expected = parseFrom(new CsvParser(newSettings(input)), file, null);
+		assertEquals(expected.size(), 100);
+
+		for (int stop : new int[]{0, 1, 7, 8, 50, 99, 100}) {
+			CsvParser parser = new CsvParser(newSettings(input));
+			parser.beginParsing(file, UTF_8);
+			for (int i = 0; i < stop; i++) {
+				assertEquals(parser.parseNext(), expected.get(i));
+			}
+			Checkpoint checkpoint = parser.getCheckpoint();
+			long line = parser.getContext().currentLine();
+			parser.stopParsing();
+
+			assertEquals(checkpoint.getRecordCount(), stop);
+			assertEquals(checkpoint.getByteOffset() >= 0, input != READER);
+			assertEquals(checkpoint.getHeaders() == null, stop == 0);
+
+			CsvParser resumed = new CsvParser(newSettings(input));
+			resumed.beginParsing(file, UTF_8, checkpoint);
+			assertEquals(resumed.getContext().currentLine(), line);
+			assertEquals(resumed.getCheckpoint().getByteOffset(), checkpoint.getByteOffset());
+			assertEquals(resumed.getCheckpoint().getCharOffset(), checkpoint.getCharOffset());
+
+			List<String[]> rows = new ArrayList<String[]>();
+			String[] row;
+			while ((row = resumed.parseNext()) != null) {
+				rows.add(row);
+				assertEquals(resumed.getContext().currentRecord(), stop + rows.size());
+			}
+			assertEquals(rows.size(), expected.size() - stop, "resuming after record " + stop);
+			for (int i = 0; i < rows.size(); i++) {
+				assertEquals(rows.get(i), expected.get(stop + i));
+			}
+			if (stop > 0) {
+				assertEquals(resumed.getContext().headers(), new String[]{"id", "name", "description"});
+			}
+		}
+	}
+
+	@Test
+	public void testByteOffsetOfCheckpoint() throws Exception {
+		File file = createFile(false);
+		String content = content();
+
+		CsvParser parser = new CsvParser(newSettings(BYTES));
+		parser.beginParsing(file, UTF_8);
+		for (int i = 0; i < 15; i++) {
+			parser.parseNext();
+		}
+		Checkpoint checkpoint = parser.getCheckpoint();
+		parser.stopParsing();
+
+		String before = content.substring(0, content.indexOf("15,ação"));
+		assertEquals(checkpoint.getByteOffset(), before.getBytes(UTF_8).length);
+		assertEquals(checkpoint.getCharOffset(), before.length());
+	}
+
+	@Test
+	public void testCheckpointFromRowProcessor() throws Exception {
+		final File file = createFile(false);
+		final List<Checkpoint> checkpoints = new ArrayList<Checkpoint>();
+
+		CsvParserSettings settings = newSettings(MAPPED);
+		final CsvParser[] parser = new CsvParser[1];
+		settings.setRowProcessor(new AbstractRowProcessor() {
+			@Override
+			public void rowProcessed(String[] row, ParsingContext context) {
+				checkpoints.add(parser[0].getCheckpoint());
+			}
+		});
+		parser[0] = new CsvParser(settings);
+		parser[0].parse(file, UTF_8);
+		assertEquals(checkpoints.size(), 100);
+
+		Checkpoint checkpoint = checkpoints.get(41);
+		assertEquals(checkpoint.getRecordCount(), 42);
+		List<String[]> rows = parseFrom(new CsvParser(newSettings(BYTES)), file, checkpoint);
+		assertEquals(rows.size(), 58);
+		assertEquals(rows.get(0)[0], "42");
+	}
+
+	@Test
+	public void testStoredCheckpoint() throws Exception {
+		File file = createFile(false);
+		String content = content();
+		String before = content.substring(0, content.indexOf("90,ação"));
+
+		Checkpoint stored = new Checkpoint(-1L, before.length(), 0L, 90L, new String[]{"id", "name", "description"});
+		List<String[]> rows = parseFrom(new CsvParser(newSettings(READER)), file, stored);
+		assertEquals(rows.size(), 10);
+		assertEquals(rows.get(0)[0], "90");
+
+		stored = new Checkpoint(before.getBytes(UTF_8).length, 0L, 0L, 90L, stored.getHeaders());
+		CsvParserSettings settings = newSettings(BYTES);
+		settings.selectFields("name");
+		rows = parseFrom(new CsvParser(settings), file, stored);
+		assertEquals(rows.size(), 10);
+		assertEquals(rows.get(9), new String[]{"ação 99"});
+	}
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+import com.univocity.parsers.csv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class InternedFieldsTest {
+
+	private static final String INPUT = "code,currency,status\n1,USD,ACTIVE\n2,EUR,ACTIVE\n3,USD,CLOSED\n4,USD,ACTIVE\n5,,ACTIVE\n";
+
+	private List<String[]> parse(CsvParserSettings settings) {
+		settings.getFormat().setLineSeparator("\n");
+		settings.setHeaderExtractionEnabled(true);
+		return new CsvParser(settings).parseAll(new StringReader(INPUT));
+	}
+
+	@Test
+	public void testInternByName() {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.internFields("currency");
+		List<String[]> rows = parse(settings);
+
+		assertEquals(rows.get(3), new String[]{"4", "USD", "ACTIVE"});
+		assertSame(rows.get(0)[1], rows.get(2)[1]);
+		assertSame(rows.get(0)[1], rows.get(3)[1]);
+		assertNotSame(rows.get(0)[2], rows.get(1)[2]);
+		assertNull(rows.get(4)[1]);
+	}
+
+	@Test
+	public void testInternByIndexWithSelectedFields() {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.selectFields("status", "code");
+		settings.internIndexes(2);
+		List<String[]> rows = parse(settings);
+
+		assertEquals(rows.get(2), new String[]{"CLOSED", "3"});
+		assertSame(rows.get(0)[0], rows.get(1)[0]);
+		assertSame(rows.get(0)[0], rows.get(4)[0]);
+	}
+
+	@Test
+	public void testCacheIsBounded() {
+		StringCache cache = new StringCache(2);
+		String a = cache.get("A".toCharArray(), 1);
+		assertSame(cache.get("Axyz".toCharArray(), 1), a);
+		assertEquals(cache.get("AB".toCharArray(), 2), "AB");
+
+		Set<String> distinct = Collections.newSetFromMap(new IdentityHashMap<String, Boolean>());
+		for (int i = 0; i < 100; i++) {
+			distinct.add(cache.get(String.valueOf(i % 10).toCharArray(), 1));
+		}
+		assertTrue(distinct.size() > 10);
+	}
+
+	@Test
+	public void testCacheSizeLimited() {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.setInternCacheSize(StringCache.MAX_SIZE);
+		assertEquals(settings.getInternCacheSize(), StringCache.MAX_SIZE);
+		try {
+			settings.setInternCacheSize(StringCache.MAX_SIZE + 1);
+			fail("Expecting cache size to be rejected");
+		} catch (IllegalArgumentException e) {
+			assertEquals(settings.getInternCacheSize(), StringCache.MAX_SIZE);
+		}
+
+		StringCache cache = new StringCache(Integer.MAX_VALUE);
+		String a = cache.get("A".toCharArray(), 1);
+		assertSame(cache.get("A".toCharArray(), 1), a);
+	}
+}
@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+import com.univocity.parsers.common.input.*;
+import com.univocity.parsers.common.processor.*;
+import com.univocity.parsers.conversions.*;
+import com.univocity.parsers.csv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.testng.Assert.*;
+
+public class ParsingMetricsTest {
+
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	private static final String INPUT = "id,name\n1,ação\n2,a longer value\n3,b\n";
+
+	private static class SlowConversion extends ObjectConversion<String> {
+		@Override
+		protected String fromString(String input) {
+			sleep();
+			return input;
+		}
+	}
+
+	private static void sleep() {
+		try {
+			Thread.sleep(5);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private CsvParserSettings newSettings() {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setHeaderExtractionEnabled(true);
+		settings.setMetricsEnabled(true);
+		settings.setInputBufferSize(8);
+		settings.setReadInputOnSeparateThread(false);
+		return settings;
+	}
+
+	@Test
+	public void testMetricsDisabledByDefault() {
+		CsvParser parser = new CsvParser(new CsvParserSettings());
+		parser.parseAll(new StringReader(INPUT));
+		assertNull(parser.getMetrics());
+	}
+
+	@Test
+	public void testReloadTimeNotMeasuredByDefault() {
+		DefaultCharInputReader reader = new DefaultCharInputReader(new char[]{'\n'}, '\n', 4);
+		reader.start(new StringReader(INPUT));
+		for (int i = 0; i < INPUT.length(); i++) {
+			reader.nextChar();
+		}
+		assertTrue(reader.bufferReloadCount() > 1);
+		assertEquals(reader.bufferReloadTime(), 0L);
+	}
+
+	@Test
+	public void testMetricsCollected() {
+		CsvParserSettings settings = newSettings();
+		ObjectRowListProcessor processor = new ObjectRowListProcessor() {
+			@Override
+			public void rowProcessed(Object[] row, ParsingContext context) {
+				sleep();
+				super.rowProcessed(row, context);
+			}
+		};
+		processor.convertFields(new SlowConversion()).set("name");
+		settings.setRowProcessor(processor);
+
+		CsvParser parser = new CsvParser(settings);
+		parser.parse(new StringReader(INPUT));
+
+		ParsingMetrics metrics = parser.getMetrics();
+		assertEquals(processor.getRows().size(), 3);
+		assertEquals(metrics.getRecordCount(), 3);
+		assertEquals(metrics.getMaxFieldLength(), "a longer value".length());
+		assertEquals(metrics.getCharsRead(), INPUT.length());
+		assertEquals(metrics.getBytesRead(), -1L);
+		assertTrue(metrics.getBufferReloadCount() > INPUT.length() / 8, metrics.toString());
+
+		assertTrue(metrics.getConversionTime(TimeUnit.MILLISECONDS) >= 15, metrics.toString());
+		assertTrue(metrics.getProcessorTime(TimeUnit.MILLISECONDS) >= 15, metrics.toString());
+		assertTrue(metrics.getElapsedTime(TimeUnit.MILLISECONDS) >= 30, metrics.toString());
+		assertTrue(metrics.getRecordsPerSecond() > 0.0);
+
+		long elapsed = metrics.getElapsedTime(TimeUnit.NANOSECONDS);
+		assertEquals(metrics.getElapsedTime(TimeUnit.NANOSECONDS), elapsed, "metrics should not change after parsing ends");
+	}
+
+	@Test
+	public void testMetricsResetOnEachParse() {
+		CsvParser parser = new CsvParser(newSettings());
+		parser.parseAll(new StringReader(INPUT));
+		parser.parseAll(new StringReader("a\n1\n"));
+		assertEquals(parser.getMetrics().getRecordCount(), 1);
+		assertEquals(parser.getMetrics().getCharsRead(), 4);
+	}
+
+	@Test
+	public void testBytesRead() {
+		CsvParserSettings settings = newSettings();
+		settings.setByteLevelDecodingEnabled(true);
+		CsvParser parser = new CsvParser(settings);
+
+		byte[] bytes = INPUT.getBytes(UTF_8);
+		parser.parseAll(new ByteArrayInputStream(bytes), UTF_8);
+		assertEquals(parser.getMetrics().getBytesRead(), bytes.length);
+		assertEquals(parser.getMetrics().getCharsRead(), INPUT.length());
+	}
+
+	@Test
+	public void testParallelParsingMetrics() throws Exception {
+		File file = File.createTempFile("metrics", ".csv");
+		file.deleteOnExit();
+		StringBuilder content = new StringBuilder("id,name\n");
+		for (int i = 0; i < 50000; i++) {
+			content.append(i).append(",value ").append(i).append('\n');
+		}
+		byte[] bytes = content.toString().getBytes(UTF_8);
+		FileOutputStream out = new FileOutputStream(file);
+		try {
+			out.write(bytes);
+		} finally {
+			out.close();
+		}
+
+		CsvParserSettings settings = newSettings();
+		settings.setInputBufferSize(1024);
+		RowListProcessor processor = new RowListProcessor();
+		settings.setRowProcessor(processor);
+		CsvParser parser = new CsvParser(settings);
+		parser.parseParallel(file, UTF_8, 4);
+
+		assertEquals(processor.getRows().size(), 50000);
+		ParsingMetrics metrics = parser.getMetrics();
+		assertEquals(metrics.getRecordCount(), 50000);
+		assertEquals(metrics.getBytesRead(), bytes.length);
+		assertEquals(metrics.getCharsRead(), bytes.length);
+		assertEquals(metrics.getMaxFieldLength(), "value 49999".length());
+	}
+}
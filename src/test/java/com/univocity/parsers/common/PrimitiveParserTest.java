@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+import org.testng.annotations.*;
+
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class PrimitiveParserTest {
+
+	private static long parseLong(String s) {
+		return PrimitiveParser.parseLong(s.toCharArray(), 0, s.length());
+	}
+
+	private static int parseInt(String s) {
+		return PrimitiveParser.parseInt(s.toCharArray(), 0, s.length());
+	}
+
+	private static double parseDouble(String s) {
+		return PrimitiveParser.parseDouble(s.toCharArray(), 0, s.length());
+	}
+
+	@Test
+	public void testParseIntegers() {
+		assertEquals(parseInt("0"), 0);
+		assertEquals(parseInt("-42"), -42);
+		assertEquals(parseInt("+42"), 42);
+		assertEquals(parseInt("2147483647"), Integer.MAX_VALUE);
+		assertEquals(parseInt("-2147483648"), Integer.MIN_VALUE);
+		assertEquals(parseLong("9223372036854775807"), Long.MAX_VALUE);
+		assertEquals(parseLong("-9223372036854775808"), Long.MIN_VALUE);
+		assertEquals(parseLong("00012"), 12L);
+	}
+
+	@DataProvider
+	public Object[][] invalidIntegers() {
+		return new Object[][]{{""}, {"-"}, {"+"}, {"1a"}, {" 1"}, {"1.0"}, {"2147483648"}, {"-2147483649"}};
+	}
+
+	@Test(dataProvider = "invalidIntegers", expectedExceptions = NumberFormatException.class)
+	public void testInvalidIntegers(String value) {
+		parseInt(value);
+	}
+
+	@Test(expectedExceptions = NumberFormatException.class)
+	public void testLongOverflow() {
+		parseLong("9223372036854775808");
+	}
+
+	@Test
+	public void testParseDoubles() {
+		String[] values = {"0", "-0", "1", "-1.5", "+2.25", ".5", "5.", "3.14159", "1e10", "1E-5", "-2.5e+3", "123456789012345678901234567890",
+				"0.1", "0.3", "1.7976931348623157E308", "4.9E-324", "2.2250738585072014E-308", "1e-30", "1e400", "0.000000000000000000000000000001",
+				"9007199254740993", "123.456e-7"};
+		for (String value : values) {
+			assertEquals(Double.doubleToLongBits(parseDouble(value)), Double.doubleToLongBits(Double.parseDouble(value)), value);
+		}
+
+		Random random = new Random(42);
+		for (int i = 0; i < 100000; i++) {
+			String value = String.valueOf(random.nextDouble() * Math.pow(10, random.nextInt(20) - 10));
+			if (random.nextBoolean()) {
+				value = String.valueOf(random.nextInt(1000000)) + "." + random.nextInt(1000);
+			}
+			assertEquals(parseDouble(value), Double.parseDouble(value), value);
+		}
+	}
+
+	@DataProvider
+	public Object[][] invalidDoubles() {
+		return new Object[][]{{""}, {"-"}, {"."}, {"1e"}, {"1e+"}, {"1.2.3"}, {"NaN"}, {"1,5"}, {"e5"}};
+	}
+
+	@Test(dataProvider = "invalidDoubles", expectedExceptions = NumberFormatException.class)
+	public void testInvalidDoubles(String value) {
+		parseDouble(value);
+	}
+}
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+import com.univocity.parsers.common.record.*;
+import com.univocity.parsers.csv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class RowPublisherTest {
+
+	private static class TestSubscriber<T> implements RowSubscriber<T> {
+		RowSubscription subscription;
+		final List<T> rows = new ArrayList<T>();
+		Throwable error;
+		boolean completed;
+
+		@Override
+		public void onSubscribe(RowSubscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(T row) {
+			rows.add(row);
+		}
+
+		@Override
+		public void onError(Throwable error) {
+			this.error = error;
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+		}
+	}
+
+	private static class ClosingReader extends StringReader {
+		boolean closed;
+
+		ClosingReader(String s) {
+			super(s);
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+			super.close();
+		}
+	}
+
+	private CsvParser newParser() {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setHeaderExtractionEnabled(true);
+		return new CsvParser(settings);
+	}
+
+	@Test
+	public void testRowsAreParsedOnDemand() {
+		CsvParser parser = newParser();
+		TestSubscriber<String[]> subscriber = new TestSubscriber<String[]>();
+		new RowPublisher<String[]>(parser, parser.iterate(new StringReader("a,b\n1,2\n3,4\n5,6"))).subscribe(subscriber);
+
+		assertNotNull(subscriber.subscription);
+		assertTrue(subscriber.rows.isEmpty());
+
+		subscriber.subscription.request(2);
+		assertEquals(subscriber.rows.size(), 2);
+		assertEquals(subscriber.rows.get(1), new String[]{"3", "4"});
+		assertEquals(parser.getContext().currentRecord(), 2L);
+		assertFalse(subscriber.completed);
+
+		subscriber.subscription.request(5);
+		assertEquals(subscriber.rows.size(), 3);
+		assertTrue(subscriber.completed);
+		assertNull(subscriber.error);
+	}
+
+	@Test
+	public void testRequestFromOnNext() {
+		CsvParser parser = newParser();
+		TestSubscriber<Record> subscriber = new TestSubscriber<Record>() {
+			@Override
+			public void onNext(Record row) {
+				super.onNext(row);
+				subscription.request(1);
+			}
+		};
+		new RowPublisher<Record>(parser, parser.iterateRecords(new StringReader("a,b\n1,2\n3,4\n5,6"))).subscribe(subscriber);
+		subscriber.subscription.request(1);
+
+		assertEquals(subscriber.rows.size(), 3);
+		assertEquals(subscriber.rows.get(2).getString("b"), "6");
+		assertTrue(subscriber.completed);
+	}
+
+	@Test
+	public void testCancelStopsParsing() {
+		CsvParser parser = newParser();
+		ClosingReader input = new ClosingReader("a,b\n1,2\n3,4\n5,6");
+		TestSubscriber<String[]> subscriber = new TestSubscriber<String[]>();
+		new RowPublisher<String[]>(parser, parser.iterate(input)).subscribe(subscriber);
+
+		subscriber.subscription.request(1);
+		assertFalse(input.closed);
+		subscriber.subscription.cancel();
+		assertTrue(input.closed);
+
+		subscriber.subscription.request(1);
+		assertEquals(subscriber.rows.size(), 1);
+		assertFalse(subscriber.completed);
+	}
+
+	@Test
+	public void testInvalidRequestAndSecondSubscriber() {
+		CsvParser parser = newParser();
+		RowPublisher<String[]> publisher = new RowPublisher<String[]>(parser, parser.iterate(new StringReader("a,b\n1,2")));
+		TestSubscriber<String[]> subscriber = new TestSubscriber<String[]>();
+		publisher.subscribe(subscriber);
+
+		TestSubscriber<String[]> other = new TestSubscriber<String[]>();
+		publisher.subscribe(other);
+		assertTrue(other.error instanceof IllegalStateException);
+
+		subscriber.subscription.request(0);
+		assertTrue(subscriber.error instanceof IllegalArgumentException);
+		assertTrue(subscriber.rows.isEmpty());
+	}
+}
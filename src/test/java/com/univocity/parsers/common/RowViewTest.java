@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+import com.univocity.parsers.common.processor.*;
+import com.univocity.parsers.csv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class RowViewTest {
+
+	private static final String INPUT = "id,name,notes\n1, Ana ,\"multi\nline\"\n2,,x\n\n3,\"a,b\",\n";
+
+	private CsvParserSettings newSettings() {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setHeaderExtractionEnabled(true);
+		return settings;
+	}
+
+	@Test
+	public void testParseNextView() {
+		CsvParser parser = new CsvParser(newSettings());
+		parser.beginParsing(new StringReader(INPUT));
+
+		RowView row = parser.parseNextView();
+		assertEquals(row.length(), 3);
+		assertTrue("1".contentEquals(row.getValue(0)));
+		assertEquals(row.getValue(1).length(), 3);
+		assertEquals(row.getValue(1).charAt(0), 'A');
+		assertEquals(row.getValue(2).toString(), "multi\nline");
+		assertEquals(row.getValue(2).subSequence(6, 10), "line");
+
+		assertSame(parser.parseNextView(), row);
+		assertEquals(row.getValues(), new String[]{"2", null, "x"});
+		assertNull(row.getValue(1));
+
+		row = parser.parseNextView();
+		assertEquals(row.getValues(), new String[]{"3", "a,b", null});
+
+		assertNull(parser.parseNextView());
+		assertEquals(parser.getContext().headers(), new String[]{"id", "name", "notes"});
+	}
+
+	@Test
+	public void testViewWithSelectedFields() {
+		CsvParserSettings settings = newSettings();
+		settings.selectFields("notes", "id", "missing");
+		final List<String[]> rows = new ArrayList<String[]>();
+
+		new CsvParser(settings).parse(new StringReader(INPUT), new RowViewProcessor() {
+			@Override
+			public void rowProcessed(RowView row, ParsingContext context) {
+				assertEquals(row.length(), 3);
+				rows.add(row.getValues());
+			}
+		});
+
+		assertEquals(rows.size(), 3);
+		assertEquals(rows.get(0), new String[]{"multi\nline", "1", null});
+		assertEquals(rows.get(1), new String[]{"x", "2", null});
+		assertEquals(rows.get(2), new String[]{null, "3", null});
+	}
+
+	@Test
+	public void testLastViewProcessedBeforeParsingEnds() {
+		final List<String> events = new ArrayList<String>();
+		CsvParserSettings settings = newSettings();
+		settings.setRowProcessor(new AbstractRowProcessor() {
+			@Override
+			public void processEnded(ParsingContext context) {
+				events.add("ended");
+			}
+		});
+
+		new CsvParser(settings).parse(new StringReader("id\n1\n2"), new RowViewProcessor() {
+			@Override
+			public void rowProcessed(RowView row, ParsingContext context) {
+				events.add(row.getString(0) + (context.isStopped() ? " after stop" : ""));
+			}
+		});
+
+		assertEquals(events, Arrays.asList("1", "2", "ended"));
+	}
+
+	@Test
+	public void testMixViewsAndArrays() {
+		CsvParserSettings settings = newSettings();
+		settings.setHeaderExtractionEnabled(false);
+		settings.setSkipEmptyLines(false);
+		CsvParser parser = new CsvParser(settings);
+		parser.beginParsing(new StringReader(INPUT));
+
+		assertEquals(parser.parseNextView().getValues(), new String[]{"id", "name", "notes"});
+		assertEquals(parser.parseNext(), new String[]{"1", "Ana", "multi\nline"});
+		assertEquals(parser.parseNextView().getString(2), "x");
+		assertEquals(parser.parseNextView().length(), 0);
+		assertEquals(parser.parseNext(), new String[]{"3", "a,b", null});
+		assertNull(parser.parseNextView());
+	}
+
+	@Test
+	public void testPrimitiveValues() {
+		CsvParserSettings settings = newSettings();
+		settings.selectFields("price", "id", "qty");
+		CsvParser parser = new CsvParser(settings);
+		parser.beginParsing(new StringReader("id,qty,price\n1,10,2.5\n-9223372036854775808,-3,1e3\n3,,x\n"));
+
+		RowView row = parser.parseNextView();
+		assertEquals(row.getDouble(0), 2.5);
+		assertEquals(row.getInt(1), 1);
+		assertEquals(row.getLong(2), 10L);
+
+		row = parser.parseNextView();
+		assertEquals(row.getDouble(0), 1000.0);
+		assertEquals(row.getLong(1), Long.MIN_VALUE);
+		assertEquals(row.getInt(2), -3);
+
+		row = parser.parseNextView();
+		try {
+			row.getInt(2);
+			fail("Expected NumberFormatException for null value");
+		} catch (NumberFormatException e) {
+			//expected
+		}
+		try {
+			row.getDouble(0);
+			fail("Expected NumberFormatException for non-numeric value");
+		} catch (NumberFormatException e) {
+			//expected
+		}
+	}
+
+	@Test
+	public void testPrimitiveValuesInFirstRow() {
+		CsvParserSettings settings = newSettings();
+		settings.setHeaderExtractionEnabled(false);
+		CsvParser parser = new CsvParser(settings);
+		parser.beginParsing(new StringReader("7,8.5\n"));
+
+		RowView row = parser.parseNextView();
+		assertEquals(row.getInt(0), 7);
+		assertEquals(row.getDouble(1), 8.5);
+	}
+
+	@Test
+	public void testViewsProcessedWhileParsing() {
+		final List<String> rows = new ArrayList<String>();
+		new CsvParser(newSettings()).parse(new StringReader("id\n1\n2"), new RowViewProcessor() {
+			@Override
+			public void rowProcessed(RowView row, ParsingContext context) {
+				rows.add(row.getString(0) + (context.isStopped() ? " after stop" : ""));
+			}
+		});
+		assertEquals(rows, Arrays.asList("1", "2"));
+	}
+}
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input;
+
+import com.univocity.parsers.csv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class ByteCharInputReaderTest {
+
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+	private static final Charset LATIN_1 = Charset.forName("ISO-8859-1");
+
+	private String decode(byte[] bytes, Charset encoding, int bufferSize) {
+		ByteCharInputReader reader = new ByteCharInputReader(new char[]{'\n'}, '\n', bufferSize, new ByteArrayInputStream(bytes), encoding);
+		reader.start(null);
+		StringBuilder out = new StringBuilder();
+		try {
+			while (true) {
+				out.append(reader.nextChar());
+			}
+		} catch (EOFException ex) {
+			//pass
+		}
+		return out.toString();
+	}
+
+	@Test
+	public void testUtf8Decoding() throws Exception {
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 200; i++) {
+			content.append("a,ç,€,😀,").append(i).append('\n');
+		}
+		String expected = content.toString();
+		byte[] bytes = expected.getBytes(UTF_8);
+
+		for (int bufferSize : new int[]{1, 2, 3, 5, 7, 64, 8192}) {
+			assertEquals(decode(bytes, UTF_8, bufferSize), expected, "buffer size " + bufferSize);
+		}
+	}
+
+	@Test
+	public void testLatin1Decoding() {
+		byte[] bytes = new byte[256];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = (byte) i;
+		}
+		assertEquals(decode(bytes, LATIN_1, 10), new String(bytes, LATIN_1));
+	}
+
+	@Test
+	public void testMalformedInput() {
+		assertEquals(decode(new byte[]{'a', (byte) 0x80, 'b'}, UTF_8, 10), "a�b");
+		assertEquals(decode(new byte[]{'a', (byte) 0xE2, (byte) 0x82}, UTF_8, 10), "a�");
+		assertEquals(decode(new byte[]{'a', (byte) 0xE2, 'b'}, UTF_8, 10), "a�b");
+	}
+
+	@Test
+	public void testUnsupportedEncoding() {
+		assertFalse(ByteCharInputReader.isSupported(Charset.forName("UTF-16")));
+		assertTrue(ByteCharInputReader.isSupported(UTF_8));
+
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.setByteLevelDecodingEnabled(true);
+		settings.getFormat().setLineSeparator("\n");
+		List<String[]> rows = new CsvParser(settings).parseAll(new ByteArrayInputStream("ç,b\n".getBytes(Charset.forName("UTF-16"))), "UTF-16");
+		assertEquals(rows.get(0), new String[]{"ç", "b"});
+	}
+
+	@Test
+	public void testParseBytes() {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.setByteLevelDecodingEnabled(true);
+		settings.setLineSeparatorDetectionEnabled(true);
+		settings.setInputBufferSize(4);
+
+		List<String[]> rows = new CsvParser(settings).parseAll(new ByteArrayInputStream("ação,\"b,€\"\r\n1,2\r\n".getBytes(UTF_8)), UTF_8);
+		assertEquals(rows.size(), 2);
+		assertEquals(rows.get(0), new String[]{"ação", "b,€"});
+		assertEquals(rows.get(1), new String[]{"1", "2"});
+	}
+}
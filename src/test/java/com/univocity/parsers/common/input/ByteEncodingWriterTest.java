@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input;
+
+import com.univocity.parsers.csv.*;
+import com.univocity.parsers.tsv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.nio.charset.*;
+
+import static org.testng.Assert.*;
+
+public class ByteEncodingWriterTest {
+
+	private static final String TEXT = "plain ação € 😀 end\n";
+
+	@DataProvider
+	public Object[][] encodings() {
+		return new Object[][]{{"UTF-8"}, {"ISO-8859-1"}, {"US-ASCII"}};
+	}
+
+	private byte[] encode(String encoding, int bufferSize, boolean charByChar) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Writer writer = new ByteEncodingWriter(out, Charset.forName(encoding), bufferSize);
+		for (int i = 0; i < 50; i++) {
+			if (charByChar) {
+				for (int j = 0; j < TEXT.length(); j++) {
+					writer.write(TEXT.charAt(j));
+				}
+			} else if (i % 2 == 0) {
+				writer.write(TEXT);
+			} else {
+				writer.write(TEXT.toCharArray());
+			}
+		}
+		writer.close();
+		return out.toByteArray();
+	}
+
+	private byte[] expected(String encoding) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Writer writer = new OutputStreamWriter(out, encoding);
+		for (int i = 0; i < 50; i++) {
+			writer.write(TEXT);
+		}
+		writer.close();
+		return out.toByteArray();
+	}
+
+	@Test(dataProvider = "encodings")
+	public void testEncodingMatchesOutputStreamWriter(String encoding) throws Exception {
+		byte[] expected = expected(encoding);
+		assertEquals(encode(encoding, 4, false), expected);
+		assertEquals(encode(encoding, 7, true), expected);
+		assertEquals(encode(encoding, 1024, false), expected);
+	}
+
+	@Test
+	public void testUnpairedSurrogates() throws Exception {
+		String text = "a\uD800b\uDC00c\uD83D";
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Writer writer = new ByteEncodingWriter(out, Charset.forName("UTF-8"), 16);
+		writer.write(text);
+		writer.close();
+		assertEquals(new String(out.toByteArray(), "UTF-8"), "a?b?c?");
+	}
+
+	@Test
+	public void testWriteAfterClose() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Writer writer = new ByteEncodingWriter(out, Charset.forName("UTF-8"), 16);
+		writer.write("a");
+		writer.close();
+		try {
+			writer.write('b');
+			fail("Expected IOException writing a char after close");
+		} catch (IOException e) {
+			assertEquals(e.getMessage(), "Writer closed");
+		}
+		try {
+			writer.write("b");
+			fail("Expected IOException writing a String after close");
+		} catch (IOException e) {
+			assertEquals(e.getMessage(), "Writer closed");
+		}
+		try {
+			writer.write(new char[]{'b'});
+			fail("Expected IOException writing chars after close");
+		} catch (IOException e) {
+			assertEquals(e.getMessage(), "Writer closed");
+		}
+		assertEquals(new String(out.toByteArray(), "UTF-8"), "a");
+	}
+
+	@Test
+	public void testWritersEncodeBytes() throws Exception {
+		CsvWriterSettings csvSettings = new CsvWriterSettings();
+		csvSettings.getFormat().setLineSeparator("\n");
+		csvSettings.setByteLevelEncodingEnabled(true);
+		ByteArrayOutputStream csv = new ByteArrayOutputStream();
+		CsvWriter csvWriter = new CsvWriter(csv, "UTF-8", csvSettings);
+		csvWriter.writeRow("ação", "€, 😀");
+		csvWriter.close();
+		assertEquals(new String(csv.toByteArray(), "UTF-8"), "ação,\"€, 😀\"\n");
+
+		TsvWriterSettings tsvSettings = new TsvWriterSettings();
+		tsvSettings.getFormat().setLineSeparator("\n");
+		tsvSettings.setByteLevelEncodingEnabled(true);
+		tsvSettings.setWriteOutputOnSeparateThread(true);
+		ByteArrayOutputStream tsv = new ByteArrayOutputStream();
+		TsvWriter tsvWriter = new TsvWriter(tsv, Charset.forName("ISO-8859-1"), tsvSettings);
+		tsvWriter.writeRow("ação", "€");
+		tsvWriter.close();
+		assertEquals(new String(tsv.toByteArray(), "ISO-8859-1"), "ação\t?\n");
+	}
+}
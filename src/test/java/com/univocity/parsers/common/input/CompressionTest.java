@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input;
+
+import com.univocity.parsers.common.*;
+import com.univocity.parsers.common.processor.*;
+import com.univocity.parsers.csv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.zip.*;
+
+import static org.testng.Assert.*;
+
+public class CompressionTest {
+
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	private static String content;
+	private static byte[] plain;
+	private static byte[] gzip;
+	private static byte[] deflate;
+
+	@BeforeClass
+	public static void createContent() throws IOException {
+		StringBuilder out = new StringBuilder("id,name\n");
+		for (int i = 0; i < 20000; i++) {
+			out.append(i).append(",\"ação ").append(i).append("\"\n");
+		}
+		content = out.toString();
+		plain = content.getBytes(UTF_8);
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		OutputStream compressed = new GZIPOutputStream(bytes);
+		compressed.write(plain);
+		compressed.close();
+		gzip = bytes.toByteArray();
+
+		bytes = new ByteArrayOutputStream();
+		compressed = new DeflaterOutputStream(bytes);
+		compressed.write(plain);
+		compressed.close();
+		deflate = bytes.toByteArray();
+	}
+
+	private static Compression detect(byte[] bytes) throws IOException {
+		return Compression.detect(new ByteArrayInputStream(bytes));
+	}
+
+	private static Compression detect(String text) throws IOException {
+		return detect(text.getBytes(UTF_8));
+	}
+
+	@Test
+	public void testDetection() throws IOException {
+		assertEquals(detect(plain), Compression.NONE);
+		assertEquals(detect(gzip), Compression.GZIP);
+		assertEquals(detect(deflate), Compression.DEFLATE);
+
+		assertEquals(detect(""), Compression.NONE);
+		assertEquals(detect("x"), Compression.NONE);
+		// valid ZLIB headers, but not compressed data.
+		assertEquals(detect("x^abc,def\n"), Compression.NONE);
+		assertEquals(detect("H\r\n1\r\n"), Compression.NONE);
+		assertEquals(detect("x^" + content), Compression.NONE);
+		assertEquals(detect("x^b" + content), Compression.NONE);
+	}
+
+	@Test
+	public void testDetectionResetsInput() throws IOException {
+		InputStream input = new BufferedInputStream(new ByteArrayInputStream(gzip));
+		assertEquals(Compression.detect(input), Compression.GZIP);
+		assertEquals(input.read(), 0x1F);
+	}
+
+	@Test
+	public void testDecompress() throws IOException {
+		assertEquals(readAll(Compression.decompress(new ByteArrayInputStream(gzip))), plain);
+		assertEquals(readAll(Compression.decompress(new ByteArrayInputStream(deflate))), plain);
+		assertEquals(readAll(Compression.decompress(new ByteArrayInputStream(plain))), plain);
+	}
+
+	private static byte[] readAll(InputStream input) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[1000];
+		int read;
+		while ((read = input.read(buffer)) != -1) {
+			out.write(buffer, 0, read);
+		}
+		input.close();
+		return out.toByteArray();
+	}
+
+	@DataProvider
+	public Object[][] inputs() {
+		return new Object[][]{
+				{gzip, true, false},
+				{gzip, false, false},
+				{gzip, true, true},
+				{deflate, true, false},
+				{deflate, false, true},
+				{plain, true, false},
+		};
+	}
+
+	private CsvParserSettings newSettings(boolean separateThread, boolean byteLevel) {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setHeaderExtractionEnabled(true);
+		settings.setCompressedInputDetectionEnabled(true);
+		settings.setReadInputOnSeparateThread(separateThread);
+		settings.setByteLevelDecodingEnabled(byteLevel);
+		return settings;
+	}
+
+	private static void assertRows(List<String[]> rows) {
+		assertEquals(rows.size(), 20000);
+		assertEquals(rows.get(0), new String[]{"0", "ação 0"});
+		assertEquals(rows.get(19999), new String[]{"19999", "ação 19999"});
+	}
+
+	@Test(dataProvider = "inputs")
+	public void testParseInputStream(byte[] input, boolean separateThread, boolean byteLevel) {
+		CsvParser parser = new CsvParser(newSettings(separateThread, byteLevel));
+		assertRows(parser.parseAll(new ByteArrayInputStream(input), UTF_8));
+	}
+
+	@Test(dataProvider = "inputs")
+	public void testParseFile(byte[] input, boolean separateThread, boolean byteLevel) throws IOException {
+		File file = File.createTempFile("compressed", ".csv.gz");
+		file.deleteOnExit();
+		FileOutputStream out = new FileOutputStream(file);
+		try {
+			out.write(input);
+		} finally {
+			out.close();
+		}
+
+		CsvParserSettings settings = newSettings(separateThread, byteLevel);
+		settings.setMemoryMappedInputEnabled(true);
+		assertRows(new CsvParser(settings).parseAll(file, UTF_8));
+
+		final List<String[]> rows = new ArrayList<String[]>();
+		settings = newSettings(separateThread, byteLevel);
+		settings.setRowProcessor(new RowListProcessor() {
+			@Override
+			public void rowProcessed(String[] row, ParsingContext context) {
+				rows.add(row);
+			}
+		});
+		new CsvParser(settings).parseParallel(file, UTF_8, 2);
+		assertRows(rows);
+	}
+
+	@Test
+	public void testDetectionDisabled() {
+		CsvParserSettings settings = newSettings(false, false);
+		settings.setCompressedInputDetectionEnabled(false);
+		settings.setMaxCharsPerColumn(-1);
+		List<String[]> rows = new CsvParser(settings).parseAll(new ByteArrayInputStream(gzip), UTF_8);
+		assertNotEquals(rows.size(), 20000);
+	}
+}
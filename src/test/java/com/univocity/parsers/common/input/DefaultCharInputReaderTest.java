@@ -65,4 +65,44 @@ public class DefaultCharInputReaderTest {
 		assertEquals('\n', reader.nextChar());
 		assertEOF(reader);
 	}
+
+	private String appendUntil(String input, int bufferSize, CharAppender appender, char stop) {
+		DefaultCharInputReader reader = new DefaultCharInputReader("\r\n".toCharArray(), '\n', bufferSize);
+		reader.start(new StringReader(input));
+		StringBuilder out = new StringBuilder();
+		char ch = reader.nextChar();
+		try {
+			while (true) {
+				ch = appender.appendUntil(ch, reader, stop, '\n');
+				out.append(appender.getAndReset()).append('|');
+				ch = reader.nextChar();
+			}
+		} catch (EOFException ex) {
+			out.append(appender.getAndReset());
+		}
+		out.append('#').append(reader.lineCount()).append('#').append(reader.charCount());
+		return out.toString();
+	}
+
+	@Test
+	public void testAppendUntil() {
+		String input = "abc,defgh,\r\nij,klmnopqrstu\r\n,\r\nvwxyz";
+		for (int bufferSize : new int[]{1, 2, 3, 5, 8, 1024}) {
+			assertEquals(appendUntil(input, bufferSize, new DefaultCharAppender(32, null), ','), "abc|defgh|null|ij|klmnopqrstu|null|null|vwxyz#4#37", "buffer size " + bufferSize);
+			assertEquals(appendUntil(input, bufferSize, new ExpandingCharAppender(1, null), ','), "abc|defgh|null|ij|klmnopqrstu|null|null|vwxyz#4#37", "buffer size " + bufferSize);
+		}
+	}
+
+	@Test
+	public void testAppendUntilOverflow() {
+		DefaultCharInputReader reader = new DefaultCharInputReader("\n".toCharArray(), '\n', 1024);
+		reader.start(new StringReader("abcdefgh,ij"));
+		DefaultCharAppender appender = new DefaultCharAppender(4, null);
+		try {
+			appender.appendUntil(reader.nextChar(), reader, ',', '\n');
+			fail("Expected ArrayIndexOutOfBoundsException");
+		} catch (ArrayIndexOutOfBoundsException ex) {
+			assertEquals(new String(appender.chars), "abcd");
+		}
+	}
 }
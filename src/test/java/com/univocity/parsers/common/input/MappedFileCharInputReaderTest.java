@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input;
+
+import com.univocity.parsers.csv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class MappedFileCharInputReaderTest {
+
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	private File createFile(String content) throws IOException {
+		File file = File.createTempFile("mapped", ".csv");
+		file.deleteOnExit();
+		Writer writer = new OutputStreamWriter(new FileOutputStream(file), UTF_8);
+		try {
+			writer.write(content);
+		} finally {
+			writer.close();
+		}
+		return file;
+	}
+
+	private String readAll(CharInputReader reader) {
+		StringBuilder out = new StringBuilder();
+		try {
+			while (true) {
+				out.append(reader.nextChar());
+			}
+		} catch (EOFException ex) {
+			//pass
+		}
+		return out.toString();
+	}
+
+	@Test
+	public void testMultiByteCharactersAcrossWindows() throws Exception {
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 500; i++) {
+			content.append("ação,€,").append(i).append('\n');
+		}
+		File file = createFile(content.toString());
+
+		for (int windowSize : new int[]{16, 17, 33, 1024}) {
+			for (int bufferSize : new int[]{3, 10, 4096}) {
+				MappedFileCharInputReader reader = new MappedFileCharInputReader(new char[]{'\n'}, '\n', bufferSize, file, UTF_8, windowSize);
+				reader.start(null);
+				assertEquals(readAll(reader), content.toString(), "window size " + windowSize + ", buffer size " + bufferSize);
+			}
+		}
+	}
+
+	@Test
+	public void testEmptyFile() throws Exception {
+		MappedFileCharInputReader reader = new MappedFileCharInputReader(new char[]{'\n'}, '\n', 10, createFile(""), UTF_8);
+		reader.start(null);
+		assertEquals(readAll(reader), "");
+	}
+
+	@Test
+	public void testParseMappedFile() throws Exception {
+		File file = createFile("a,b,c\r\n1,\"x\r\ny\",3\r\nção,5,6\r\n");
+
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.setMemoryMappedInputEnabled(true);
+		settings.setLineSeparatorDetectionEnabled(true);
+		settings.setHeaderExtractionEnabled(true);
+
+		List<String[]> rows = new CsvParser(settings).parseAll(file, "UTF-8");
+		assertEquals(rows.size(), 2);
+		assertEquals(rows.get(0), new String[]{"1", "x\ny", "3"});
+		assertEquals(rows.get(1), new String[]{"ção", "5", "6"});
+	}
+}
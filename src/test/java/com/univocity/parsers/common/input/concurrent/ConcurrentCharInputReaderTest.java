@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input.concurrent;
+
+import com.univocity.parsers.common.input.*;
+import com.univocity.parsers.common.input.EOFException;
+import org.testng.annotations.*;
+
+import java.io.*;
+
+import static org.testng.Assert.*;
+
+public class ConcurrentCharInputReaderTest {
+
+	private String readAll(CharInputReader reader) {
+		StringBuilder out = new StringBuilder();
+		try {
+			while (true) {
+				out.append(reader.nextChar());
+			}
+		} catch (EOFException ex) {
+			//pass
+		}
+		return out.toString();
+	}
+
+	@Test
+	public void testReadWithSmallBuckets() {
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 5000; i++) {
+			content.append("row ").append(i).append(",value\n");
+		}
+		String expected = content.toString();
+
+		for (int bucketQuantity : new int[]{1, 2, 3, 10}) {
+			for (int bucketSize : new int[]{1, 7, 4096}) {
+				ConcurrentCharInputReader reader = new ConcurrentCharInputReader(new char[]{'\n'}, '\n', bucketSize, bucketQuantity);
+				reader.start(new StringReader(expected));
+				assertEquals(readAll(reader), expected, "bucket quantity " + bucketQuantity + ", bucket size " + bucketSize);
+				reader.stop();
+			}
+		}
+	}
+
+	@Test
+	public void testStopWhileProducerWaits() throws Exception {
+		ConcurrentCharInputReader reader = new ConcurrentCharInputReader(new char[]{'\n'}, '\n', 4, 2);
+		reader.start(new StringReader("abcdefghijklmnopqrstuvwxyz\n0123456789\n"));
+		assertEquals(reader.nextChar(), 'a');
+		reader.stop();
+	}
+
+	@Test
+	public void testRingExchange() throws Exception {
+		final CharBucketRing ring = new CharBucketRing(1, 3);
+		final int total = 100000;
+		Thread producer = new Thread() {
+			@Override
+			public void run() {
+				for (int i = 0; i < total; i++) {
+					CharBucket bucket = ring.claim();
+					bucket.data[0] = (char) (i % 1000);
+					bucket.length = i;
+					ring.publish();
+				}
+				ring.close();
+			}
+		};
+		producer.start();
+
+		int count = 0;
+		CharBucket bucket;
+		while ((bucket = ring.take()) != null) {
+			assertEquals(bucket.length, count);
+			assertEquals(bucket.data[0], (char) (count % 1000));
+			count++;
+		}
+		producer.join();
+		assertEquals(count, total);
+	}
+}
@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input.concurrent;
+
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.testng.Assert.*;
+
+public class ConcurrentInputStreamTest {
+
+	@Test
+	public void testReadInBuckets() throws IOException {
+		byte[] bytes = new byte[10000];
+		new Random(1).nextBytes(bytes);
+
+		ConcurrentInputStream input = new ConcurrentInputStream(new ByteArrayInputStream(bytes), 7, 3);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		out.write(input.read());
+		byte[] buffer = new byte[100];
+		int read;
+		while ((read = input.read(buffer, 0, buffer.length)) != -1) {
+			out.write(buffer, 0, read);
+		}
+		assertEquals(input.read(), -1);
+		input.close();
+		assertEquals(out.toByteArray(), bytes);
+	}
+
+	@Test
+	public void testErrorPropagated() throws IOException {
+		InputStream failing = new InputStream() {
+			int count;
+
+			@Override
+			public int read() throws IOException {
+				if (count++ == 50) {
+					throw new IOException("broken input");
+				}
+				return 'a';
+			}
+		};
+
+		ConcurrentInputStream input = new ConcurrentInputStream(failing, 10, 2);
+		int count = 0;
+		try {
+			while (input.read() != -1) {
+				count++;
+			}
+			fail("Expected IOException");
+		} catch (IOException e) {
+			assertEquals(e.getMessage(), "broken input");
+			assertTrue(count <= 50);
+		} finally {
+			input.close();
+		}
+	}
+
+	@Test
+	public void testInputClosedAfterReadingStops() throws IOException {
+		final boolean[] closedWhileReading = new boolean[1];
+		InputStream slow = new InputStream() {
+			volatile boolean reading;
+
+			@Override
+			public int read() {
+				return 'a';
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) {
+				reading = true;
+				long end = System.currentTimeMillis() + 20;
+				while (System.currentTimeMillis() < end) {
+					Thread.yield(); // a read that can't be interrupted
+				}
+				Arrays.fill(b, off, off + len, (byte) 'a');
+				reading = false;
+				return len;
+			}
+
+			@Override
+			public void close() {
+				closedWhileReading[0] = reading;
+			}
+		};
+
+		ConcurrentInputStream input = new ConcurrentInputStream(slow, 10, 2);
+		assertEquals(input.read(), 'a');
+		input.close();
+		assertFalse(closedWhileReading[0]);
+	}
+
+	@Test(timeOut = 10000)
+	public void testCloseWhileReadIsBlocked() throws IOException {
+		final CountDownLatch closed = new CountDownLatch(1);
+		InputStream blocking = new InputStream() {
+			boolean dataSent;
+
+			@Override
+			public int read() {
+				return 'a';
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				if (!dataSent) {
+					dataSent = true;
+					b[off] = 'a';
+					return 1;
+				}
+				while (closed.getCount() > 0) {
+					try {
+						closed.await(); // a read that can't be interrupted, as the ones from a socket.
+					} catch (InterruptedException e) {
+						//ignore
+					}
+				}
+				throw new IOException("Stream closed");
+			}
+
+			@Override
+			public void close() {
+				closed.countDown();
+			}
+		};
+
+		ConcurrentInputStream input = new ConcurrentInputStream(blocking, 10, 2);
+		assertEquals(input.read(), 'a');
+		input.close();
+		assertEquals(closed.getCount(), 0);
+		assertEquals(input.read(), -1);
+	}
+}
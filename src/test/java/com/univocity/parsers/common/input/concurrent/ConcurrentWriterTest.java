@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input.concurrent;
+
+import com.univocity.parsers.csv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+
+import static org.testng.Assert.*;
+
+public class ConcurrentWriterTest {
+
+	private static class SlowWriter extends StringWriter {
+		boolean flushed;
+		boolean closed;
+
+		@Override
+		public void write(char[] cbuf, int off, int len) {
+			try {
+				Thread.sleep(1);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			super.write(cbuf, off, len);
+		}
+
+		@Override
+		public void flush() {
+			flushed = true;
+		}
+
+		@Override
+		public void close() throws IOException {
+			closed = true;
+		}
+	}
+
+	@Test
+	public void testWritesEverythingInOrder() throws Exception {
+		SlowWriter output = new SlowWriter();
+		ConcurrentWriter writer = new ConcurrentWriter(output, 7);
+		StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < 500; i++) {
+			String s = "row " + i + "\n";
+			expected.append(s);
+			if (i % 3 == 0) {
+				writer.write(s);
+			} else if (i % 3 == 1) {
+				writer.write(s.toCharArray());
+			} else {
+				for (int j = 0; j < s.length(); j++) {
+					writer.write(s.charAt(j));
+				}
+			}
+		}
+		writer.flush();
+		assertTrue(output.flushed);
+		assertEquals(output.toString(), expected.toString());
+
+		writer.write("last");
+		writer.close();
+		assertTrue(output.closed);
+		assertEquals(output.toString(), expected + "last");
+	}
+
+	@Test
+	public void testWriteAfterClose() throws Exception {
+		ConcurrentWriter writer = new ConcurrentWriter(new SlowWriter(), 64);
+		writer.close();
+		try {
+			writer.write('a');
+			fail("Expected IOException writing a char after close");
+		} catch (IOException e) {
+			assertEquals(e.getMessage(), "Writer closed");
+		}
+		try {
+			writer.write("abc");
+			fail("Expected IOException writing a String after close");
+		} catch (IOException e) {
+			assertEquals(e.getMessage(), "Writer closed");
+		}
+		try {
+			writer.write(new char[]{'a'});
+			fail("Expected IOException writing chars after close");
+		} catch (IOException e) {
+			assertEquals(e.getMessage(), "Writer closed");
+		}
+	}
+
+	@Test
+	public void testErrorIsRethrown() throws Exception {
+		Writer failing = new Writer() {
+			@Override
+			public void write(char[] cbuf, int off, int len) throws IOException {
+				throw new IOException("disk full");
+			}
+
+			@Override
+			public void flush() {
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+
+		ConcurrentWriter writer = new ConcurrentWriter(failing, 4);
+		writer.write("abcd");
+		try {
+			writer.flush();
+			fail("Expected IOException");
+		} catch (IOException e) {
+			assertEquals(e.getMessage(), "disk full");
+		}
+		try {
+			writer.close();
+			fail("Expected IOException");
+		} catch (IOException e) {
+			assertEquals(e.getMessage(), "disk full");
+		}
+	}
+
+	@Test
+	public void testCsvWriterOnSeparateThread() {
+		CsvWriterSettings settings = new CsvWriterSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setWriteOutputOnSeparateThread(true);
+		SlowWriter output = new SlowWriter();
+		CsvWriter writer = new CsvWriter(output, settings);
+
+		StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < 10000; i++) {
+			writer.writeRow(i, "value, " + i);
+			expected.append(i).append(",\"value, ").append(i).append("\"\n");
+		}
+		writer.close();
+		assertEquals(output.toString(), expected.toString());
+	}
+}
@@ -0,0 +1,256 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.processor;
+
+import com.univocity.parsers.common.*;
+import com.univocity.parsers.common.processor.core.*;
+import com.univocity.parsers.csv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class BatchedPrimitiveColumnProcessorTest {
+
+	private static final String INPUT = "" +
+		"id,amount,currency,count" +
+		"\n1,10.5,USD,100" +
+		"\n2,,EUR" +
+		"\n3,-0.25,USD,9000000000" +
+		"\n4,7,USD,5,extra";
+
+	private final List<Object[][]> batches = new ArrayList<Object[][]>();
+	private final List<String> details = new ArrayList<String>();
+
+	private BatchedPrimitiveColumnProcessor newProcessor(boolean offHeap) {
+		batches.clear();
+		details.clear();
+		BatchedPrimitiveColumnProcessor processor = new BatchedPrimitiveColumnProcessor(2) {
+			@Override
+			public void batchProcessed(int rowsInThisBatch) {
+				Object[][] batch = new Object[getColumnCount()][rowsInThisBatch];
+				for (int i = 0; i < getColumnCount(); i++) {
+					PrimitiveColumn column = getColumn(i);
+					assertEquals(column.size(), rowsInThisBatch);
+					for (int row = 0; row < rowsInThisBatch; row++) {
+						batch[i][row] = column.getObject(row);
+					}
+				}
+				batches.add(batch);
+
+				if (isOffHeapEnabled()) {
+					VariableWidthColumn currency = (VariableWidthColumn) getColumn("currency");
+					ByteBuffer offsets = currency.getOffsets();
+					byte[] data = new byte[currency.getData().remaining()];
+					currency.getData().get(data);
+					details.add(getColumn("id").getClass().getSimpleName() + " " + ((FixedWidthColumn) getColumn(0)).getData().getInt(4)
+							+ " " + offsets.getInt(0) + "-" + offsets.getInt(4) + "-" + offsets.getInt(8) + " " + new String(data)
+							+ " " + ((FixedWidthColumn) getColumn("count")).getData().remaining());
+					return;
+				}
+				DictionaryColumn currency = (DictionaryColumn) getColumn("currency");
+				details.add(Arrays.toString(getHeaders()) + " " + getColumn("id").getClass().getSimpleName() + " " + ((IntColumn) getColumn(0)).getValues()[1]
+						+ " " + currency.getDictionarySize() + " " + Arrays.toString(Arrays.copyOf(currency.getCodes(), rowsInThisBatch))
+						+ " " + getColumn(1).getNullBitmap()[0]);
+			}
+		};
+		processor.setOffHeapEnabled(offHeap);
+		processor.setColumnType(0, int.class);
+		processor.setColumnType("amount", double.class);
+		processor.setColumnType("count", long.class);
+		return processor;
+	}
+
+	private CsvParserSettings newSettings(BatchedPrimitiveColumnProcessor processor) {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setHeaderExtractionEnabled(true);
+		settings.setRowProcessor(processor);
+		return settings;
+	}
+
+	private void assertBatches(boolean offHeap) {
+		assertEquals(batches.size(), 2);
+		assertEquals(batches.get(0), new Object[][]{
+			{1, 2},
+			{10.5, null},
+			{"USD", "EUR"},
+			{100L, null}
+		});
+		assertEquals(batches.get(1), new Object[][]{
+			{3, 4},
+			{-0.25, 7.0},
+			{"USD", "USD"},
+			{9000000000L, 5L},
+			{null, "extra"}
+		});
+		if (offHeap) {
+			assertEquals(details, Arrays.asList(
+				"FixedWidthColumn 2 0-3-6 USDEUR 16",
+				"FixedWidthColumn 4 0-3-6 USDUSD 16"));
+			return;
+		}
+		assertEquals(details, Arrays.asList(
+			"[id, amount, currency, count] IntColumn 2 2 [0, 1] 2",
+			"[id, amount, currency, count] IntColumn 4 1 [0, 0] 0"));
+	}
+
+	@DataProvider
+	public Object[][] storage() {
+		return new Object[][]{{false}, {true}};
+	}
+
+	@Test(dataProvider = "storage")
+	public void testColumnValues(boolean offHeap) {
+		new CsvParser(newSettings(newProcessor(offHeap))).parse(new StringReader(INPUT));
+		assertBatches(offHeap);
+	}
+
+	@Test(dataProvider = "storage")
+	public void testColumnValuesFromRowView(boolean offHeap) {
+		BatchedPrimitiveColumnProcessor processor = newProcessor(offHeap);
+		new CsvParser(newSettings(processor)).parse(new StringReader(INPUT), processor);
+		assertBatches(offHeap);
+	}
+
+	@Test(dataProvider = "storage")
+	public void testLastBatchFromRowViewWithoutProcessorInSettings(boolean offHeap) {
+		final List<Integer> ids = new ArrayList<Integer>();
+		BatchedPrimitiveColumnProcessor processor = new BatchedPrimitiveColumnProcessor(2) {
+			@Override
+			public void batchProcessed(int rowsInThisBatch) {
+				for (int i = 0; i < rowsInThisBatch; i++) {
+					ids.add(((Number) getColumn("id").getObject(i)).intValue());
+				}
+			}
+		};
+		processor.setOffHeapEnabled(offHeap);
+		processor.setColumnType("id", int.class);
+
+		CsvParserSettings settings = newSettings(processor);
+		settings.setRowProcessor(null);
+		new CsvParser(settings).parse(new StringReader(INPUT + "\n5"), processor);
+
+		assertEquals(ids, Arrays.asList(1, 2, 3, 4, 5));
+	}
+
+	@Test
+	public void testOffHeapStrings() {
+		final List<String> values = new ArrayList<String>();
+		BatchedPrimitiveColumnProcessor processor = new BatchedPrimitiveColumnProcessor(3) {
+			@Override
+			public void batchProcessed(int rowsInThisBatch) {
+				for (int i = 0; i < rowsInThisBatch; i++) {
+					values.add(((VariableWidthColumn) getColumn(0)).getString(i));
+				}
+			}
+		};
+		processor.setOffHeapEnabled(true);
+
+		StringBuilder input = new StringBuilder();
+		List<String> expected = new ArrayList<String>();
+		for (int i = 0; i < 1000; i++) {
+			String value = i % 7 == 0 ? null : "ação €" + i + "\uD83D\uDE00 " + i;
+			expected.add(value);
+			input.append(value == null ? "" : value).append(',').append(i).append('\n');
+		}
+		CsvParserSettings settings = newSettings(processor);
+		settings.setHeaderExtractionEnabled(false);
+		new CsvParser(settings).parse(new StringReader(input.toString()), processor);
+
+		assertEquals(values, expected);
+	}
+
+	@Test
+	public void testOffHeapBatchTooLarge() {
+		BatchedPrimitiveColumnProcessor processor = new BatchedPrimitiveColumnProcessor(300000000) {
+			@Override
+			public void batchProcessed(int rowsInThisBatch) {
+				fail("Batch should not be processed");
+			}
+		};
+		processor.setOffHeapEnabled(true);
+		processor.setColumnType("id", long.class);
+		try {
+			new CsvParser(newSettings(processor)).parse(new StringReader("id\n1"));
+			fail("Expecting error allocating batch that exceeds the buffer size limit");
+		} catch (DataProcessingException e) {
+			assertTrue(e.getCause() instanceof IllegalStateException);
+			assertTrue(e.getCause().getMessage().startsWith("Values of column 'id' need up to 2400000000 bytes"), e.getCause().getMessage());
+		}
+	}
+
+	@Test
+	public void testInvalidValue() {
+		BatchedPrimitiveColumnProcessor processor = new BatchedPrimitiveColumnProcessor(10) {
+			@Override
+			public void batchProcessed(int rowsInThisBatch) {
+				assertEquals(((IntColumn) getColumn("id")).getInt(0), 1);
+			}
+		};
+		processor.setColumnType("id", int.class);
+		try {
+			new CsvParser(newSettings(processor)).parse(new StringReader("id\n1\nX"));
+			fail("Expecting error parsing invalid int");
+		} catch (DataProcessingException e) {
+			assertEquals(e.getColumnIndex(), 0);
+		}
+	}
+
+	@Test(dataProvider = "storage")
+	public void testRowWithInvalidValueDiscarded(boolean offHeap) {
+		final List<String> stored = new ArrayList<String>();
+		BatchedPrimitiveColumnProcessor processor = new BatchedPrimitiveColumnProcessor(10) {
+			@Override
+			public void batchProcessed(int rowsInThisBatch) {
+				for (int i = 0; i < getColumnCount(); i++) {
+					PrimitiveColumn column = getColumn(i);
+					assertEquals(column.size(), rowsInThisBatch);
+					for (int row = 0; row < rowsInThisBatch; row++) {
+						stored.add(String.valueOf(column.getObject(row)));
+					}
+				}
+				if (isOffHeapEnabled()) {
+					stored.add(String.valueOf(((VariableWidthColumn) getColumn("name")).getData().remaining()));
+				} else {
+					stored.add(String.valueOf(((DictionaryColumn) getColumn("name")).getDictionarySize()));
+				}
+			}
+		};
+		processor.setOffHeapEnabled(offHeap);
+		processor.setColumnType("id", int.class);
+		processor.setColumnType("count", int.class);
+
+		for (int i = 0; i < 2; i++) {
+			stored.clear();
+			try {
+				StringReader input = new StringReader("id,name,count\n1,A,2\n3,B,x");
+				if (i == 0) {
+					new CsvParser(newSettings(processor)).parse(input);
+				} else {
+					new CsvParser(newSettings(processor)).parse(input, processor);
+				}
+				fail("Expecting error parsing invalid int");
+			} catch (DataProcessingException e) {
+				assertEquals(e.getColumnIndex(), 2);
+			}
+			assertEquals(stored, Arrays.asList("1", "A", "2", "1"));
+		}
+	}
+}
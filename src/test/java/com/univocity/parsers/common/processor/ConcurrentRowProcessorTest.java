@@ -15,11 +15,14 @@
  ******************************************************************************/
 package com.univocity.parsers.common.processor;
 
+import com.univocity.parsers.common.*;
+import com.univocity.parsers.common.processor.core.*;
 import com.univocity.parsers.csv.*;
 import org.testng.annotations.*;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import static org.testng.Assert.*;
 
@@ -73,4 +76,110 @@ public class ConcurrentRowProcessorTest {
 		}
 	}
 
+	@DataProvider
+	public Object[][] waitStrategies() {
+		return new Object[][]{
+				{1, WaitStrategy.SPIN},
+				{7, WaitStrategy.YIELD},
+				{100, WaitStrategy.PARK},
+		};
+	}
+
+	@Test(dataProvider = "waitStrategies")
+	public void boundedConcurrentRowProcessorTest(int capacity, WaitStrategy waitStrategy) throws Exception {
+		final long[] lastRecord = new long[1];
+		RowListProcessor processor = new RowListProcessor() {
+			@Override
+			public void rowProcessed(String[] row, ParsingContext context) {
+				super.rowProcessed(row, context);
+				lastRecord[0] = context.currentRecord();
+				if (context.currentRecord() % 500 == 0) {
+					try {
+						Thread.sleep(1); // slower than the parser
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+			}
+		};
+
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.setLineSeparatorDetectionEnabled(true);
+		settings.setHeaderExtractionEnabled(true);
+		settings.setRowProcessor(new ConcurrentRowProcessor(processor, capacity, waitStrategy));
+
+		new CsvParser(settings).parse(new StringReader(input));
+
+		List<String[]> rows = processor.getRows();
+		assertEquals(rows.size(), LINES);
+		assertEquals(lastRecord[0], LINES);
+		for (int i = 0; i < LINES; i++) {
+			assertEquals(rows.get(i)[0], "A" + i);
+		}
+	}
+
+	@Test(dataProvider = "waitStrategies")
+	public void rowsProcessedBeforeBatchIsFull(int capacity, WaitStrategy waitStrategy) throws Exception {
+		final BlockingQueue<String> processed = new LinkedBlockingQueue<String>();
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setReadInputOnSeparateThread(false);
+		settings.setRowProcessor(new ConcurrentRowProcessor(new AbstractRowProcessor() {
+			@Override
+			public void rowProcessed(String[] row, ParsingContext context) {
+				processed.add(row[0]);
+			}
+		}, capacity, waitStrategy));
+
+		final CsvParser parser = new CsvParser(settings);
+		PipedWriter writer = new PipedWriter();
+		final PipedReader reader = new PipedReader(writer);
+		Thread parsing = new Thread() {
+			@Override
+			public void run() {
+				parser.parse(reader);
+			}
+		};
+		parsing.start();
+
+		// the parser waits for more input while rows are processed. It reads ahead after the last character available, so each write
+		// includes the beginning of the next row.
+		writer.write("A0\nA");
+		writer.flush();
+		assertEquals(processed.poll(5, TimeUnit.SECONDS), "A0");
+		writer.write("1\nA");
+		writer.flush();
+		assertEquals(processed.poll(5, TimeUnit.SECONDS), "A1");
+		writer.write("2");
+		writer.close();
+
+		parsing.join(5000);
+		assertFalse(parsing.isAlive());
+		assertEquals(processed.poll(), "A2");
+		assertTrue(processed.isEmpty());
+	}
+
+	@Test
+	public void concurrentRowProcessorErrorTest() throws Exception {
+		RowProcessor failing = new RowListProcessor() {
+			@Override
+			public void rowProcessed(String[] row, ParsingContext context) {
+				if (context.currentRecord() == 10) {
+					throw new IllegalStateException("failed at row 10");
+				}
+			}
+		};
+
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.setLineSeparatorDetectionEnabled(true);
+		settings.setRowProcessor(new ConcurrentRowProcessor(failing, 2, WaitStrategy.PARK));
+
+		try {
+			new CsvParser(settings).parse(new StringReader(input));
+			fail("Expected error from processing thread");
+		} catch (DataProcessingException e) {
+			assertTrue(e.getCause() instanceof ExecutionException);
+			assertEquals(e.getCause().getCause().getMessage(), "failed at row 10");
+		}
+	}
 }
@@ -0,0 +1,262 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.processor;
+
+import com.univocity.parsers.annotations.*;
+import com.univocity.parsers.annotations.Format;
+import com.univocity.parsers.common.*;
+import com.univocity.parsers.conversions.*;
+import com.univocity.parsers.csv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.math.*;
+import java.text.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class ParallelConversionProcessorTest {
+
+	private static final int LINES = 3000;
+
+	public static class Payment {
+		@Parsed
+		private int id;
+
+		@Parsed
+		@Format(formats = "yyyy-MM-dd")
+		private Date date;
+
+		@Parsed
+		private BigDecimal amount;
+	}
+
+	private String input() {
+		StringBuilder out = new StringBuilder("id,date,amount\n");
+		for (int i = 1; i <= LINES; i++) {
+			out.append(i).append(",2016-").append(i % 12 + 1).append('-').append(i % 28 + 1).append(',').append(i).append(".50\n");
+		}
+		return out.toString();
+	}
+
+	private CsvParserSettings newSettings(RowProcessor processor) {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setRowProcessor(processor);
+		return settings;
+	}
+
+	@DataProvider
+	public Object[][] batchSizes() {
+		return new Object[][]{{1, 1}, {3, 7}, {4, ParallelConversionProcessor.DEFAULT_BATCH_SIZE}};
+	}
+
+	@Test(dataProvider = "batchSizes")
+	public void testBeansInInputOrder(int threads, int batchSize) throws Exception {
+		final List<Payment> beans = new ArrayList<Payment>();
+		final List<Long> records = new ArrayList<Long>();
+		final Thread parsingThread = Thread.currentThread();
+
+		ParallelBeanProcessor<Payment> processor = new ParallelBeanProcessor<Payment>(Payment.class, threads, batchSize) {
+			@Override
+			public void beanProcessed(Payment bean, ParsingContext context) {
+				assertSame(Thread.currentThread(), parsingThread);
+				beans.add(bean);
+				records.add(context.currentRecord());
+			}
+		};
+		new CsvParser(newSettings(processor)).parse(new StringReader(input()));
+
+		assertEquals(beans.size(), LINES);
+		SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd");
+		for (int i = 0; i < LINES; i++) {
+			Payment bean = beans.get(i);
+			int id = i + 1;
+			assertEquals(bean.id, id);
+			assertEquals(records.get(i).longValue(), id);
+			assertEquals(bean.amount, new BigDecimal(id + ".50"));
+			assertEquals(bean.date, format.parse("2016-" + (id % 12 + 1) + "-" + (id % 28 + 1)));
+		}
+	}
+
+	@Test
+	public void testObjectRows() {
+		final List<Object[]> rows = new ArrayList<Object[]>();
+		ParallelObjectRowProcessor processor = new ParallelObjectRowProcessor(2, 16) {
+			@Override
+			protected void configureConversions(ConversionProcessor conversions) {
+				conversions.convertIndexes(Conversions.toInteger()).set(0);
+				conversions.convertIndexes(Conversions.toBigDecimal()).set(2);
+			}
+
+			@Override
+			public void rowProcessed(Object[] row, ParsingContext context) {
+				rows.add(row);
+			}
+		};
+		CsvParserSettings settings = newSettings(processor);
+		settings.setHeaderExtractionEnabled(true);
+		settings.setNumberOfRecordsToRead(100);
+		new CsvParser(settings).parse(new StringReader(input()));
+
+		assertEquals(rows.size(), 100);
+		for (int i = 0; i < rows.size(); i++) {
+			assertEquals(rows.get(i)[0], i + 1);
+			assertEquals(rows.get(i)[2], new BigDecimal((i + 1) + ".50"));
+		}
+	}
+
+	@Test
+	public void testConversionError() {
+		final List<Payment> beans = new ArrayList<Payment>();
+		ParallelBeanProcessor<Payment> processor = new ParallelBeanProcessor<Payment>(Payment.class, 2, 4) {
+			@Override
+			public void beanProcessed(Payment bean, ParsingContext context) {
+				beans.add(bean);
+			}
+		};
+		try {
+			new CsvParser(newSettings(processor)).parse(new StringReader("id,date,amount\n1,2016-01-01,1\n2,2016-01-01,1\n3,bad date,1\n4,2016-01-01,1\n"));
+			fail("Expecting conversion error");
+		} catch (DataProcessingException e) {
+			assertEquals(beans.size(), 2);
+		}
+	}
+
+	private ParallelObjectRowProcessor integerProcessor(final List<Object[]> rows, final List<Long> records) {
+		return new ParallelObjectRowProcessor(2, 4) {
+			@Override
+			protected void configureConversions(ConversionProcessor conversions) {
+				conversions.convertIndexes(Conversions.toInteger()).set(0);
+			}
+
+			@Override
+			public void rowProcessed(Object[] row, ParsingContext context) {
+				rows.add(row);
+				records.add(context.currentRecord());
+			}
+		};
+	}
+
+	private String inputWithErrors() {
+		StringBuilder out = new StringBuilder();
+		for (int i = 1; i <= 20; i++) {
+			out.append(i == 6 || i == 7 || i == 15 ? "x" + i : String.valueOf(i)).append(",v").append(i).append('\n');
+		}
+		return out.toString();
+	}
+
+	@Test
+	public void testConversionErrorsGoToErrorHandler() {
+		final List<Object[]> rows = new ArrayList<Object[]>();
+		final List<Long> records = new ArrayList<Long>();
+		final List<String> errors = new ArrayList<String>();
+		final Thread parsingThread = Thread.currentThread();
+
+		CsvParserSettings settings = newSettings(integerProcessor(rows, records));
+		settings.setRowProcessorErrorHandler(new RowProcessorErrorHandler() {
+			@Override
+			public void handleError(DataProcessingException error, Object[] inputRow, ParsingContext context) {
+				assertSame(Thread.currentThread(), parsingThread);
+				assertEquals(error.getRecordNumber(), context.currentRecord());
+				errors.add(inputRow[1] + "@" + context.currentRecord() + ":" + context.currentLine());
+			}
+		});
+		new CsvParser(settings).parse(new StringReader(inputWithErrors()));
+
+		assertEquals(errors, Arrays.asList("v6@6:6", "v7@7:7", "v15@15:15"));
+		assertEquals(rows.size(), 17);
+		assertEquals(records.get(4).longValue(), 5L);
+		assertEquals(records.get(5).longValue(), 8L);
+		assertEquals(rows.get(5)[0], 8);
+		assertEquals(rows.get(16)[0], 20);
+	}
+
+	@Test
+	public void testConversionErrorRetainsRecordContext() {
+		final List<Object[]> rows = new ArrayList<Object[]>();
+		final List<Long> records = new ArrayList<Long>();
+		try {
+			new CsvParser(newSettings(integerProcessor(rows, records))).parse(new StringReader(inputWithErrors()));
+			fail("Expecting conversion error");
+		} catch (DataProcessingException e) {
+			assertEquals(e.getRecordNumber(), 6L);
+			assertEquals(e.getLineIndex(), 6L);
+			assertEquals(rows.size(), 5);
+		}
+	}
+
+	@Test
+	public void testStopFromCallback() {
+		final List<Object[]> rows = new ArrayList<Object[]>();
+		ParallelObjectRowProcessor processor = new ParallelObjectRowProcessor(2, 4) {
+			@Override
+			protected void configureConversions(ConversionProcessor conversions) {
+			}
+
+			@Override
+			public void rowProcessed(Object[] row, ParsingContext context) {
+				rows.add(row);
+				if (rows.size() == 6) {
+					context.stop();
+				}
+			}
+		};
+		new CsvParser(newSettings(processor)).parse(new StringReader("1\n2\n3\n4\n5\n6\n7\n8\n9\n10\n"));
+		assertEquals(rows.size(), 6);
+	}
+
+	@Test
+	public void testStopFromConverter() {
+		StringBuilder input = new StringBuilder();
+		for (int i = 1; i <= 1000; i++) {
+			input.append(i).append('\n');
+		}
+
+		for (int attempt = 0; attempt < 20; attempt++) {
+			final List<Long> records = new ArrayList<Long>();
+			final List<String> values = new ArrayList<String>();
+			ParallelConversionProcessor<String> processor = new ParallelConversionProcessor<String>(4, 2) {
+				@Override
+				protected RowConverter<String> newConverter() {
+					return new RowConverter<String>() {
+						@Override
+						public String convert(String[] row, ParsingContext context) {
+							if (context.currentRecord() == 50) {
+								context.stop();
+							}
+							return row[0];
+						}
+					};
+				}
+
+				@Override
+				protected void rowConverted(String converted, ParsingContext context) {
+					records.add(context.currentRecord());
+					values.add(converted);
+				}
+			};
+			new CsvParser(newSettings(processor)).parse(new StringReader(input.toString()));
+
+			assertEquals(values.size(), 50);
+			for (int i = 0; i < 50; i++) {
+				assertEquals(records.get(i).longValue(), i + 1L);
+				assertEquals(values.get(i), String.valueOf(i + 1));
+			}
+		}
+	}
+}
@@ -17,6 +17,7 @@
 package com.univocity.parsers.common.routine;
 
 import com.univocity.parsers.*;
+import com.univocity.parsers.common.record.*;
 import com.univocity.parsers.csv.*;
 import com.univocity.parsers.examples.*;
 import com.univocity.parsers.fixed.*;
@@ -192,4 +193,68 @@ public class AbstractRoutinesTest {
 		assertEquals(beans.get(1).getComments(), "\" something \"");
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void testIterateRows() throws Exception {
+		CsvParserSettings settings = getParserSettings();
+		settings.setHeaderExtractionEnabled(true);
+		List<String[]> rows = new ArrayList<String[]>();
+		for (String[] row : new CsvRoutines(settings).iterate(new StringReader("a,b\n1,2\n3,4"))) {
+			rows.add(row);
+		}
+		assertEquals(rows.size(), 2);
+		assertEquals(rows.get(0), new String[]{"1", "2"});
+		assertEquals(rows.get(1), new String[]{"3", "4"});
+	}
+
+	@Test
+	public void testIterateReaderOnlyOnce() throws Exception {
+		Iterable<String[]> rows = new CsvRoutines(getParserSettings()).iterate(new StringReader("a,b\n1,2"));
+		assertEquals(rows.iterator().next(), new String[]{"a", "b"});
+		try {
+			rows.iterator();
+			fail("Expected IllegalStateException");
+		} catch (IllegalStateException e) {
+			//expected
+		}
+	}
+
+	@Test
+	public void testIterateRecordsFromFile() throws Exception {
+		File file = File.createTempFile("iterate", ".csv");
+		file.deleteOnExit();
+		Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+		try {
+			writer.write("name,value\nx,1\ny,2\n");
+		} finally {
+			writer.close();
+		}
+
+		CsvParserSettings settings = getParserSettings();
+		settings.setHeaderExtractionEnabled(true);
+		Iterable<Record> records = new CsvRoutines(settings).iterateRecords(file, "UTF-8");
+
+		for (int pass = 0; pass < 2; pass++) {
+			Iterator<Record> iterator = records.iterator();
+			assertTrue(iterator.hasNext());
+			assertTrue(iterator.hasNext());
+			assertEquals(iterator.next().getInt("value"), Integer.valueOf(1));
+			assertEquals(iterator.next().getString("name"), "y");
+			assertFalse(iterator.hasNext());
+			try {
+				iterator.next();
+				fail("Expected NoSuchElementException");
+			} catch (NoSuchElementException e) {
+				//expected
+			}
+		}
+
+		Iterator<Record> previous = records.iterator();
+		assertEquals(previous.next().getString("name"), "x");
+		Iterator<Record> current = records.iterator();
+		assertFalse(previous.hasNext());
+		assertEquals(current.next().getString("name"), "x");
+		assertEquals(current.next().getString("name"), "y");
+		assertFalse(current.hasNext());
+	}
+
+}
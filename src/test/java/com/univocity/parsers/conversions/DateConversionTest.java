@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.conversions;
+
+import com.univocity.parsers.common.*;
+import org.testng.annotations.*;
+
+import java.lang.ref.*;
+import java.text.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.testng.Assert.*;
+
+public class DateConversionTest {
+
+	@DataProvider
+	public Object[][] datesAndPatterns() {
+		return new Object[][]{
+				{"yyyy-MM-dd", "2016-02-29"},
+				{"yyyy-MM-dd", "2016-1-5"},
+				{"yyyy-MM-dd", "2016-02-30"},
+				{"yyyy-MM-dd", "2016-13-01"},
+				{"yyyy-MM-dd", "2016-01-01 garbage"},
+				{"yyyy-MM-dd HH:mm:ss", "1999-12-31 23:59:59"},
+				{"yyyy-MM-dd HH:mm:ss.SSS", "2015-03-29 02:30:00.123"},
+				{"yyyy-MM-dd'T'HH:mm:ss", "2016-10-30T01:15:00"},
+				{"yyyy-MM-dd'T'HH:mm:ss'Z'", "0001-01-01T00:00:00Z"},
+				{"dd/MM/yyyy", "05/11/1582"},
+				{"HH:mm", "13:45"},
+				{"yyyyMMdd", "20160704"},
+		};
+	}
+
+	@Test(dataProvider = "datesAndPatterns")
+	public void testSameResultAsSimpleDateFormat(String pattern, String input) throws Exception {
+		Date expected = new SimpleDateFormat(pattern).parse(input);
+		assertEquals(new DateConversion(pattern).execute(input), expected);
+	}
+
+	@Test
+	public void testFormatterSettingsApplied() throws Exception {
+		DateConversion conversion = new DateConversion("yyyy-MM-dd HH:mm", "dd MMM yyyy");
+		for (SimpleDateFormat formatter : conversion.getFormatterObjects()) {
+			formatter.setTimeZone(TimeZone.getTimeZone("GMT+05:00"));
+			formatter.setLenient(false);
+		}
+
+		SimpleDateFormat expected = new SimpleDateFormat("yyyy-MM-dd HH:mm");
+		expected.setTimeZone(TimeZone.getTimeZone("GMT+05:00"));
+		assertEquals(conversion.execute("2016-07-04 10:30"), expected.parse("2016-07-04 10:30"));
+		assertEquals(conversion.revert(expected.parse("2016-07-04 10:30")), "2016-07-04 10:30");
+
+		try {
+			conversion.execute("2016-02-30 10:30");
+			fail("Expecting invalid date to be rejected");
+		} catch (DataProcessingException e) {
+			//expected
+		}
+	}
+
+	@Test
+	public void testSharedAmongThreads() throws Exception {
+		final DateConversion conversion = new DateConversion("yyyy-MM-dd HH:mm:ss.SSS", "dd/MMM/yyyy");
+		final SimpleDateFormat fast = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS");
+		final SimpleDateFormat exotic = new SimpleDateFormat("dd/MMM/yyyy");
+		final String[] inputs = new String[2000];
+		final Date[] expected = new Date[inputs.length];
+		Calendar calendar = Calendar.getInstance();
+		calendar.set(2000, Calendar.JANUARY, 1, 0, 0, 0);
+		for (int i = 0; i < inputs.length; i++) {
+			calendar.add(Calendar.MINUTE, 7919);
+			expected[i] = calendar.getTime();
+			inputs[i] = i % 2 == 0 ? fast.format(expected[i]) : exotic.format(expected[i]);
+			expected[i] = i % 2 == 0 ? fast.parse(inputs[i]) : exotic.parse(inputs[i]);
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+			for (int t = 0; t < 8; t++) {
+				results.add(executor.submit(new Callable<Boolean>() {
+					@Override
+					public Boolean call() {
+						for (int i = 0; i < inputs.length; i++) {
+							if (!expected[i].equals(conversion.execute(inputs[i]))) {
+								return false;
+							}
+						}
+						return true;
+					}
+				}));
+			}
+			for (Future<Boolean> result : results) {
+				assertTrue(result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testCalendarConversion() throws Exception {
+		Calendar calendar = new CalendarConversion("yyyy-MM-dd'T'HH:mm:ss").execute("2016-07-04T10:30:15");
+		assertEquals(calendar.getTime(), new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss").parse("2016-07-04T10:30:15"));
+	}
+
+	@Test
+	public void testNotRetainedByThreadsThatUsedIt() throws Exception {
+		DateConversion conversion = new DateConversion("yyyy-MM-dd", "dd MMM yyyy");
+		conversion.execute("2016-02-29");
+		conversion.execute("29 Feb 2016");
+		WeakReference<DateConversion> reference = new WeakReference<DateConversion>(conversion);
+		conversion = null;
+
+		for (int i = 0; i < 50 && reference.get() != null; i++) {
+			System.gc();
+			Thread.sleep(20);
+		}
+		assertNull(reference.get());
+	}
+}
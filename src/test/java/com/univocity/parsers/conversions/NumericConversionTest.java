@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.conversions;
+
+import org.testng.annotations.*;
+
+import java.math.*;
+import java.text.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class NumericConversionTest {
+
+	private static final String[] INPUTS = {"0", "100", "-100", "00012", "2.0", "2.50", "-0.50", "-0", "-0.000", ".5", "-.5", "5.",
+			"1,000", "1,000,", "1,2,3", ",5", "1,000.25", "1.000,5", "1.000.000", "12a", "1.5E3", "-", "$5.00", "50%",
+			"9223372036854775807", "9223372036854775808", "-9223372036854775808", "123456789012345678", "0.1234567890123456789",
+			"98765432109876543210.0123456789"};
+
+	private static final String[] PATTERNS = {"#0", "#,##0.00", "0.###", "$#,##0.00", "#0%"};
+
+	private Object expected(DecimalFormat formatter, String input) {
+		ParsePosition position = new ParsePosition(0);
+		Object out = formatter.parse(input, position);
+		if (out == null || position.getIndex() != input.length()) {
+			return "error";
+		}
+		return out;
+	}
+
+	private Object actual(NumericConversion<?> conversion, String input) {
+		try {
+			return conversion.execute(input);
+		} catch (Exception e) {
+			return "error";
+		}
+	}
+
+	@DataProvider
+	public Object[][] formats() {
+		List<Object[]> out = new ArrayList<Object[]>();
+		for (String pattern : PATTERNS) {
+			for (boolean bigDecimal : new boolean[]{false, true}) {
+				for (boolean customSymbols : new boolean[]{false, true}) {
+					out.add(new Object[]{pattern, bigDecimal, customSymbols});
+				}
+			}
+		}
+		return out.toArray(new Object[0][]);
+	}
+
+	private void configure(DecimalFormat formatter, boolean bigDecimal, boolean customSymbols) {
+		formatter.setParseBigDecimal(bigDecimal);
+		if (customSymbols) {
+			DecimalFormatSymbols symbols = formatter.getDecimalFormatSymbols();
+			symbols.setDecimalSeparator(',');
+			symbols.setGroupingSeparator('.');
+			formatter.setDecimalFormatSymbols(symbols);
+		}
+	}
+
+	@Test(dataProvider = "formats")
+	public void testSameResultAsDecimalFormat(String pattern, boolean bigDecimal, boolean customSymbols) {
+		DecimalFormat formatter = new DecimalFormat(pattern);
+		configure(formatter, bigDecimal, customSymbols);
+
+		NumericConversion<Number> conversion = Conversions.formatToNumber(pattern, "#0");
+		configure(conversion.getFormatterObjects()[0], bigDecimal, customSymbols);
+
+		for (String input : INPUTS) {
+			Object expected = expected(formatter, input);
+			if ("error".equals(expected)) {
+				expected = expected(conversion.getFormatterObjects()[1], input);
+			}
+			assertEquals(actual(conversion, input), expected, "Input '" + input + "'");
+		}
+	}
+
+	@Test
+	public void testRandomDecimals() {
+		DecimalFormat formatter = new DecimalFormat("#,##0.00");
+		NumericConversion<Number> conversion = Conversions.formatToNumber("#,##0.00");
+		Random random = new Random(7);
+		for (int i = 0; i < 10000; i++) {
+			String input = new DecimalFormat("#,##0.#########").format((random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(16)));
+			assertEquals(conversion.execute(input), expected(formatter, input), "Input '" + input + "'");
+		}
+	}
+
+	@Test
+	public void testBigDecimalConversion() {
+		FormattedBigDecimalConversion conversion = new FormattedBigDecimalConversion("#,##0.00");
+		assertEquals(conversion.execute("1,234,567.8900"), new BigDecimal("1234567.8900"));
+		assertEquals(conversion.execute("-0.10"), new BigDecimal("-0.10"));
+
+		NumericConversion<BigDecimal> toBigDecimal = Conversions.formatToNumber(BigDecimal.class, "#0");
+		toBigDecimal.setNumberType(BigDecimal.class);
+		assertEquals(toBigDecimal.execute("42"), new BigDecimal("42"));
+		assertEquals(toBigDecimal.execute("4.25"), new BigDecimal("4.25"));
+	}
+}
@@ -676,4 +676,46 @@ public class CsvParserTest extends ParserTestCase {
 		assertEquals(result[4], "'' ' ''");
 		assertEquals(result[5], "'''");
 	}
+
+	@Test
+	public void testParseNextReusingArray() {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		CsvParser parser = new CsvParser(settings);
+		parser.beginParsing(new StringReader("a,b,c\n1,2,3\nx,y\n4,5,6"));
+
+		String[] first = parser.parseNext(null);
+		assertEquals(first, new String[]{"a", "b", "c"});
+
+		String[] second = parser.parseNext(first);
+		assertSame(second, first);
+		assertEquals(second, new String[]{"1", "2", "3"});
+
+		String[] third = parser.parseNext(second);
+		assertNotSame(third, second);
+		assertEquals(third, new String[]{"x", "y"});
+
+		String[] last = parser.parseNext(second);
+		assertSame(last, second);
+		assertEquals(last, new String[]{"4", "5", "6"});
+
+		assertNull(parser.parseNext(last));
+	}
+
+	@Test
+	public void testParseNextReusingArrayWithSelectedFields() {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setHeaderExtractionEnabled(true);
+		settings.selectFields("c", "a");
+		CsvParser parser = new CsvParser(settings);
+		parser.beginParsing(new StringReader("a,b,c\n1,2,3\n4,5"));
+
+		String[] reuse = new String[2];
+		assertSame(parser.parseNext(reuse), reuse);
+		assertEquals(reuse, new String[]{"3", "1"});
+		assertSame(parser.parseNext(reuse), reuse);
+		assertEquals(reuse, new String[]{null, "4"});
+		assertNull(parser.parseNext(reuse));
+	}
 }
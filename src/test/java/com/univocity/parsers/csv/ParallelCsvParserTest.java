@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright 2016 uniVocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.csv;
+
+import com.univocity.parsers.common.*;
+import com.univocity.parsers.common.processor.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.testng.Assert.*;
+
+public class ParallelCsvParserTest {
+
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	private File createFile(boolean doubledQuotes) throws IOException {
+		File file = File.createTempFile("parallel", ".csv");
+		file.deleteOnExit();
+		Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), UTF_8));
+		try {
+			writer.write("id,name,description\r\n");
+			for (int i = 0; i < 20000; i++) {
+				writer.write(String.valueOf(i));
+				writer.write(",ação ");
+				writer.write(String.valueOf(i));
+				if (i % 3 == 0) {
+					writer.write(doubledQuotes ? ",\"multi\r\nline, \"\"quoted\"\"\r\nvalue\"\r\n" : ",\"multi\r\nline, \\\"quoted\\\"\r\nvalue\"\r\n");
+				} else {
+					writer.write(",plain value €\r\n");
+				}
+			}
+		} finally {
+			writer.close();
+		}
+		return file;
+	}
+
+	private CsvParserSettings newSettings(boolean doubledQuotes) {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\r\n");
+		settings.setHeaderExtractionEnabled(true);
+		if (!doubledQuotes) {
+			settings.getFormat().setQuoteEscape('\\');
+		}
+		return settings;
+	}
+
+	private List<String[]> parse(CsvParserSettings settings, File file, int threads) {
+		RowListProcessor processor = new RowListProcessor();
+		settings.setRowProcessor(processor);
+		new CsvParser(settings).parseParallel(file, UTF_8, threads);
+		assertEquals(processor.getHeaders(), new String[]{"id", "name", "description"});
+		return processor.getRows();
+	}
+
+	private void assertSameRows(List<String[]> actual, List<String[]> expected) {
+		assertEquals(actual.size(), expected.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(actual.get(i), expected.get(i), "row " + i);
+		}
+	}
+
+	@DataProvider
+	public Object[][] quoteEscaping() {
+		return new Object[][]{{true}, {false}};
+	}
+
+	@Test(dataProvider = "quoteEscaping")
+	public void testParallelParsingMatchesSequential(boolean doubledQuotes) throws Exception {
+		File file = createFile(doubledQuotes);
+		List<String[]> expected = new CsvParser(newSettings(doubledQuotes)).parseAll(file, UTF_8);
+		assertEquals(expected.size(), 20000);
+		assertEquals(expected.get(0), new String[]{"0", "ação 0", "multi\nline, \"quoted\"\nvalue"});
+
+		assertSameRows(parse(newSettings(doubledQuotes), file, 4), expected);
+		assertSameRows(parse(newSettings(doubledQuotes), file, 1), expected);
+	}
+
+	@Test(dataProvider = "quoteEscaping")
+	public void testSplitAtRecordBoundaries(boolean doubledQuotes) throws Exception {
+		File file = createFile(doubledQuotes);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			long[] boundaries = new CsvInputSplitter('"', doubledQuotes ? '"' : '\\', '\n').split(file, 100 * 1024, executor);
+			assertTrue(boundaries.length > 3);
+			assertEquals(boundaries[0], 0L);
+			assertEquals(boundaries[boundaries.length - 1], file.length());
+
+			byte[] bytes = new byte[(int) file.length()];
+			DataInputStream in = new DataInputStream(new FileInputStream(file));
+			try {
+				in.readFully(bytes);
+			} finally {
+				in.close();
+			}
+			for (int i = 1; i < boundaries.length - 1; i++) {
+				String next = new String(bytes, (int) boundaries[i], 16, UTF_8);
+				assertTrue(Character.isDigit(next.charAt(0)) && next.contains(",ação "), next);
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testUnorderedParallelParsing() throws Exception {
+		File file = createFile(true);
+		List<String[]> expected = new CsvParser(newSettings(true)).parseAll(file, UTF_8);
+
+		CsvParserSettings settings = newSettings(true);
+		settings.setParallelRecordOrderingEnabled(false);
+		List<String[]> rows = parse(settings, file, 4);
+
+		Collections.sort(rows, new Comparator<String[]>() {
+			@Override
+			public int compare(String[] o1, String[] o2) {
+				return Integer.valueOf(o1[0]).compareTo(Integer.valueOf(o2[0]));
+			}
+		});
+		assertSameRows(rows, expected);
+	}
+
+	@Test
+	public void testParallelParsingWithSelectionAndLimit() throws Exception {
+		File file = createFile(true);
+
+		CsvParserSettings settings = newSettings(true);
+		settings.selectFields("description", "id");
+		settings.setNumberOfRecordsToRead(15000);
+		RowListProcessor processor = new RowListProcessor();
+		settings.setRowProcessor(processor);
+		new CsvParser(settings).parseParallel(file, "UTF-8", 3);
+
+		List<String[]> rows = processor.getRows();
+		assertEquals(rows.size(), 15000);
+		assertEquals(rows.get(14999), new String[]{"plain value €", "14999"});
+		assertEquals(rows.get(3), new String[]{"multi\nline, \"quoted\"\nvalue", "3"});
+	}
+
+	@Test
+	public void testParserReusedByEachThread() throws Exception {
+		File file = File.createTempFile("parallel", ".csv");
+		file.deleteOnExit();
+		Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), UTF_8));
+		try {
+			writer.write("id,name,description\r\n");
+			for (int i = 0; i < 700000; i++) {
+				writer.write(i + ",name " + i + ",some plain value\r\n");
+			}
+		} finally {
+			writer.close();
+		}
+
+		final AtomicInteger parsersCreated = new AtomicInteger();
+		CsvParserSettings settings = newSettings(true);
+		RowListProcessor processor = new RowListProcessor();
+		settings.setRowProcessor(processor);
+		new CsvParser(settings) {
+			@Override
+			protected AbstractParser<CsvParserSettings> newParallelParser() {
+				parsersCreated.incrementAndGet();
+				return super.newParallelParser();
+			}
+		}.parseParallel(file, UTF_8, 2);
+
+		List<String[]> rows = processor.getRows();
+		assertEquals(rows.size(), 700000);
+		for (int i = 0; i < rows.size(); i += 1000) {
+			assertEquals(rows.get(i)[1], "name " + i);
+		}
+		assertEquals(parsersCreated.get(), 2);
+	}
+}